@@ -0,0 +1,277 @@
+package ca.nexapp.math.codecs;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import ca.nexapp.math.shapes.Rectangle;
+import ca.nexapp.math.units.Angle;
+import ca.nexapp.math.units.Coordinates;
+import ca.nexapp.math.units.CoordinatesArray;
+import ca.nexapp.math.units.DigitalStorage;
+import ca.nexapp.math.units.Duration;
+import ca.nexapp.math.units.Length;
+import ca.nexapp.math.units.LengthArray;
+import ca.nexapp.math.units.Point;
+
+/**
+ * Reads and writes values at the position of a {@link ByteBuffer}. Fixed-width values follow the byte order of the buffer;
+ * variable-length values are little-endian base-128 varints, zigzag-encoded when they can be negative. Batches start with their
+ * count as a varint; sorted or slowly varying batches (durations, storages, coordinates) store the deltas between neighbours.
+ */
+public class BinaryCodec {
+
+    public static final int ANGLE_SIZE = Double.BYTES;
+    public static final int LENGTH_SIZE = Double.BYTES;
+    public static final int DURATION_SIZE = Long.BYTES;
+    public static final int DIGITAL_STORAGE_SIZE = Long.BYTES;
+    public static final int POINT_SIZE = 2 * Double.BYTES;
+    public static final int COORDINATES_SIZE = 2 * Double.BYTES;
+    public static final int COORDINATES_E7_SIZE = 2 * Integer.BYTES;
+    public static final int RECTANGLE_SIZE = 4 * Double.BYTES;
+    public static final int MAX_VARLONG_SIZE = 10;
+
+    private static final double E7 = 10_000_000.0;
+
+    private BinaryCodec() {
+    }
+
+    public static void writeAngle(ByteBuffer buffer, Angle angle) {
+        buffer.putDouble(angle.toDegrees());
+    }
+
+    public static Angle readAngle(ByteBuffer buffer) {
+        return Angle.fromDegrees(buffer.getDouble());
+    }
+
+    public static void writeLength(ByteBuffer buffer, Length length) {
+        buffer.putDouble(length.toMeters());
+    }
+
+    public static Length readLength(ByteBuffer buffer) {
+        return Length.fromMeters(buffer.getDouble());
+    }
+
+    public static void writeDuration(ByteBuffer buffer, Duration duration) {
+        buffer.putLong(duration.toNanoseconds());
+    }
+
+    public static Duration readDuration(ByteBuffer buffer) {
+        return Duration.nanoseconds(buffer.getLong());
+    }
+
+    public static void writeVarDuration(ByteBuffer buffer, Duration duration) {
+        writeVarLong(buffer, zigZag(duration.toNanoseconds()));
+    }
+
+    public static Duration readVarDuration(ByteBuffer buffer) {
+        return Duration.nanoseconds(unZigZag(readVarLong(buffer)));
+    }
+
+    public static void writeDigitalStorage(ByteBuffer buffer, DigitalStorage storage) {
+        buffer.putLong(storage.toBits());
+    }
+
+    public static DigitalStorage readDigitalStorage(ByteBuffer buffer) {
+        return DigitalStorage.bits(buffer.getLong());
+    }
+
+    public static void writeVarDigitalStorage(ByteBuffer buffer, DigitalStorage storage) {
+        writeVarLong(buffer, zigZag(storage.toBits()));
+    }
+
+    public static DigitalStorage readVarDigitalStorage(ByteBuffer buffer) {
+        return DigitalStorage.bits(unZigZag(readVarLong(buffer)));
+    }
+
+    public static void writePoint(ByteBuffer buffer, Point point) {
+        buffer.putDouble(point.getX()).putDouble(point.getY());
+    }
+
+    public static Point readPoint(ByteBuffer buffer) {
+        double x = buffer.getDouble();
+        return Point.fromCartesian(x, buffer.getDouble());
+    }
+
+    public static void writeCoordinates(ByteBuffer buffer, Coordinates coordinates) {
+        buffer.putDouble(coordinates.getLatitude().toDegrees()).putDouble(coordinates.getLongitude().toDegrees());
+    }
+
+    public static Coordinates readCoordinates(ByteBuffer buffer) {
+        double latitude = buffer.getDouble();
+        return Coordinates.locatedAt(latitude, buffer.getDouble());
+    }
+
+    public static void writeCoordinatesE7(ByteBuffer buffer, Coordinates coordinates) {
+        buffer.putInt(toE7(coordinates.getLatitude().toDegrees())).putInt(toE7(coordinates.getLongitude().toDegrees()));
+    }
+
+    public static Coordinates readCoordinatesE7(ByteBuffer buffer) {
+        double latitude = buffer.getInt() / E7;
+        return Coordinates.locatedAt(latitude, buffer.getInt() / E7);
+    }
+
+    public static void writeRectangle(ByteBuffer buffer, Rectangle rectangle) {
+        buffer.putDouble(rectangle.getX1()).putDouble(rectangle.getY1()).putDouble(rectangle.getX2()).putDouble(rectangle.getY2());
+    }
+
+    public static Rectangle readRectangle(ByteBuffer buffer) {
+        double x1 = buffer.getDouble();
+        double y1 = buffer.getDouble();
+        double x2 = buffer.getDouble();
+        return Rectangle.fromCorners(x1, y1, x2, buffer.getDouble());
+    }
+
+    public static void writePoints(ByteBuffer buffer, List<Point> points) {
+        writeCount(buffer, points.size());
+        for (Point point : points) {
+            writePoint(buffer, point);
+        }
+    }
+
+    public static List<Point> readPoints(ByteBuffer buffer) {
+        int count = readCount(buffer, POINT_SIZE);
+        List<Point> points = new ArrayList<>(count);
+        for (int i = 0; i < count; ++i) {
+            points.add(readPoint(buffer));
+        }
+        return points;
+    }
+
+    public static void writeRectangles(ByteBuffer buffer, List<Rectangle> rectangles) {
+        writeCount(buffer, rectangles.size());
+        for (Rectangle rectangle : rectangles) {
+            writeRectangle(buffer, rectangle);
+        }
+    }
+
+    public static List<Rectangle> readRectangles(ByteBuffer buffer) {
+        int count = readCount(buffer, RECTANGLE_SIZE);
+        List<Rectangle> rectangles = new ArrayList<>(count);
+        for (int i = 0; i < count; ++i) {
+            rectangles.add(readRectangle(buffer));
+        }
+        return rectangles;
+    }
+
+    public static void writeLengths(ByteBuffer buffer, LengthArray lengths) {
+        writeCount(buffer, lengths.size());
+        for (int i = 0; i < lengths.size(); ++i) {
+            buffer.putDouble(lengths.getMeters(i));
+        }
+    }
+
+    public static LengthArray readLengths(ByteBuffer buffer) {
+        LengthArray lengths = LengthArray.ofSize(readCount(buffer, LENGTH_SIZE));
+        for (int i = 0; i < lengths.size(); ++i) {
+            lengths.setMeters(i, buffer.getDouble());
+        }
+        return lengths;
+    }
+
+    public static void writeDurations(ByteBuffer buffer, long[] nanoseconds) {
+        writeDeltas(buffer, nanoseconds);
+    }
+
+    public static long[] readDurations(ByteBuffer buffer) {
+        return readDeltas(buffer);
+    }
+
+    public static void writeDigitalStorages(ByteBuffer buffer, long[] bits) {
+        writeDeltas(buffer, bits);
+    }
+
+    public static long[] readDigitalStorages(ByteBuffer buffer) {
+        return readDeltas(buffer);
+    }
+
+    public static void writeCoordinatesArray(ByteBuffer buffer, CoordinatesArray coordinates) {
+        writeCount(buffer, coordinates.size());
+        int previousLatitude = 0;
+        int previousLongitude = 0;
+        for (int i = 0; i < coordinates.size(); ++i) {
+            int latitude = coordinates.getLatitudeE7(i);
+            int longitude = coordinates.getLongitudeE7(i);
+            writeVarLong(buffer, zigZag((long) latitude - previousLatitude));
+            writeVarLong(buffer, zigZag((long) longitude - previousLongitude));
+            previousLatitude = latitude;
+            previousLongitude = longitude;
+        }
+    }
+
+    public static CoordinatesArray readCoordinatesArray(ByteBuffer buffer) {
+        CoordinatesArray coordinates = CoordinatesArray.ofSize(readCount(buffer, 2));
+        int latitude = 0;
+        int longitude = 0;
+        for (int i = 0; i < coordinates.size(); ++i) {
+            latitude += (int) unZigZag(readVarLong(buffer));
+            longitude += (int) unZigZag(readVarLong(buffer));
+            coordinates.setE7(i, latitude, longitude);
+        }
+        return coordinates;
+    }
+
+    public static void writeVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    public static long readVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed variable-length number");
+    }
+
+    public static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    public static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeDeltas(ByteBuffer buffer, long[] values) {
+        writeCount(buffer, values.length);
+        long previous = 0;
+        for (long value : values) {
+            writeVarLong(buffer, zigZag(value - previous));
+            previous = value;
+        }
+    }
+
+    private static long[] readDeltas(ByteBuffer buffer) {
+        long[] values = new long[readCount(buffer, 1)];
+        long previous = 0;
+        for (int i = 0; i < values.length; ++i) {
+            previous += unZigZag(readVarLong(buffer));
+            values[i] = previous;
+        }
+        return values;
+    }
+
+    private static void writeCount(ByteBuffer buffer, int count) {
+        writeVarLong(buffer, count);
+    }
+
+    private static int readCount(ByteBuffer buffer, int minimumSizeOfEach) {
+        long count = readVarLong(buffer);
+        if (count < 0 || count > buffer.remaining() / minimumSizeOfEach) {
+            throw new BufferUnderflowException();
+        }
+        return (int) count;
+    }
+
+    private static int toE7(double degrees) {
+        return (int) Math.round(degrees * E7);
+    }
+}
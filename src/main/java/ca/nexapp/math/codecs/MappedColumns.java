@@ -0,0 +1,172 @@
+package ca.nexapp.math.codecs;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * File of double columns mapped in memory. A 64-byte header is followed by segments of a fixed number of records; each segment
+ * stores its columns one after the other, so that a column is contiguous within a segment and appending never moves data.
+ * Values are little-endian. Instances are not thread-safe: a single thread may append while no other thread reads.
+ */
+abstract class MappedColumns implements Closeable {
+
+    static final int DEFAULT_SEGMENT_SHIFT = 20;
+    static final int MAX_SEGMENT_SHIFT = 24;
+
+    private static final int MAGIC = 0x4E584743; // "NXGC"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int SIZE_POSITION = 16;
+
+    private final FileChannel channel;
+    private final MapMode mode;
+    private final MappedByteBuffer header;
+    private final int columns;
+    private final int segmentShift;
+    private final int segmentMask;
+    private final long segmentSize;
+    private MappedByteBuffer[] segments;
+    private int size;
+
+    MappedColumns(Path path, int columns, boolean create, boolean readOnly, int segmentShift) throws IOException {
+        this.mode = readOnly ? MapMode.READ_ONLY : MapMode.READ_WRITE;
+        this.columns = columns;
+        if (create) {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        } else if (readOnly) {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+        } else {
+            channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+
+        try {
+            if (create) {
+                header = map(0, HEADER_SIZE);
+                header.putInt(0, MAGIC).putInt(4, VERSION).putInt(8, columns).putInt(12, segmentShift).putLong(SIZE_POSITION, 0L);
+            } else {
+                if (channel.size() < HEADER_SIZE) {
+                    throw new IOException(path + " is not a column file");
+                }
+                header = map(0, HEADER_SIZE);
+                if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+                    throw new IOException(path + " is not a column file");
+                }
+                if (header.getInt(8) != columns) {
+                    throw new IOException(path + " holds " + header.getInt(8) + " columns instead of " + columns);
+                }
+                segmentShift = header.getInt(12);
+            }
+
+            if (segmentShift < 1 || segmentShift > MAX_SEGMENT_SHIFT) {
+                throw new IOException(path + " has invalid segments of 2^" + segmentShift + " records");
+            }
+            this.segmentShift = segmentShift;
+            segmentMask = (1 << segmentShift) - 1;
+            segmentSize = (long) columns * Double.BYTES << segmentShift;
+            long storedSize = header.getLong(SIZE_POSITION);
+            if (storedSize < 0 || storedSize > Integer.MAX_VALUE
+                    || HEADER_SIZE + segmentCount(storedSize) * segmentSize > channel.size()) {
+                throw new IOException(path + " is truncated or corrupted");
+            }
+            size = (int) storedSize;
+            segments = new MappedByteBuffer[Math.max(1, segmentCount(size))];
+            for (int i = 0; i < segmentCount(size); ++i) {
+                segments[i] = mapSegment(i);
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void force() {
+        if (mode == MapMode.READ_WRITE) {
+            for (int i = 0; i < segmentCount(size); ++i) {
+                segments[i].force();
+            }
+            header.force();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    final double get(int column, int index) {
+        checkIndex(index);
+        return segments[index >>> segmentShift].getDouble(offset(column, index));
+    }
+
+    // Returns the index of the appended record, whose columns must then be written with set()
+    final int appendRecord() throws IOException {
+        if (mode == MapMode.READ_ONLY) {
+            throw new IllegalStateException("Cannot append to a read-only file");
+        }
+        if (size == Integer.MAX_VALUE) {
+            throw new IllegalStateException("The file is full");
+        }
+        int index = size;
+        int segment = index >>> segmentShift;
+        if ((index & segmentMask) == 0) {
+            if (segment == segments.length) {
+                segments = Arrays.copyOf(segments, segments.length * 2);
+            }
+            segments[segment] = mapSegment(segment);
+        }
+        return index;
+    }
+
+    final void set(int column, int index, double value) {
+        segments[index >>> segmentShift].putDouble(offset(column, index), value);
+    }
+
+    final void commitRecord() {
+        header.putLong(SIZE_POSITION, ++size);
+    }
+
+    final void checkOutputLength(int length) {
+        if (length < size) {
+            throw new IllegalArgumentException("The output array must hold at least " + size + " values");
+        }
+    }
+
+    final double valueAt(int column, int index) {
+        return segments[index >>> segmentShift].getDouble(offset(column, index));
+    }
+
+    private int offset(int column, int index) {
+        return (column << segmentShift | (index & segmentMask)) * Double.BYTES;
+    }
+
+    private MappedByteBuffer mapSegment(int segment) throws IOException {
+        return map(HEADER_SIZE + segment * segmentSize, segmentSize);
+    }
+
+    private MappedByteBuffer map(long position, long length) throws IOException {
+        MappedByteBuffer buffer = channel.map(mode, position, length);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        return buffer;
+    }
+
+    private int segmentCount(long records) {
+        return (int) ((records + segmentMask) >>> segmentShift);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of " + size + " records");
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package ca.nexapp.math.codecs;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+import ca.nexapp.math.shapes.Rectangle;
+import ca.nexapp.math.units.Point;
+
+/**
+ * Points stored as x and y columns in a memory-mapped file, little-endian, in segments of 2^20 records. Opening a file maps it
+ * without reading it, so the points are paged in on demand and may outgrow the heap.
+ */
+public class MappedPointFile extends MappedColumns {
+
+    private static final int X = 0;
+    private static final int Y = 1;
+
+    private MappedPointFile(Path path, boolean create, boolean readOnly, int segmentShift) throws IOException {
+        super(path, 2, create, readOnly, segmentShift);
+    }
+
+    public double getX(int index) {
+        return get(X, index);
+    }
+
+    public double getY(int index) {
+        return get(Y, index);
+    }
+
+    public Point get(int index) {
+        return Point.fromCartesian(getX(index), getY(index));
+    }
+
+    public List<Point> asList() {
+        return new PointList();
+    }
+
+    public int append(Point point) throws IOException {
+        return append(point.getX(), point.getY());
+    }
+
+    public int append(double x, double y) throws IOException {
+        int index = appendRecord();
+        set(X, index, x);
+        set(Y, index, y);
+        commitRecord();
+        return index;
+    }
+
+    public void distancesTo(Point origin, double[] distances) {
+        checkOutputLength(distances.length);
+        for (int i = 0; i < size(); ++i) {
+            distances[i] = Math.hypot(valueAt(X, i) - origin.getX(), valueAt(Y, i) - origin.getY());
+        }
+    }
+
+    public int[] findInside(Rectangle area) {
+        int[] matches = new int[16];
+        int count = 0;
+        for (int i = 0; i < size(); ++i) {
+            double x = valueAt(X, i);
+            double y = valueAt(Y, i);
+            if (x >= area.getX1() && x <= area.getX2() && y <= area.getY1() && y >= area.getY2()) {
+                if (count == matches.length) {
+                    matches = Arrays.copyOf(matches, count * 2);
+                }
+                matches[count++] = i;
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    public static MappedPointFile create(Path path) throws IOException {
+        return new MappedPointFile(path, true, false, DEFAULT_SEGMENT_SHIFT);
+    }
+
+    static MappedPointFile create(Path path, int segmentShift) throws IOException {
+        return new MappedPointFile(path, true, false, segmentShift);
+    }
+
+    public static MappedPointFile open(Path path) throws IOException {
+        return new MappedPointFile(path, false, false, DEFAULT_SEGMENT_SHIFT);
+    }
+
+    public static MappedPointFile openReadOnly(Path path) throws IOException {
+        return new MappedPointFile(path, false, true, DEFAULT_SEGMENT_SHIFT);
+    }
+
+    private class PointList extends AbstractList<Point> implements RandomAccess {
+
+        @Override
+        public Point get(int index) {
+            return MappedPointFile.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return MappedPointFile.this.size();
+        }
+    }
+}
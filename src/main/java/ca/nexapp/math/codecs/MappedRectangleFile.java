@@ -0,0 +1,110 @@
+package ca.nexapp.math.codecs;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+import ca.nexapp.math.shapes.Rectangle;
+
+/**
+ * Rectangles stored as x1, y1, x2 and y2 columns in a memory-mapped file, little-endian, in segments of 2^20 records. Opening a
+ * file maps it without reading it, so the rectangles are paged in on demand and may outgrow the heap.
+ */
+public class MappedRectangleFile extends MappedColumns {
+
+    private static final int X1 = 0;
+    private static final int Y1 = 1;
+    private static final int X2 = 2;
+    private static final int Y2 = 3;
+
+    private MappedRectangleFile(Path path, boolean create, boolean readOnly, int segmentShift) throws IOException {
+        super(path, 4, create, readOnly, segmentShift);
+    }
+
+    public double getX1(int index) {
+        return get(X1, index);
+    }
+
+    public double getY1(int index) {
+        return get(Y1, index);
+    }
+
+    public double getX2(int index) {
+        return get(X2, index);
+    }
+
+    public double getY2(int index) {
+        return get(Y2, index);
+    }
+
+    public Rectangle get(int index) {
+        return Rectangle.fromCorners(getX1(index), getY1(index), getX2(index), getY2(index));
+    }
+
+    public List<Rectangle> asList() {
+        return new RectangleList();
+    }
+
+    public int append(Rectangle rectangle) throws IOException {
+        return append(rectangle.getX1(), rectangle.getY1(), rectangle.getX2(), rectangle.getY2());
+    }
+
+    public int append(double x1, double y1, double x2, double y2) throws IOException {
+        int index = appendRecord();
+        set(X1, index, x1);
+        set(Y1, index, y1);
+        set(X2, index, x2);
+        set(Y2, index, y2);
+        commitRecord();
+        return index;
+    }
+
+    // Same test as Rectangle.isIntersecting, without creating the rectangles
+    public int[] findIntersecting(Rectangle area) {
+        int[] matches = new int[16];
+        int count = 0;
+        for (int i = 0; i < size(); ++i) {
+            boolean separated = valueAt(X2, i) < area.getX1() || valueAt(X1, i) > area.getX2() || valueAt(Y2, i) > area.getY1()
+                    || valueAt(Y1, i) < area.getY2();
+            if (!separated) {
+                if (count == matches.length) {
+                    matches = Arrays.copyOf(matches, count * 2);
+                }
+                matches[count++] = i;
+            }
+        }
+        return Arrays.copyOf(matches, count);
+    }
+
+    public static MappedRectangleFile create(Path path) throws IOException {
+        return new MappedRectangleFile(path, true, false, DEFAULT_SEGMENT_SHIFT);
+    }
+
+    static MappedRectangleFile create(Path path, int segmentShift) throws IOException {
+        return new MappedRectangleFile(path, true, false, segmentShift);
+    }
+
+    public static MappedRectangleFile open(Path path) throws IOException {
+        return new MappedRectangleFile(path, false, false, DEFAULT_SEGMENT_SHIFT);
+    }
+
+    public static MappedRectangleFile openReadOnly(Path path) throws IOException {
+        return new MappedRectangleFile(path, false, true, DEFAULT_SEGMENT_SHIFT);
+    }
+
+    private class RectangleList extends AbstractList<Rectangle> implements RandomAccess {
+
+        @Override
+        public Rectangle get(int index) {
+            return MappedRectangleFile.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return MappedRectangleFile.this.size();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package ca.nexapp.math.events;
+
+public interface BulkOperation extends AutoCloseable {
+
+    BulkOperation NONE = () -> {
+    };
+
+    @Override
+    void close();
+}
@@ -0,0 +1,6 @@
+package ca.nexapp.math.events;
+
+interface BulkOperationRecorder {
+
+    BulkOperation begin(String operation, long elements);
+}
@@ -0,0 +1,32 @@
+package ca.nexapp.math.events;
+
+/**
+ * Marks the bulk entry points of the library (batch solvers, spatial index builds and queries, distance computations) so that
+ * they show up in Java Flight Recorder recordings as {@value #EVENT_NAME} events with their element count, duration and the
+ * bytes allocated by the calling thread. The events are disabled by default: enable them in a JFR configuration or with
+ * {@code Recording.enable("ca.nexapp.math.BulkOperation")}. The multi-release JAR provides the JFR events on Java 17 and later;
+ * elsewhere, and whenever the events are disabled, {@link #begin} returns {@link BulkOperation#NONE}.
+ */
+public class BulkOperations {
+
+    public static final String EVENT_NAME = "ca.nexapp.math.BulkOperation";
+
+    private static final String JFR_RECORDER = "ca.nexapp.math.events.JfrBulkOperations";
+    private static final BulkOperationRecorder RECORDER = load();
+
+    private BulkOperations() {
+    }
+
+    public static BulkOperation begin(String operation, long elements) {
+        return RECORDER.begin(operation, elements);
+    }
+
+    private static BulkOperationRecorder load() {
+        try {
+            return (BulkOperationRecorder) Class.forName(JFR_RECORDER).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // Older JDK, or a runtime without the jdk.jfr module
+            return (operation, elements) -> BulkOperation.NONE;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package ca.nexapp.math.functions;
 
+import static java.lang.Math.abs;
 import static java.lang.Math.acos;
+import static java.lang.Math.cbrt;
 import static java.lang.Math.cos;
 import static java.lang.Math.pow;
 import static java.lang.Math.sin;
@@ -8,10 +10,11 @@ import static java.lang.Math.sqrt;
 
 import java.util.Objects;
 
-import org.apache.commons.math3.complex.Complex;
-
 public class CubicFunction {
 
+    // Relative to the terms of the discriminant, below which it is rounding noise of a multiple root
+    private static final double DISCRIMINANT_PRECISION = 1e-10;
+
     private final double a;
     private final double b;
     private final double c;
@@ -25,24 +28,35 @@ public class CubicFunction {
     }
 
     public double[] findRealRoots() {
+        SolverInstrumentation instrumentation = SolverInstrumentation.current();
+        long start = instrumentation.isEnabled() ? System.nanoTime() : 0L;
+
         // Solution found at: http://www.1728.org/cubic2.htm
         double f = (3.0 * c / a - pow(b, 2.0) / pow(a, 2.0)) / 3.0;
         double g = (2.0 * pow(b, 3.0) / pow(a, 3.0) - 9.0 * b * c / pow(a, 2.0) + 27.0 * d / a) / 27.0;
         double h = pow(g, 2.0) / 4.0 + pow(f, 3.0) / 27.0;
 
-        if (hasOneRealAndTwoComplexRoots(h)) {
-            double[] allRoots = findOneRealAndTwoComplexRoots(g, h);
-            return new double[] { allRoots[0] };
+        SolverBranch branch;
+        double[] roots;
+        if (hasOneRealAndTwoComplexRoots(f, g, h)) {
+            branch = SolverBranch.CUBIC_ONE_REAL_ROOT;
+            roots = new double[] { findOneRealAndTwoComplexRoots(g, h)[0] };
         } else if (hasThreeRealAndEqualsRoots(f, g, h)) {
-            double[] allRoots = findThreeRealAndEqualsRoots();
-            return new double[] { allRoots[0] };
+            branch = SolverBranch.CUBIC_TRIPLE_ROOT;
+            roots = new double[] { findThreeRealAndEqualsRoots()[0] };
         } else {
-            return findThreeRealAndDistinctRoots(g, h);
+            branch = SolverBranch.CUBIC_THREE_DISTINCT_ROOTS;
+            roots = findThreeRealAndDistinctRoots(g, h);
         }
+
+        if (instrumentation.isEnabled()) {
+            instrumentation.record(branch, System.nanoTime() - start);
+        }
+        return roots;
     }
 
-    private boolean hasOneRealAndTwoComplexRoots(double h) {
-        return h > 0.0;
+    private boolean hasOneRealAndTwoComplexRoots(double f, double g, double h) {
+        return h > DISCRIMINANT_PRECISION * (pow(g, 2.0) / 4.0 + abs(pow(f, 3.0)) / 27.0);
     }
 
     private boolean hasThreeRealAndEqualsRoots(double f, double g, double h) {
@@ -51,13 +65,9 @@ public class CubicFunction {
 
     private double[] findOneRealAndTwoComplexRoots(double g, double h) {
         double r = -(g / 2.0) + pow(h, 1.00 / 2.00);
-        double s = pow(r, 1.00 / 3.00);
+        double s = cbrt(r);
         double t = -(g / 2.0) - pow(h, 1.00 / 2.00);
-        double u = new Complex(t).pow(1.00 / 3.00).abs();
-
-        if (t < 0) {
-            u = u * -1;
-        }
+        double u = cbrt(t);
 
         double realRoot = s + u - b / (3.0 * a);
         double complexRoot = -(s + u) / 2.0 - b / (3.0 * a);
@@ -65,14 +75,16 @@ public class CubicFunction {
     }
 
     private double[] findThreeRealAndEqualsRoots() {
-        double root = pow(d / a, 1.00 / 3.00) * -1.0;
+        // pow is NaN for a negative base, whereas the inflection point is the root whatever its sign
+        double root = -b / (3.0 * a);
         return new double[] { root, root, root };
     }
 
     private double[] findThreeRealAndDistinctRoots(double g, double h) {
-        double i = pow(pow(g, 2.0) / 4.0 - h, 1.00 / 2.00);
+        // A discriminant within the rounding noise is a double root, whose cosine can round just beyond ±1
+        double i = pow(Math.max(0.0, pow(g, 2.0) / 4.0 - h), 1.00 / 2.00);
         double j = pow(i, 1.00 / 3.00);
-        double k = acos(-(g / (2.0 * i)));
+        double k = acos(Math.max(-1.0, Math.min(1.0, -(g / (2.0 * i)))));
         double l = j * -1.0;
         double m = cos(k / 3.0);
         double n = sqrt(3.0) * sin(k / 3.0);
@@ -0,0 +1,22 @@
+package ca.nexapp.math.functions;
+
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+class InstalledInstrumentation {
+
+    static final SolverInstrumentation INSTRUMENTATION = load();
+
+    private InstalledInstrumentation() {
+    }
+
+    private static SolverInstrumentation load() {
+        try {
+            Iterator<SolverInstrumentation> providers = ServiceLoader.load(SolverInstrumentation.class).iterator();
+            return providers.hasNext() ? providers.next() : SolverInstrumentation.NOOP;
+        } catch (ServiceConfigurationError e) {
+            return SolverInstrumentation.NOOP;
+        }
+    }
+}
@@ -12,6 +12,7 @@ import java.util.Set;
 public class QuarticFunction {
 
     private static final double NEAR_ZERO = 0.0000001;
+    private static final double DISCRIMINANT_PRECISION = 1e-10;
 
     private final double a;
     private final double b;
@@ -28,15 +29,32 @@ public class QuarticFunction {
     }
 
     public double[] findRealRoots() {
+        SolverInstrumentation instrumentation = SolverInstrumentation.current();
+        long start = instrumentation.isEnabled() ? System.nanoTime() : 0L;
+
+        SolverBranch branch;
+        double[] roots;
         if (abs(a) < NEAR_ZERO) {
-            return new CubicFunction(b, c, d, e).findRealRoots();
+            branch = SolverBranch.QUARTIC_CUBIC_FALLBACK;
+            roots = new CubicFunction(b, c, d, e).findRealRoots();
+        } else if (isBiquadratic()) {
+            branch = SolverBranch.QUARTIC_BIQUADRATIC;
+            roots = solveUsingBiquadraticMethod();
+        } else {
+            QuarticFunction depressed = toDepressed();
+            if (depressed.isBiquadratic()) {
+                branch = SolverBranch.QUARTIC_DEPRESSED_BIQUADRATIC;
+                roots = reconvertToOriginalRoots(depressed.solveUsingBiquadraticMethod());
+            } else {
+                branch = SolverBranch.QUARTIC_FERRARI;
+                roots = solveUsingFerrariMethodWikipedia(depressed);
+            }
         }
 
-        if (isBiquadratic()) {
-            return solveUsingBiquadraticMethod();
+        if (instrumentation.isEnabled()) {
+            instrumentation.record(branch, System.nanoTime() - start);
         }
-
-        return solveUsingFerrariMethodWikipedia();
+        return roots;
     }
 
     public boolean isBiquadratic() {
@@ -58,20 +76,14 @@ public class QuarticFunction {
         return roots.stream().mapToDouble(e -> e).toArray();
     }
 
-    private double[] solveUsingFerrariMethodWikipedia() {
+    private double[] solveUsingFerrariMethodWikipedia(QuarticFunction depressed) {
         // http://en.wikipedia.org/wiki/Quartic_function#Ferrari.27s_solution
-        QuarticFunction depressed = toDepressed();
-        if (depressed.isBiquadratic()) {
-            double[] depressedRoots = depressed.solveUsingBiquadraticMethod();
-            return reconvertToOriginalRoots(depressedRoots);
-        }
-
         double y = findFerraryY(depressed);
         double originalRootConversionPart = -b / (4.0 * a);
         double firstPart = sqrt(depressed.c + 2.0 * y);
 
-        double positiveSecondPart = sqrt(-(3.0 * depressed.c + 2.0 * y + 2.0 * depressed.d / sqrt(depressed.c + 2.0 * y)));
-        double negativeSecondPart = sqrt(-(3.0 * depressed.c + 2.0 * y - 2.0 * depressed.d / sqrt(depressed.c + 2.0 * y)));
+        double positiveSecondPart = sqrt(discriminant(-(3.0 * depressed.c + 2.0 * y), -(2.0 * depressed.d / firstPart)));
+        double negativeSecondPart = sqrt(discriminant(-(3.0 * depressed.c + 2.0 * y), 2.0 * depressed.d / firstPart));
 
         double x1 = originalRootConversionPart + (firstPart + positiveSecondPart) / 2.0;
         double x2 = originalRootConversionPart + (-firstPart + negativeSecondPart) / 2.0;
@@ -108,12 +120,33 @@ public class QuarticFunction {
         CubicFunction cubicFunction = new CubicFunction(a3, a2, a1, a0);
         double[] roots = cubicFunction.findRealRoots();
 
+        // The largest y keeps c + 2y positive, otherwise its square root hides the real roots
+        double largest = Double.NEGATIVE_INFINITY;
         for (double y : roots) {
-            if (depressedQuartic.c + 2.0 * y != 0.0) {
-                return y;
+            largest = Math.max(largest, y);
+        }
+
+        // Newton steps recover the digits lost by the cubic formula, which the square roots below would amplify. Near a double
+        // root the derivative vanishes and a step would jump away, so only the steps that get closer to zero are kept.
+        for (int i = 0; i < 2; ++i) {
+            double value = ((a3 * largest + a2) * largest + a1) * largest + a0;
+            double derivative = (3.0 * a3 * largest + 2.0 * a2) * largest + a1;
+            double polished = largest - value / derivative;
+            if (abs(((a3 * polished + a2) * polished + a1) * polished + a0) < abs(value)) {
+                largest = polished;
             }
         }
-        throw new IllegalStateException("Ferrari method should have at least one y");
+
+        if (!(depressedQuartic.c + 2.0 * largest > 0.0)) {
+            throw new IllegalStateException("Ferrari method should have at least one y");
+        }
+        return largest;
+    }
+
+    // A negative sum within the rounding noise of its terms is the zero of a double root
+    private double discriminant(double first, double second) {
+        double sum = first + second;
+        return sum < 0.0 && -sum <= DISCRIMINANT_PRECISION * (abs(first) + abs(second)) ? 0.0 : sum;
     }
 
     private Set<Double> findOnlyRealRoots(double... roots) {
@@ -128,7 +161,7 @@ public class QuarticFunction {
     }
 
     private double roundIfNearZero(double value) {
-        if (abs(value) < 0.01) {
+        if (abs(value) < NEAR_ZERO) {
             return round(value);
         }
         return value;
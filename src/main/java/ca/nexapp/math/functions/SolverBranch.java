@@ -0,0 +1,11 @@
+package ca.nexapp.math.functions;
+
+public enum SolverBranch {
+    QUARTIC_CUBIC_FALLBACK,
+    QUARTIC_BIQUADRATIC,
+    QUARTIC_DEPRESSED_BIQUADRATIC,
+    QUARTIC_FERRARI,
+    CUBIC_ONE_REAL_ROOT,
+    CUBIC_TRIPLE_ROOT,
+    CUBIC_THREE_DISTINCT_ROOTS
+}
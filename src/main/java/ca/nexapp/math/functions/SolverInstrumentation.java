@@ -0,0 +1,32 @@
+package ca.nexapp.math.functions;
+
+/**
+ * Observes which branch the root solvers take and how long they take. The instrumentation is chosen once, as the first
+ * provider found by {@link java.util.ServiceLoader} (a {@code META-INF/services/ca.nexapp.math.functions.SolverInstrumentation}
+ * file), and defaults to {@link #NOOP}. It is kept in a constant, so the JIT removes the timing entirely when it is disabled.
+ * Solvers that call other solvers (Ferrari's method solves a cubic) report both branches.
+ */
+public interface SolverInstrumentation {
+
+    SolverInstrumentation NOOP = new SolverInstrumentation() {
+
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public void record(SolverBranch branch, long elapsedNanoseconds) {
+        }
+    };
+
+    default boolean isEnabled() {
+        return true;
+    }
+
+    void record(SolverBranch branch, long elapsedNanoseconds);
+
+    static SolverInstrumentation current() {
+        return InstalledInstrumentation.INSTRUMENTATION;
+    }
+}
@@ -0,0 +1,148 @@
+package ca.nexapp.math.functions;
+
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Solver instrumentation counting each branch and its latency in power-of-two buckets, all in {@link LongAdder}s so that
+ * concurrent solvers do not contend. Enable it by naming this class in
+ * {@code META-INF/services/ca.nexapp.math.functions.SolverInstrumentation}, then reach it through
+ * {@link SolverInstrumentation#current()} or JMX once {@link #registerMBean()} was called.
+ */
+public class SolverStatistics implements SolverInstrumentation, SolverStatisticsMXBean {
+
+    public static final String OBJECT_NAME = "ca.nexapp.math:type=SolverStatistics";
+
+    private static final int BUCKETS = 64;
+
+    private final EnumMap<SolverBranch, LongAdder> counts = new EnumMap<>(SolverBranch.class);
+    private final EnumMap<SolverBranch, LongAdder> totalNanoseconds = new EnumMap<>(SolverBranch.class);
+    private final EnumMap<SolverBranch, LongAdder[]> latencyBuckets = new EnumMap<>(SolverBranch.class);
+
+    public SolverStatistics() {
+        for (SolverBranch branch : SolverBranch.values()) {
+            counts.put(branch, new LongAdder());
+            totalNanoseconds.put(branch, new LongAdder());
+            LongAdder[] buckets = new LongAdder[BUCKETS];
+            for (int i = 0; i < BUCKETS; ++i) {
+                buckets[i] = new LongAdder();
+            }
+            latencyBuckets.put(branch, buckets);
+        }
+    }
+
+    @Override
+    public void record(SolverBranch branch, long elapsedNanoseconds) {
+        long nanoseconds = Math.max(0L, elapsedNanoseconds);
+        counts.get(branch).increment();
+        totalNanoseconds.get(branch).add(nanoseconds);
+        latencyBuckets.get(branch)[bucketOf(nanoseconds)].increment();
+    }
+
+    public long getCount(SolverBranch branch) {
+        return counts.get(branch).sum();
+    }
+
+    public double getMeanLatencyInNanoseconds(SolverBranch branch) {
+        long count = getCount(branch);
+        return count == 0 ? 0.0 : (double) totalNanoseconds.get(branch).sum() / count;
+    }
+
+    // Upper bound of the power-of-two bucket holding the percentile, so at most twice the actual latency
+    public long getLatencyAtPercentileInNanoseconds(SolverBranch branch, double percentile) {
+        if (!(percentile >= 0.0 && percentile <= 100.0)) {
+            throw new IllegalArgumentException("The percentile must be between 0 and 100");
+        }
+
+        LongAdder[] buckets = latencyBuckets.get(branch);
+        long[] snapshot = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; ++i) {
+            snapshot[i] = buckets[i].sum();
+            count += snapshot[i];
+        }
+        if (count == 0) {
+            return 0L;
+        }
+
+        long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; ++i) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return upperBoundOf(i);
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public Map<String, Long> getCounts() {
+        Map<String, Long> values = new LinkedHashMap<>();
+        for (SolverBranch branch : SolverBranch.values()) {
+            values.put(branch.name(), getCount(branch));
+        }
+        return values;
+    }
+
+    @Override
+    public Map<String, Double> getMeanLatenciesInNanoseconds() {
+        Map<String, Double> values = new LinkedHashMap<>();
+        for (SolverBranch branch : SolverBranch.values()) {
+            values.put(branch.name(), getMeanLatencyInNanoseconds(branch));
+        }
+        return values;
+    }
+
+    @Override
+    public Map<String, Long> getP99LatenciesInNanoseconds() {
+        Map<String, Long> values = new LinkedHashMap<>();
+        for (SolverBranch branch : SolverBranch.values()) {
+            values.put(branch.name(), getLatencyAtPercentileInNanoseconds(branch, 99.0));
+        }
+        return values;
+    }
+
+    @Override
+    public void reset() {
+        for (SolverBranch branch : SolverBranch.values()) {
+            counts.get(branch).reset();
+            totalNanoseconds.get(branch).reset();
+            for (LongAdder bucket : latencyBuckets.get(branch)) {
+                bucket.reset();
+            }
+        }
+    }
+
+    public ObjectName registerMBean() {
+        return registerMBean(ManagementFactory.getPlatformMBeanServer());
+    }
+
+    public ObjectName registerMBean(MBeanServer server) {
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(this, name);
+            return name;
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register the solver statistics in JMX", e);
+        }
+    }
+
+    private static int bucketOf(long nanoseconds) {
+        return BUCKETS - 1 - Long.numberOfLeadingZeros(nanoseconds | 1L);
+    }
+
+    private static long upperBoundOf(int bucket) {
+        return bucket == BUCKETS - 1 ? Long.MAX_VALUE : (1L << (bucket + 1)) - 1;
+    }
+}
@@ -0,0 +1,14 @@
+package ca.nexapp.math.functions;
+
+import java.util.Map;
+
+public interface SolverStatisticsMXBean {
+
+    Map<String, Long> getCounts();
+
+    Map<String, Double> getMeanLatenciesInNanoseconds();
+
+    Map<String, Long> getP99LatenciesInNanoseconds();
+
+    void reset();
+}
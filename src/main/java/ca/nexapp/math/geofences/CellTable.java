@@ -0,0 +1,44 @@
+package ca.nexapp.math.geofences;
+
+import java.util.List;
+import java.util.Map;
+
+class CellTable {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final long[] keys;
+    private final int[][] values;
+    private final int mask;
+
+    CellTable(Map<Long, List<Integer>> cells) {
+        int capacity = Integer.highestOneBit(Math.max(2, cells.size() * 2 - 1)) << 1;
+        keys = new long[capacity];
+        values = new int[capacity][];
+        mask = capacity - 1;
+
+        for (Map.Entry<Long, List<Integer>> cell : cells.entrySet()) {
+            int slot = findSlot(cell.getKey());
+            keys[slot] = cell.getKey();
+            values[slot] = cell.getValue().stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    int[] get(long key) {
+        int[] value = values[findSlot(key)];
+        return value == null ? EMPTY : value;
+    }
+
+    private int findSlot(long key) {
+        int slot = mix(key) & mask;
+        while (values[slot] != null && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,58 @@
+package ca.nexapp.math.geofences;
+
+import java.util.Objects;
+
+import ca.nexapp.math.units.Coordinates;
+import ca.nexapp.math.units.Length;
+
+public class Geofence {
+
+    private final String id;
+    private final Coordinates center;
+    private final Length radius;
+
+    private Geofence(String id, Coordinates center, Length radius) {
+        this.id = id;
+        this.center = center;
+        this.radius = radius;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Coordinates getCenter() {
+        return center;
+    }
+
+    public Length getRadius() {
+        return radius;
+    }
+
+    public static Geofence centeredAt(String id, Coordinates center, Length radius) {
+        if (radius.toMeters() < 0.0) {
+            throw new IllegalArgumentException("A geofence cannot have a negative radius");
+        }
+        return new Geofence(id, center, radius);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, center, radius);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof Geofence)) {
+            return false;
+        }
+
+        Geofence other = (Geofence) obj;
+        return Objects.equals(id, other.id) && Objects.equals(center, other.center) && Objects.equals(radius, other.radius);
+    }
+
+    @Override
+    public String toString() {
+        return id + " (" + center + " ± " + radius + ")";
+    }
+}
@@ -0,0 +1,183 @@
+package ca.nexapp.math.geofences;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import ca.nexapp.math.events.BulkOperation;
+import ca.nexapp.math.events.BulkOperations;
+import ca.nexapp.math.units.Coordinates;
+
+public class GeofenceEngine {
+
+    public static final int DEFAULT_MAX_FENCES_PER_ENTITY = 64;
+
+    private final GeofenceIndex index;
+    private final GeofenceListener listener;
+    private final int maxFencesPerEntity;
+    private final ConcurrentMap<String, EntityState> entities = new ConcurrentHashMap<>();
+    private final ThreadLocal<Scratch> scratches;
+
+    public GeofenceEngine(GeofenceIndex index, GeofenceListener listener) {
+        this(index, listener, DEFAULT_MAX_FENCES_PER_ENTITY);
+    }
+
+    public GeofenceEngine(GeofenceIndex index, GeofenceListener listener, int maxFencesPerEntity) {
+        if (maxFencesPerEntity <= 0) {
+            throw new IllegalArgumentException("An entity must be allowed to be in at least one geofence");
+        }
+        this.index = index;
+        this.listener = listener;
+        this.maxFencesPerEntity = maxFencesPerEntity;
+        scratches = ThreadLocal.withInitial(() -> new Scratch(maxFencesPerEntity));
+    }
+
+    public void update(String entityId, Coordinates location) {
+        Scratch scratch = scratches.get();
+        if (scratch.inUse) {
+            // A listener updating the engine from its callback gets a buffer of its own
+            evaluate(entityId, location, new int[maxFencesPerEntity]);
+            return;
+        }
+
+        scratch.inUse = true;
+        try {
+            evaluate(entityId, location, scratch.matches);
+        } finally {
+            scratch.inUse = false;
+        }
+    }
+
+    public void process(List<PositionUpdate> updates) {
+        process(updates, ForkJoinPool.commonPool(), ForkJoinPool.getCommonPoolParallelism());
+    }
+
+    public void process(List<PositionUpdate> updates, Executor executor, int workers) {
+        try (BulkOperation operation = BulkOperations.begin("GeofenceEngine.process", updates.size())) {
+            if (workers <= 1 || updates.size() < workers) {
+                for (PositionUpdate update : updates) {
+                    update(update.getEntityId(), update.getLocation());
+                }
+                return;
+            }
+
+            // Every update of an entity goes to the same worker so its transitions stay in order. The batch is partitioned once,
+            // by a stable counting sort, so each worker only goes through its own slice.
+            int[] workerOf = new int[updates.size()];
+            int[] starts = new int[workers + 1];
+            int position = 0;
+            for (PositionUpdate update : updates) {
+                int worker = Math.floorMod(update.getEntityId().hashCode(), workers);
+                workerOf[position++] = worker;
+                starts[worker + 1]++;
+            }
+            for (int worker = 0; worker < workers; ++worker) {
+                starts[worker + 1] += starts[worker];
+            }
+
+            PositionUpdate[] slices = new PositionUpdate[updates.size()];
+            int[] ends = Arrays.copyOf(starts, workers);
+            position = 0;
+            for (PositionUpdate update : updates) {
+                slices[ends[workerOf[position++]]++] = update;
+            }
+
+            CompletableFuture<?>[] partitions = new CompletableFuture<?>[workers];
+            for (int worker = 0; worker < workers; ++worker) {
+                int start = starts[worker];
+                int end = starts[worker + 1];
+                partitions[worker] = CompletableFuture.runAsync(() -> processSlice(slices, start, end), executor);
+            }
+            CompletableFuture.allOf(partitions).join();
+        }
+    }
+
+    private void processSlice(PositionUpdate[] slices, int start, int end) {
+        for (int i = start; i < end; ++i) {
+            update(slices[i].getEntityId(), slices[i].getLocation());
+        }
+    }
+
+    private void evaluate(String entityId, Coordinates location, int[] matches) {
+        double latitude = location.getLatitude().toRadians();
+        double longitude = location.getLongitude().toRadians();
+        int count = index.collectContaining(latitude, longitude, matches);
+        Arrays.sort(matches, 0, count);
+
+        EntityState state = entities.computeIfAbsent(entityId, id -> new EntityState());
+        synchronized (state) {
+            emitTransitions(entityId, state, matches, count);
+            state.replace(matches, count);
+        }
+    }
+
+    private void emitTransitions(String entityId, EntityState state, int[] matches, int count) {
+        int previous = 0;
+        int current = 0;
+        while (previous < state.count || current < count) {
+            if (current == count || (previous < state.count && state.fences[previous] < matches[current])) {
+                listener.onTransition(GeofenceTransition.exiting(entityId, index.get(state.fences[previous++])));
+            } else if (previous == state.count || matches[current] < state.fences[previous]) {
+                listener.onTransition(GeofenceTransition.entering(entityId, index.get(matches[current++])));
+            } else {
+                previous++;
+                current++;
+            }
+        }
+    }
+
+    public List<Geofence> getGeofencesContaining(String entityId) {
+        EntityState state = entities.get(entityId);
+        if (state == null) {
+            return Collections.emptyList();
+        }
+
+        synchronized (state) {
+            List<Geofence> geofences = new ArrayList<>(state.count);
+            for (int i = 0; i < state.count; ++i) {
+                geofences.add(index.get(state.fences[i]));
+            }
+            return geofences;
+        }
+    }
+
+    public int getTrackedEntityCount() {
+        return entities.size();
+    }
+
+    public void forget(String entityId) {
+        entities.remove(entityId);
+    }
+
+    private static class Scratch {
+
+        private final int[] matches;
+        private boolean inUse;
+
+        private Scratch(int maxFencesPerEntity) {
+            matches = new int[maxFencesPerEntity];
+        }
+    }
+
+    private static class EntityState {
+
+        private static final int[] NO_FENCES = new int[0];
+
+        private int[] fences = NO_FENCES;
+        private int count;
+
+        private void replace(int[] matches, int matchCount) {
+            if (fences.length < matchCount) {
+                fences = new int[matchCount];
+            }
+            System.arraycopy(matches, 0, fences, 0, matchCount);
+            count = matchCount;
+        }
+    }
+}
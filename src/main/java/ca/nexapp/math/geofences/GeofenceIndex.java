@@ -0,0 +1,184 @@
+package ca.nexapp.math.geofences;
+
+import static java.lang.Math.asin;
+import static java.lang.Math.cos;
+import static java.lang.Math.floor;
+import static java.lang.Math.sin;
+import static java.lang.Math.toDegrees;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import ca.nexapp.math.events.BulkOperation;
+import ca.nexapp.math.events.BulkOperations;
+import ca.nexapp.math.units.Angle;
+import ca.nexapp.math.units.AngleMath;
+import ca.nexapp.math.units.Coordinates;
+
+public class GeofenceIndex {
+
+    public static final Angle DEFAULT_CELL_SIZE = Angle.fromDegrees(0.1);
+
+    private static final double EARTH_RADIUS_IN_METERS = Coordinates.MEAN_EARTH_RADIUS.toMeters();
+    private static final double BOUNDING_BOX_PADDING_IN_DEGREES = 1e-9;
+
+    private final Geofence[] fences;
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final double[] cosLatitudes;
+    private final double[] haversineRadii;
+
+    private final double cellSizeInDegrees;
+    private final int rows;
+    private final int columns;
+    private final CellTable cells;
+
+    private GeofenceIndex(Collection<Geofence> geofences, Angle cellSize) {
+        cellSizeInDegrees = cellSize.toDegrees();
+        if (!(cellSizeInDegrees > 0.0) || cellSizeInDegrees > 180.0) {
+            throw new IllegalArgumentException("The cell size must be between 0 and 180 degrees");
+        }
+        rows = (int) Math.ceil(180.0 / cellSizeInDegrees);
+        columns = (int) Math.ceil(360.0 / cellSizeInDegrees);
+
+        int size = geofences.size();
+        fences = geofences.toArray(new Geofence[size]);
+        latitudes = new double[size];
+        longitudes = new double[size];
+        cosLatitudes = new double[size];
+        haversineRadii = new double[size];
+
+        Map<Long, List<Integer>> cellContents = new HashMap<>();
+        for (int i = 0; i < size; ++i) {
+            Geofence fence = fences[i];
+            double angularRadius = Math.min(fence.getRadius().toMeters() / EARTH_RADIUS_IN_METERS, Math.PI);
+            latitudes[i] = fence.getCenter().getLatitude().toRadians();
+            longitudes[i] = fence.getCenter().getLongitude().toRadians();
+            cosLatitudes[i] = cos(latitudes[i]);
+            double halfChord = sin(angularRadius / 2.0);
+            haversineRadii[i] = halfChord * halfChord;
+            addToCells(i, angularRadius, cellContents);
+        }
+        cells = new CellTable(cellContents);
+    }
+
+    private void addToCells(int fence, double angularRadius, Map<Long, List<Integer>> cellContents) {
+        double latitude = toDegrees(latitudes[fence]);
+        double longitude = toDegrees(longitudes[fence]);
+        double latitudeSpan = toDegrees(angularRadius) + BOUNDING_BOX_PADDING_IN_DEGREES;
+
+        int firstRow = rowOf(latitude - latitudeSpan);
+        int lastRow = rowOf(latitude + latitudeSpan);
+
+        // http://janmatuschek.de/LatitudeLongitudeBoundingCoordinates
+        double sinLongitudeSpan = sin(angularRadius) / cosLatitudes[fence];
+        boolean coversAllLongitudes = latitude - latitudeSpan <= -90.0
+                || latitude + latitudeSpan >= 90.0
+                || angularRadius >= Math.PI / 2.0
+                || sinLongitudeSpan >= 1.0;
+
+        double longitudeSpan = coversAllLongitudes ? 180.0 : toDegrees(asin(sinLongitudeSpan)) + BOUNDING_BOX_PADDING_IN_DEGREES;
+        if (longitudeSpan >= 180.0) {
+            addToCells(fence, firstRow, lastRow, 0, columns - 1, cellContents);
+            return;
+        }
+
+        // The bounds are wrapped as longitudes rather than as columns, since the last column is partial when the cell size does
+        // not divide 360 degrees
+        double west = AngleMath.wrapDegreesTo180(longitude - longitudeSpan);
+        double east = AngleMath.wrapDegreesTo180(longitude + longitudeSpan);
+        int westColumn = columnOf(west);
+        int eastColumn = columnOf(east);
+        if (west <= east) {
+            addToCells(fence, firstRow, lastRow, westColumn, eastColumn, cellContents);
+        } else {
+            addToCells(fence, firstRow, lastRow, westColumn, columns - 1, cellContents);
+            addToCells(fence, firstRow, lastRow, 0, eastColumn, cellContents);
+        }
+    }
+
+    private void addToCells(int fence, int firstRow, int lastRow, int firstColumn, int lastColumn,
+            Map<Long, List<Integer>> cellContents) {
+        for (int row = firstRow; row <= lastRow; ++row) {
+            for (int column = firstColumn; column <= lastColumn; ++column) {
+                cellContents.computeIfAbsent(cellKey(row, column), k -> new ArrayList<>()).add(fence);
+            }
+        }
+    }
+
+    public int size() {
+        return fences.length;
+    }
+
+    public Angle getCellSize() {
+        return Angle.fromDegrees(cellSizeInDegrees);
+    }
+
+    public List<Geofence> findContaining(Coordinates location) {
+        double latitude = location.getLatitude().toRadians();
+        double longitude = location.getLongitude().toRadians();
+        int[] candidates = candidatesAt(latitude, longitude);
+        int[] matches = new int[candidates.length];
+        int count = collectContaining(latitude, longitude, candidates, matches);
+        List<Geofence> containing = new ArrayList<>(count);
+        for (int i = 0; i < count; ++i) {
+            containing.add(fences[matches[i]]);
+        }
+        return containing;
+    }
+
+    int collectContaining(double latitudeInRadians, double longitudeInRadians, int[] matches) {
+        return collectContaining(latitudeInRadians, longitudeInRadians, candidatesAt(latitudeInRadians, longitudeInRadians), matches);
+    }
+
+    private int[] candidatesAt(double latitudeInRadians, double longitudeInRadians) {
+        return cells.get(cellKey(rowOf(toDegrees(latitudeInRadians)), columnOf(toDegrees(longitudeInRadians))));
+    }
+
+    private int collectContaining(double latitudeInRadians, double longitudeInRadians, int[] candidates, int[] matches) {
+        double cosLatitude = cos(latitudeInRadians);
+        int count = 0;
+        for (int i = 0; i < candidates.length && count < matches.length; ++i) {
+            int fence = candidates[i];
+            double halfLatitudeSine = sin((latitudeInRadians - latitudes[fence]) / 2.0);
+            double halfLongitudeSine = sin((longitudeInRadians - longitudes[fence]) / 2.0);
+            double haversine = halfLatitudeSine * halfLatitudeSine
+                    + cosLatitude * cosLatitudes[fence] * halfLongitudeSine * halfLongitudeSine;
+            if (haversine <= haversineRadii[fence]) {
+                matches[count++] = fence;
+            }
+        }
+        return count;
+    }
+
+    Geofence get(int fence) {
+        return fences[fence];
+    }
+
+    private int rowOf(double latitude) {
+        int row = (int) floor((latitude + 90.0) / cellSizeInDegrees);
+        return Math.max(0, Math.min(rows - 1, row));
+    }
+
+    private int columnOf(double longitude) {
+        int column = (int) floor((AngleMath.wrapDegreesTo180(longitude) + 180.0) / cellSizeInDegrees);
+        return Math.min(columns - 1, column);
+    }
+
+    private long cellKey(int row, int column) {
+        return (long) row * columns + column;
+    }
+
+    public static GeofenceIndex of(Collection<Geofence> geofences) {
+        return of(geofences, DEFAULT_CELL_SIZE);
+    }
+
+    public static GeofenceIndex of(Collection<Geofence> geofences, Angle cellSize) {
+        try (BulkOperation operation = BulkOperations.begin("GeofenceIndex.of", geofences.size())) {
+            return new GeofenceIndex(geofences, cellSize);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package ca.nexapp.math.geofences;
+
+/**
+ * Receives the transitions of the {@link GeofenceEngine}. A batch is processed by many workers, so implementations must be
+ * thread-safe; transitions of a given entity are always delivered in order.
+ */
+@FunctionalInterface
+public interface GeofenceListener {
+
+    void onTransition(GeofenceTransition transition);
+}
@@ -0,0 +1,60 @@
+package ca.nexapp.math.geofences;
+
+import java.util.Objects;
+
+public class GeofenceTransition {
+
+    public enum Type {
+        ENTER, EXIT
+    }
+
+    private final String entityId;
+    private final Geofence geofence;
+    private final Type type;
+
+    private GeofenceTransition(String entityId, Geofence geofence, Type type) {
+        this.entityId = entityId;
+        this.geofence = geofence;
+        this.type = type;
+    }
+
+    public String getEntityId() {
+        return entityId;
+    }
+
+    public Geofence getGeofence() {
+        return geofence;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public static GeofenceTransition entering(String entityId, Geofence geofence) {
+        return new GeofenceTransition(entityId, geofence, Type.ENTER);
+    }
+
+    public static GeofenceTransition exiting(String entityId, Geofence geofence) {
+        return new GeofenceTransition(entityId, geofence, Type.EXIT);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(entityId, geofence, type);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof GeofenceTransition)) {
+            return false;
+        }
+
+        GeofenceTransition other = (GeofenceTransition) obj;
+        return Objects.equals(entityId, other.entityId) && Objects.equals(geofence, other.geofence) && type == other.type;
+    }
+
+    @Override
+    public String toString() {
+        return entityId + " " + type + " " + geofence.getId();
+    }
+}
@@ -0,0 +1,48 @@
+package ca.nexapp.math.geofences;
+
+import java.util.Objects;
+
+import ca.nexapp.math.units.Coordinates;
+
+public class PositionUpdate {
+
+    private final String entityId;
+    private final Coordinates location;
+
+    private PositionUpdate(String entityId, Coordinates location) {
+        this.entityId = entityId;
+        this.location = location;
+    }
+
+    public String getEntityId() {
+        return entityId;
+    }
+
+    public Coordinates getLocation() {
+        return location;
+    }
+
+    public static PositionUpdate of(String entityId, Coordinates location) {
+        return new PositionUpdate(entityId, location);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(entityId, location);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof PositionUpdate)) {
+            return false;
+        }
+
+        PositionUpdate other = (PositionUpdate) obj;
+        return Objects.equals(entityId, other.entityId) && Objects.equals(location, other.location);
+    }
+
+    @Override
+    public String toString() {
+        return entityId + " @ " + location;
+    }
+}
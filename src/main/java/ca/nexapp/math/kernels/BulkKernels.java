@@ -0,0 +1,130 @@
+package ca.nexapp.math.kernels;
+
+import ca.nexapp.math.events.BulkOperation;
+import ca.nexapp.math.events.BulkOperations;
+import ca.nexapp.math.units.Angle;
+import ca.nexapp.math.units.Coordinates;
+import ca.nexapp.math.units.Point;
+
+/**
+ * Bulk numeric kernels over arrays, which also back the bulk unit conversions. On Java 17 and later, with the
+ * {@code jdk.incubator.vector} module added ({@code --add-modules jdk.incubator.vector}), the multi-release JAR provides
+ * implementations written with the Vector API; otherwise, or when the {@value #SCALAR_PROPERTY} system property is true, plain
+ * loops are used. Both agree within a few ulps: the vector implementations fuse multiplications and additions and use the vector
+ * sine, cosine and arcsine. Scaling is exact in both, since it only multiplies, divides, adds and subtracts.
+ */
+public class BulkKernels {
+
+    public static final String SCALAR_PROPERTY = "ca.nexapp.math.kernels.scalar";
+
+    private static final String VECTOR_KERNELS = "ca.nexapp.math.kernels.VectorKernels";
+    private static final double EARTH_RADIUS_IN_METERS = Coordinates.MEAN_EARTH_RADIUS.toMeters();
+    private static final Kernels KERNELS = load();
+
+    private BulkKernels() {
+    }
+
+    public static boolean isVectorized() {
+        return !(KERNELS instanceof ScalarKernels);
+    }
+
+    // Coefficients go from the highest degree down to the constant, like y = ax² + bx + c
+    public static void evaluatePolynomial(double[] coefficients, double[] xs, double[] ys) {
+        if (coefficients.length == 0) {
+            throw new IllegalArgumentException("A polynomial must have at least one coefficient");
+        }
+        checkOutputLength(xs.length, ys.length);
+        try (BulkOperation operation = BulkOperations.begin("BulkKernels.evaluatePolynomial", xs.length)) {
+            KERNELS.evaluatePolynomial(coefficients, xs, ys, 0, xs.length);
+        }
+    }
+
+    // Same roots as QuadraticFunction.findRealRoots, NaN when there are none
+    public static void solveQuadratics(double[] a, double[] b, double[] c, double[] positiveRoots, double[] negativeRoots) {
+        if (a.length != b.length || a.length != c.length) {
+            throw new IllegalArgumentException("Must have as many a, b and c coefficients");
+        }
+        checkOutputLength(a.length, positiveRoots.length);
+        checkOutputLength(a.length, negativeRoots.length);
+        try (BulkOperation operation = BulkOperations.begin("BulkKernels.solveQuadratics", a.length)) {
+            KERNELS.solveQuadratics(a, b, c, positiveRoots, negativeRoots, 0, a.length);
+        }
+    }
+
+    public static void rotateCounterClockwise(double[] xs, double[] ys, Point pivot, Angle angle, double[] rotatedXs,
+            double[] rotatedYs) {
+        if (xs.length != ys.length) {
+            throw new IllegalArgumentException("Must have as many x as y");
+        }
+        checkOutputLength(xs.length, rotatedXs.length);
+        checkOutputLength(xs.length, rotatedYs.length);
+        double radians = angle.toRadians();
+        try (BulkOperation operation = BulkOperations.begin("BulkKernels.rotate", xs.length)) {
+            KERNELS.rotateCounterClockwise(xs, ys, pivot.getX(), pivot.getY(), Math.sin(radians), Math.cos(radians), rotatedXs,
+                    rotatedYs, 0, xs.length);
+        }
+    }
+
+    public static void rotateClockwise(double[] xs, double[] ys, Point pivot, Angle angle, double[] rotatedXs, double[] rotatedYs) {
+        rotateCounterClockwise(xs, ys, pivot, angle.invert(), rotatedXs, rotatedYs);
+    }
+
+    public static void greatCircleDistances(Coordinates origin, double[] latitudes, double[] longitudes, double[] distancesInMeters) {
+        if (latitudes.length != longitudes.length) {
+            throw new IllegalArgumentException("Must have as many latitudes as longitudes");
+        }
+        checkOutputLength(latitudes.length, distancesInMeters.length);
+        try (BulkOperation operation = BulkOperations.begin("BulkKernels.greatCircleDistances", latitudes.length)) {
+            KERNELS.greatCircleDistances(origin.getLatitude().toRadians(), origin.getLongitude().toRadians(), latitudes, longitudes,
+                    EARTH_RADIUS_IN_METERS, distancesInMeters, 0, latitudes.length);
+        }
+    }
+
+    // Writes values[offset + i] * multiplier / divisor to scaled[scaledOffset + i], with the same rounding as the scalar operations
+    public static void scale(double[] values, int offset, double multiplier, double divisor, double[] scaled, int scaledOffset,
+            int length) {
+        checkRanges(values, offset, scaled, scaledOffset, length);
+        try (BulkOperation operation = BulkOperations.begin("BulkKernels.scale", length)) {
+            KERNELS.scale(values, multiplier, divisor, scaled, scaledOffset - offset, offset, offset + length);
+        }
+    }
+
+    // Writes (values[offset + i] - subtrahend) * multiplier / divisor + addend to scaled[scaledOffset + i], like an affine unit
+    public static void scaleAndOffset(double[] values, int offset, double subtrahend, double multiplier, double divisor,
+            double addend, double[] scaled, int scaledOffset, int length) {
+        checkRanges(values, offset, scaled, scaledOffset, length);
+        try (BulkOperation operation = BulkOperations.begin("BulkKernels.scaleAndOffset", length)) {
+            KERNELS.scaleAndOffset(values, subtrahend, multiplier, divisor, addend, scaled, scaledOffset - offset, offset,
+                    offset + length);
+        }
+    }
+
+    static Kernels kernels() {
+        return KERNELS;
+    }
+
+    private static Kernels load() {
+        if (Boolean.getBoolean(SCALAR_PROPERTY)) {
+            return new ScalarKernels();
+        }
+        try {
+            return (Kernels) Class.forName(VECTOR_KERNELS).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // Older JDK, or a newer one without the incubating vector module
+            return new ScalarKernels();
+        }
+    }
+
+    private static void checkRanges(double[] values, int offset, double[] output, int outputOffset, int length) {
+        if (offset < 0 || outputOffset < 0 || length < 0 || offset + length > values.length) {
+            throw new IndexOutOfBoundsException("Invalid range [" + offset + ", " + (offset + length) + ") of " + values.length);
+        }
+        checkOutputLength(outputOffset + length, output.length);
+    }
+
+    private static void checkOutputLength(int inputLength, int outputLength) {
+        if (outputLength < inputLength) {
+            throw new IllegalArgumentException("The output array must hold at least " + inputLength + " values");
+        }
+    }
+}
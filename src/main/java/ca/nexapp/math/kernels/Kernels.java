@@ -0,0 +1,22 @@
+package ca.nexapp.math.kernels;
+
+// Implementations work on the indices [from, to) and may assume that the arrays were validated by BulkKernels
+interface Kernels {
+
+    void evaluatePolynomial(double[] coefficients, double[] xs, double[] ys, int from, int to);
+
+    void solveQuadratics(double[] a, double[] b, double[] c, double[] positiveRoots, double[] negativeRoots, int from, int to);
+
+    void rotateCounterClockwise(double[] xs, double[] ys, double pivotX, double pivotY, double sin, double cos, double[] rotatedXs,
+            double[] rotatedYs, int from, int to);
+
+    void greatCircleDistances(double originLatitude, double originLongitude, double[] latitudes, double[] longitudes,
+            double radius, double[] distances, int from, int to);
+
+    // Writes values[i] * multiplier / divisor to scaled[i + shift], skipping a multiplier or a divisor of one
+    void scale(double[] values, double multiplier, double divisor, double[] scaled, int shift, int from, int to);
+
+    // Writes (values[i] - subtrahend) * multiplier / divisor + addend to scaled[i + shift]
+    void scaleAndOffset(double[] values, double subtrahend, double multiplier, double divisor, double addend, double[] scaled,
+            int shift, int from, int to);
+}
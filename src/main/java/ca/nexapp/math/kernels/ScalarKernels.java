@@ -0,0 +1,79 @@
+package ca.nexapp.math.kernels;
+
+class ScalarKernels implements Kernels {
+
+    @Override
+    public void evaluatePolynomial(double[] coefficients, double[] xs, double[] ys, int from, int to) {
+        for (int i = from; i < to; ++i) {
+            ys[i] = horner(coefficients, xs[i]);
+        }
+    }
+
+    @Override
+    public void solveQuadratics(double[] a, double[] b, double[] c, double[] positiveRoots, double[] negativeRoots, int from, int to) {
+        for (int i = from; i < to; ++i) {
+            double squareRoot = Math.sqrt(b[i] * b[i] - 4.0 * a[i] * c[i]);
+            double twoA = 2.0 * a[i];
+            positiveRoots[i] = (-b[i] + squareRoot) / twoA;
+            negativeRoots[i] = (-b[i] - squareRoot) / twoA;
+        }
+    }
+
+    @Override
+    public void rotateCounterClockwise(double[] xs, double[] ys, double pivotX, double pivotY, double sin, double cos,
+            double[] rotatedXs, double[] rotatedYs, int from, int to) {
+        for (int i = from; i < to; ++i) {
+            double dx = xs[i] - pivotX;
+            double dy = ys[i] - pivotY;
+            rotatedXs[i] = dx * cos - dy * sin + pivotX;
+            rotatedYs[i] = dx * sin + dy * cos + pivotY;
+        }
+    }
+
+    @Override
+    public void greatCircleDistances(double originLatitude, double originLongitude, double[] latitudes, double[] longitudes,
+            double radius, double[] distances, int from, int to) {
+        double cosOriginLatitude = Math.cos(originLatitude);
+        for (int i = from; i < to; ++i) {
+            double latitude = Math.toRadians(latitudes[i]);
+            double halfLatitudeSine = Math.sin((latitude - originLatitude) / 2.0);
+            double halfLongitudeSine = Math.sin((Math.toRadians(longitudes[i]) - originLongitude) / 2.0);
+            double haversine = halfLatitudeSine * halfLatitudeSine
+                    + cosOriginLatitude * Math.cos(latitude) * halfLongitudeSine * halfLongitudeSine;
+            distances[i] = 2.0 * radius * Math.asin(Math.min(1.0, Math.sqrt(haversine)));
+        }
+    }
+
+    @Override
+    public void scale(double[] values, double multiplier, double divisor, double[] scaled, int shift, int from, int to) {
+        if (divisor == 1.0) {
+            for (int i = from; i < to; ++i) {
+                scaled[i + shift] = values[i] * multiplier;
+            }
+        } else if (multiplier == 1.0) {
+            for (int i = from; i < to; ++i) {
+                scaled[i + shift] = values[i] / divisor;
+            }
+        } else {
+            for (int i = from; i < to; ++i) {
+                scaled[i + shift] = values[i] * multiplier / divisor;
+            }
+        }
+    }
+
+    @Override
+    public void scaleAndOffset(double[] values, double subtrahend, double multiplier, double divisor, double addend,
+            double[] scaled, int shift, int from, int to) {
+        for (int i = from; i < to; ++i) {
+            scaled[i + shift] = (values[i] - subtrahend) * multiplier / divisor + addend;
+        }
+    }
+
+    static double horner(double[] coefficients, double x) {
+        double y = coefficients[0];
+        for (int k = 1; k < coefficients.length; ++k) {
+            y = y * x + coefficients[k];
+        }
+        return y;
+    }
+}
@@ -0,0 +1,21 @@
+package ca.nexapp.math.projections;
+
+import java.util.stream.IntStream;
+
+class BulkIndices {
+
+    static final int PARALLEL_THRESHOLD = 1 << 14;
+
+    static IntStream of(int length) {
+        IntStream indices = IntStream.range(0, length);
+        return length >= PARALLEL_THRESHOLD ? indices.parallel() : indices;
+    }
+
+    static void checkLengths(int length, int... others) {
+        for (int other : others) {
+            if (other != length) {
+                throw new IllegalArgumentException("All the arrays must have the same length");
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package ca.nexapp.math.projections;
+
+import static java.lang.Math.cos;
+import static java.lang.Math.toRadians;
+
+import ca.nexapp.math.units.Angle;
+import ca.nexapp.math.units.Coordinates;
+
+public class EquirectangularProjection implements Projection {
+
+    private static final double EARTH_RADIUS_IN_METERS = Coordinates.MEAN_EARTH_RADIUS.toMeters();
+
+    public static final EquirectangularProjection PLATE_CARREE = withStandardParallel(Angle.ZERO_DEGREES);
+
+    private final Angle standardParallel;
+    private final double metersPerDegreeOfLatitude;
+    private final double metersPerDegreeOfLongitude;
+
+    private EquirectangularProjection(Angle standardParallel) {
+        this.standardParallel = standardParallel;
+        metersPerDegreeOfLatitude = toRadians(EARTH_RADIUS_IN_METERS);
+        metersPerDegreeOfLongitude = metersPerDegreeOfLatitude * cos(standardParallel.toRadians());
+    }
+
+    @Override
+    public double toX(double latitude, double longitude) {
+        return longitude * metersPerDegreeOfLongitude;
+    }
+
+    @Override
+    public double toY(double latitude, double longitude) {
+        return latitude * metersPerDegreeOfLatitude;
+    }
+
+    @Override
+    public double toLatitude(double x, double y) {
+        return y / metersPerDegreeOfLatitude;
+    }
+
+    @Override
+    public double toLongitude(double x, double y) {
+        return x / metersPerDegreeOfLongitude;
+    }
+
+    public Angle getStandardParallel() {
+        return standardParallel;
+    }
+
+    public static EquirectangularProjection withStandardParallel(Angle standardParallel) {
+        if (Math.abs(standardParallel.toDegrees()) >= 90.0) {
+            throw new IllegalArgumentException("The standard parallel must be strictly between -90 and 90 degrees");
+        }
+        return new EquirectangularProjection(standardParallel);
+    }
+}
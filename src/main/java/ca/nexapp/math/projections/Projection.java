@@ -0,0 +1,41 @@
+package ca.nexapp.math.projections;
+
+import ca.nexapp.math.units.Coordinates;
+import ca.nexapp.math.units.Point;
+
+public interface Projection {
+
+    double toX(double latitude, double longitude);
+
+    double toY(double latitude, double longitude);
+
+    double toLatitude(double x, double y);
+
+    double toLongitude(double x, double y);
+
+    default Point project(Coordinates coordinates) {
+        double latitude = coordinates.getLatitude().toDegrees();
+        double longitude = coordinates.getLongitude().toDegrees();
+        return Point.fromCartesian(toX(latitude, longitude), toY(latitude, longitude));
+    }
+
+    default Coordinates unproject(Point point) {
+        return Coordinates.locatedAt(toLatitude(point.getX(), point.getY()), toLongitude(point.getX(), point.getY()));
+    }
+
+    default void project(double[] latitudes, double[] longitudes, double[] xs, double[] ys) {
+        BulkIndices.checkLengths(latitudes.length, longitudes.length, xs.length, ys.length);
+        BulkIndices.of(latitudes.length).forEach(i -> {
+            xs[i] = toX(latitudes[i], longitudes[i]);
+            ys[i] = toY(latitudes[i], longitudes[i]);
+        });
+    }
+
+    default void unproject(double[] xs, double[] ys, double[] latitudes, double[] longitudes) {
+        BulkIndices.checkLengths(xs.length, ys.length, latitudes.length, longitudes.length);
+        BulkIndices.of(xs.length).forEach(i -> {
+            latitudes[i] = toLatitude(xs[i], ys[i]);
+            longitudes[i] = toLongitude(xs[i], ys[i]);
+        });
+    }
+}
@@ -0,0 +1,178 @@
+package ca.nexapp.math.projections;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.atan;
+import static java.lang.Math.floor;
+import static java.lang.Math.log;
+import static java.lang.Math.sinh;
+import static java.lang.Math.tan;
+import static java.lang.Math.toDegrees;
+import static java.lang.Math.toRadians;
+
+import java.util.Objects;
+
+import ca.nexapp.math.units.Coordinates;
+
+public class Tile {
+
+    public static final int MAX_ZOOM = 30;
+
+    private final int zoom;
+    private final int x;
+    private final int y;
+
+    private Tile(int zoom, int x, int y) {
+        this.zoom = zoom;
+        this.x = x;
+        this.y = y;
+    }
+
+    public int getZoom() {
+        return zoom;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    public String getQuadkey() {
+        long quadkey = toQuadkey(x, y);
+        char[] digits = new char[zoom];
+        for (int level = zoom - 1; level >= 0; --level) {
+            digits[level] = (char) ('0' + (quadkey & 3));
+            quadkey >>>= 2;
+        }
+        return new String(digits);
+    }
+
+    public Coordinates getNorthWestCorner() {
+        return Coordinates.locatedAt(toLatitude(y, zoom), toLongitude(x, zoom));
+    }
+
+    public Coordinates getSouthEastCorner() {
+        return Coordinates.locatedAt(toLatitude(y + 1, zoom), toLongitude(x + 1, zoom));
+    }
+
+    public Tile getParent() {
+        if (zoom == 0) {
+            throw new IllegalStateException("The root tile has no parent");
+        }
+        return new Tile(zoom - 1, x >> 1, y >> 1);
+    }
+
+    public static Tile of(int zoom, int x, int y) {
+        checkZoom(zoom);
+        long tilesPerSide = 1L << zoom;
+        if (x < 0 || x >= tilesPerSide || y < 0 || y >= tilesPerSide) {
+            throw new IllegalArgumentException("Tile " + x + "/" + y + " does not exist at zoom " + zoom);
+        }
+        return new Tile(zoom, x, y);
+    }
+
+    public static Tile containing(Coordinates coordinates, int zoom) {
+        checkZoom(zoom);
+        int x = toTileX(coordinates.getLongitude().toDegrees(), zoom);
+        int y = toTileY(coordinates.getLatitude().toDegrees(), zoom);
+        return new Tile(zoom, x, y);
+    }
+
+    public static Tile fromQuadkey(String quadkey) {
+        int zoom = quadkey.length();
+        checkZoom(zoom);
+        int x = 0;
+        int y = 0;
+        for (int level = 0; level < zoom; ++level) {
+            int digit = quadkey.charAt(level) - '0';
+            if (digit < 0 || digit > 3) {
+                throw new IllegalArgumentException("Invalid quadkey: " + quadkey);
+            }
+            x = (x << 1) | (digit & 1);
+            y = (y << 1) | (digit >> 1);
+        }
+        return new Tile(zoom, x, y);
+    }
+
+    public static int toTileX(double longitude, int zoom) {
+        long tilesPerSide = 1L << zoom;
+        long x = (long) floor((longitude + 180.0) / 360.0 * tilesPerSide);
+        return (int) Math.max(0, Math.min(tilesPerSide - 1, x));
+    }
+
+    public static int toTileY(double latitude, int zoom) {
+        long tilesPerSide = 1L << zoom;
+        double latitudeInRadians = toRadians(WebMercatorProjection.clampLatitude(latitude));
+        double mercatorY = log(tan(PI / 4.0 + latitudeInRadians / 2.0));
+        long y = (long) floor((1.0 - mercatorY / PI) / 2.0 * tilesPerSide);
+        return (int) Math.max(0, Math.min(tilesPerSide - 1, y));
+    }
+
+    public static long toQuadkey(int x, int y) {
+        return spreadBits(x) | (spreadBits(y) << 1);
+    }
+
+    public static void toTiles(double[] latitudes, double[] longitudes, int zoom, int[] xs, int[] ys) {
+        checkZoom(zoom);
+        BulkIndices.checkLengths(latitudes.length, longitudes.length, xs.length, ys.length);
+        BulkIndices.of(latitudes.length).forEach(i -> {
+            xs[i] = toTileX(longitudes[i], zoom);
+            ys[i] = toTileY(latitudes[i], zoom);
+        });
+    }
+
+    public static void toQuadkeys(double[] latitudes, double[] longitudes, int zoom, long[] quadkeys) {
+        checkZoom(zoom);
+        BulkIndices.checkLengths(latitudes.length, longitudes.length, quadkeys.length);
+        BulkIndices.of(latitudes.length).forEach(i -> {
+            quadkeys[i] = toQuadkey(toTileX(longitudes[i], zoom), toTileY(latitudes[i], zoom));
+        });
+    }
+
+    private static double toLongitude(int x, int zoom) {
+        return x / (double) (1L << zoom) * 360.0 - 180.0;
+    }
+
+    private static double toLatitude(int y, int zoom) {
+        double n = PI - 2.0 * PI * y / (1L << zoom);
+        return toDegrees(atan(sinh(n)));
+    }
+
+    private static long spreadBits(int value) {
+        long bits = value & 0xFFFFFFFFL;
+        bits = (bits | (bits << 16)) & 0x0000FFFF0000FFFFL;
+        bits = (bits | (bits << 8)) & 0x00FF00FF00FF00FFL;
+        bits = (bits | (bits << 4)) & 0x0F0F0F0F0F0F0F0FL;
+        bits = (bits | (bits << 2)) & 0x3333333333333333L;
+        bits = (bits | (bits << 1)) & 0x5555555555555555L;
+        return bits;
+    }
+
+    private static void checkZoom(int zoom) {
+        if (zoom < 0 || zoom > MAX_ZOOM) {
+            throw new IllegalArgumentException("The zoom must be between 0 and " + MAX_ZOOM);
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(zoom, x, y);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof Tile)) {
+            return false;
+        }
+
+        Tile other = (Tile) obj;
+        return zoom == other.zoom && x == other.x && y == other.y;
+    }
+
+    @Override
+    public String toString() {
+        return zoom + "/" + x + "/" + y;
+    }
+}
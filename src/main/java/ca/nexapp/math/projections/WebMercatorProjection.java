@@ -0,0 +1,44 @@
+package ca.nexapp.math.projections;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.atan;
+import static java.lang.Math.exp;
+import static java.lang.Math.log;
+import static java.lang.Math.tan;
+import static java.lang.Math.toDegrees;
+import static java.lang.Math.toRadians;
+
+public class WebMercatorProjection implements Projection {
+
+    public static final WebMercatorProjection INSTANCE = new WebMercatorProjection();
+
+    public static final double MAX_LATITUDE = 85.05112877980659;
+    public static final double EARTH_RADIUS_IN_METERS = 6_378_137.0;
+
+    private WebMercatorProjection() {
+    }
+
+    @Override
+    public double toX(double latitude, double longitude) {
+        return EARTH_RADIUS_IN_METERS * toRadians(longitude);
+    }
+
+    @Override
+    public double toY(double latitude, double longitude) {
+        return EARTH_RADIUS_IN_METERS * log(tan(PI / 4.0 + toRadians(clampLatitude(latitude)) / 2.0));
+    }
+
+    @Override
+    public double toLatitude(double x, double y) {
+        return toDegrees(2.0 * atan(exp(y / EARTH_RADIUS_IN_METERS)) - PI / 2.0);
+    }
+
+    @Override
+    public double toLongitude(double x, double y) {
+        return toDegrees(x / EARTH_RADIUS_IN_METERS);
+    }
+
+    static double clampLatitude(double latitude) {
+        return Math.max(-MAX_LATITUDE, Math.min(MAX_LATITUDE, latitude));
+    }
+}
@@ -0,0 +1,316 @@
+package ca.nexapp.math.spatial;
+
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import ca.nexapp.math.events.BulkOperation;
+import ca.nexapp.math.events.BulkOperations;
+import ca.nexapp.math.units.Coordinates;
+import ca.nexapp.math.units.Length;
+
+public class CoordinatesTree {
+
+    private static final int LEAF_SIZE = 8;
+    private static final double EARTH_RADIUS_IN_METERS = Coordinates.MEAN_EARTH_RADIUS.toMeters();
+
+    private final Coordinates[] locations;
+    private final int[] ids;
+    private final double[][] vectors;
+    private final byte[] splitAxes;
+
+    private CoordinatesTree(List<Coordinates> locations) {
+        int size = locations.size();
+        this.locations = locations.toArray(new Coordinates[size]);
+        double[][] unsorted = new double[3][size];
+        for (int i = 0; i < size; ++i) {
+            double[] vector = toUnitVector(this.locations[i]);
+            for (int axis = 0; axis < 3; ++axis) {
+                unsorted[axis][i] = vector[axis];
+            }
+        }
+
+        ids = IntStream.range(0, size).toArray();
+        splitAxes = new byte[size];
+        build(unsorted, 0, size);
+
+        vectors = new double[3][size];
+        for (int i = 0; i < size; ++i) {
+            for (int axis = 0; axis < 3; ++axis) {
+                vectors[axis][i] = unsorted[axis][ids[i]];
+            }
+        }
+    }
+
+    private void build(double[][] unsorted, int low, int high) {
+        if (high - low <= LEAF_SIZE) {
+            return;
+        }
+
+        int axis = widestAxis(unsorted, low, high);
+        int middle = (low + high) >>> 1;
+        select(unsorted[axis], low, high - 1, middle);
+        splitAxes[middle] = (byte) axis;
+        build(unsorted, low, middle);
+        build(unsorted, middle + 1, high);
+    }
+
+    private int widestAxis(double[][] unsorted, int low, int high) {
+        int widest = 0;
+        double widestSpread = -1.0;
+        for (int axis = 0; axis < 3; ++axis) {
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (int i = low; i < high; ++i) {
+                double value = unsorted[axis][ids[i]];
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+            if (max - min > widestSpread) {
+                widestSpread = max - min;
+                widest = axis;
+            }
+        }
+        return widest;
+    }
+
+    private void select(double[] values, int left, int right, int nth) {
+        while (left < right) {
+            double pivot = values[ids[(left + right) >>> 1]];
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (values[ids[i]] < pivot) {
+                    i++;
+                }
+                while (values[ids[j]] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    int swapped = ids[i];
+                    ids[i++] = ids[j];
+                    ids[j--] = swapped;
+                }
+            }
+            if (nth <= j) {
+                right = j;
+            } else if (nth >= i) {
+                left = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    public int size() {
+        return locations.length;
+    }
+
+    public Coordinates get(int index) {
+        return locations[index];
+    }
+
+    public int[] findNearest(Coordinates location, int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Cannot find a negative number of neighbours");
+        }
+
+        double[] query = toUnitVector(location);
+        Neighbours neighbours = new Neighbours(Math.min(count, locations.length));
+        if (neighbours.capacity > 0) {
+            searchNearest(query, 0, locations.length, neighbours);
+        }
+        return neighbours.toSortedIds();
+    }
+
+    public int[][] findNearest(List<Coordinates> locations, int count) {
+        try (BulkOperation operation = BulkOperations.begin("CoordinatesTree.findNearest", locations.size())) {
+            return IntStream.range(0, locations.size()).parallel().mapToObj(i -> findNearest(locations.get(i), count))
+                    .toArray(int[][]::new);
+        }
+    }
+
+    public int[] findWithin(Coordinates location, Length range) {
+        double[] query = toUnitVector(location);
+        double angle = Math.min(range.toMeters() / EARTH_RADIUS_IN_METERS, Math.PI);
+        double chord = 2.0 * sin(angle / 2.0);
+
+        Matches matches = new Matches();
+        searchWithin(query, chord * chord, 0, locations.length, matches);
+        return matches.toIds();
+    }
+
+    public int[][] findWithin(List<Coordinates> locations, Length range) {
+        try (BulkOperation operation = BulkOperations.begin("CoordinatesTree.findWithin", locations.size())) {
+            return IntStream.range(0, locations.size()).parallel().mapToObj(i -> findWithin(locations.get(i), range))
+                    .toArray(int[][]::new);
+        }
+    }
+
+    private void searchNearest(double[] query, int low, int high, Neighbours neighbours) {
+        if (high - low <= LEAF_SIZE) {
+            for (int i = low; i < high; ++i) {
+                neighbours.offer(ids[i], squaredChord(query, i));
+            }
+            return;
+        }
+
+        int middle = (low + high) >>> 1;
+        int axis = splitAxes[middle];
+        double offset = query[axis] - vectors[axis][middle];
+        neighbours.offer(ids[middle], squaredChord(query, middle));
+
+        if (offset < 0.0) {
+            searchNearest(query, low, middle, neighbours);
+            if (offset * offset < neighbours.worst()) {
+                searchNearest(query, middle + 1, high, neighbours);
+            }
+        } else {
+            searchNearest(query, middle + 1, high, neighbours);
+            if (offset * offset < neighbours.worst()) {
+                searchNearest(query, low, middle, neighbours);
+            }
+        }
+    }
+
+    private void searchWithin(double[] query, double squaredRange, int low, int high, Matches matches) {
+        if (high - low <= LEAF_SIZE) {
+            for (int i = low; i < high; ++i) {
+                if (squaredChord(query, i) <= squaredRange) {
+                    matches.add(ids[i]);
+                }
+            }
+            return;
+        }
+
+        int middle = (low + high) >>> 1;
+        int axis = splitAxes[middle];
+        double offset = query[axis] - vectors[axis][middle];
+        if (squaredChord(query, middle) <= squaredRange) {
+            matches.add(ids[middle]);
+        }
+        if (offset < 0.0 || offset * offset <= squaredRange) {
+            searchWithin(query, squaredRange, low, middle, matches);
+        }
+        if (offset >= 0.0 || offset * offset <= squaredRange) {
+            searchWithin(query, squaredRange, middle + 1, high, matches);
+        }
+    }
+
+    private double squaredChord(double[] query, int position) {
+        double dx = query[0] - vectors[0][position];
+        double dy = query[1] - vectors[1][position];
+        double dz = query[2] - vectors[2][position];
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    private static double[] toUnitVector(Coordinates location) {
+        double latitude = location.getLatitude().toRadians();
+        double longitude = location.getLongitude().toRadians();
+        double cosLatitude = cos(latitude);
+        return new double[] { cosLatitude * cos(longitude), cosLatitude * sin(longitude), sin(latitude) };
+    }
+
+    public static CoordinatesTree of(List<Coordinates> locations) {
+        try (BulkOperation operation = BulkOperations.begin("CoordinatesTree.of", locations.size())) {
+            return new CoordinatesTree(locations);
+        }
+    }
+
+    private static class Neighbours {
+
+        private final int capacity;
+        private final int[] ids;
+        private final double[] distances;
+        private int size;
+
+        private Neighbours(int capacity) {
+            this.capacity = capacity;
+            ids = new int[capacity];
+            distances = new double[capacity];
+        }
+
+        private double worst() {
+            return size < capacity ? Double.POSITIVE_INFINITY : distances[0];
+        }
+
+        private void offer(int id, double distance) {
+            if (size < capacity) {
+                ids[size] = id;
+                distances[size] = distance;
+                siftUp(size++);
+            } else if (distance < distances[0]) {
+                ids[0] = id;
+                distances[0] = distance;
+                siftDown(0, size);
+            }
+        }
+
+        private int[] toSortedIds() {
+            for (int end = size - 1; end > 0; --end) {
+                swap(0, end);
+                siftDown(0, end);
+            }
+            return Arrays.copyOf(ids, size);
+        }
+
+        private void siftUp(int child) {
+            while (child > 0) {
+                int parent = (child - 1) / 2;
+                if (distances[parent] >= distances[child]) {
+                    return;
+                }
+                swap(parent, child);
+                child = parent;
+            }
+        }
+
+        private void siftDown(int parent, int end) {
+            while (true) {
+                int largest = parent;
+                int left = 2 * parent + 1;
+                int right = left + 1;
+                if (left < end && distances[left] > distances[largest]) {
+                    largest = left;
+                }
+                if (right < end && distances[right] > distances[largest]) {
+                    largest = right;
+                }
+                if (largest == parent) {
+                    return;
+                }
+                swap(parent, largest);
+                parent = largest;
+            }
+        }
+
+        private void swap(int first, int second) {
+            int id = ids[first];
+            ids[first] = ids[second];
+            ids[second] = id;
+            double distance = distances[first];
+            distances[first] = distances[second];
+            distances[second] = distance;
+        }
+    }
+
+    private static class Matches {
+
+        private int[] ids = new int[16];
+        private int count;
+
+        private void add(int id) {
+            if (count == ids.length) {
+                ids = Arrays.copyOf(ids, count * 2);
+            }
+            ids[count++] = id;
+        }
+
+        private int[] toIds() {
+            return Arrays.copyOf(ids, count);
+        }
+    }
+}
@@ -0,0 +1,347 @@
+package ca.nexapp.math.statistics;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import ca.nexapp.math.units.Duration;
+
+/**
+ * Log-linear histogram of latencies in nanoseconds. Each power of two is split in linear sub-buckets, enough to keep the
+ * requested number of significant decimal digits, so the memory is fixed by the highest trackable latency and the precision.
+ * Recording never allocates. Latencies above the highest trackable one are counted in the last bucket, the exact minimum and
+ * maximum are kept apart. Not thread-safe: record from one thread, or one histogram per thread merged afterwards.
+ */
+public class LatencyHistogram {
+
+    public static final int MAX_SIGNIFICANT_DIGITS = 5;
+
+    private static final byte ENCODING_VERSION = 1;
+
+    private final long highestTrackable;
+    private final int significantDigits;
+    private final int subBucketHalfCountMagnitude;
+    private final int subBucketHalfCount;
+    private final long subBucketMask;
+    private final int leadingZeroCountBase;
+    private final long[] counts;
+
+    private long totalCount;
+    private long min = Long.MAX_VALUE;
+    private long max;
+
+    private LatencyHistogram(long highestTrackable, int significantDigits) {
+        this.highestTrackable = highestTrackable;
+        this.significantDigits = significantDigits;
+
+        long largestSingleUnitResolution = 2 * (long) Math.pow(10, significantDigits);
+        int subBucketCountMagnitude = 64 - Long.numberOfLeadingZeros(largestSingleUnitResolution - 1);
+        subBucketHalfCountMagnitude = subBucketCountMagnitude - 1;
+        subBucketHalfCount = 1 << subBucketHalfCountMagnitude;
+        subBucketMask = (1L << subBucketCountMagnitude) - 1;
+        leadingZeroCountBase = 64 - subBucketCountMagnitude;
+
+        int bucketCount = 1;
+        long smallestUntrackable = 1L << subBucketCountMagnitude;
+        while (smallestUntrackable <= highestTrackable && smallestUntrackable > 0) {
+            smallestUntrackable <<= 1;
+            bucketCount++;
+        }
+        counts = new long[(bucketCount + 1) * subBucketHalfCount];
+    }
+
+    public void record(Duration latency) {
+        recordNanoseconds(latency.toNanoseconds(), 1);
+    }
+
+    public void recordNanoseconds(long latency) {
+        recordNanoseconds(latency, 1);
+    }
+
+    public void recordNanoseconds(long latency, long count) {
+        if (latency < 0) {
+            throw new IllegalArgumentException("A latency cannot be negative, got " + latency + "ns");
+        }
+        if (count < 1) {
+            throw new IllegalArgumentException("A latency must be recorded at least once");
+        }
+        counts[indexOf(Math.min(latency, highestTrackable))] += count;
+        totalCount += count;
+        min = Math.min(min, latency);
+        max = Math.max(max, latency);
+    }
+
+    public void merge(LatencyHistogram other) {
+        if (other.totalCount == 0) {
+            return;
+        }
+
+        if (other.counts.length == counts.length && other.subBucketHalfCount == subBucketHalfCount) {
+            for (int i = 0; i < counts.length; ++i) {
+                counts[i] += other.counts[i];
+            }
+        } else {
+            for (int i = 0; i < other.counts.length; ++i) {
+                if (other.counts[i] != 0) {
+                    counts[indexOf(Math.min(other.valueAt(i), highestTrackable))] += other.counts[i];
+                }
+            }
+        }
+        totalCount += other.totalCount;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0L);
+        totalCount = 0;
+        min = Long.MAX_VALUE;
+        max = 0;
+    }
+
+    public long getCount() {
+        return totalCount;
+    }
+
+    public int getSignificantDigits() {
+        return significantDigits;
+    }
+
+    public Duration getHighestTrackableLatency() {
+        return Duration.nanoseconds(highestTrackable);
+    }
+
+    public Duration getMin() {
+        return Duration.nanoseconds(getMinInNanoseconds());
+    }
+
+    public long getMinInNanoseconds() {
+        checkNotEmpty();
+        return min;
+    }
+
+    public Duration getMax() {
+        return Duration.nanoseconds(getMaxInNanoseconds());
+    }
+
+    public long getMaxInNanoseconds() {
+        checkNotEmpty();
+        return max;
+    }
+
+    public double getMeanInNanoseconds() {
+        checkNotEmpty();
+        double sum = 0.0;
+        for (int i = 0; i < counts.length; ++i) {
+            if (counts[i] != 0) {
+                long lowest = valueAt(i);
+                sum += (lowest + (sizeOfRangeAt(i) >> 1)) * (double) counts[i];
+            }
+        }
+        return Math.max(min, Math.min(max, sum / totalCount));
+    }
+
+    public Duration getMean() {
+        return Duration.nanoseconds(Math.round(getMeanInNanoseconds()));
+    }
+
+    public Duration getValueAtPercentile(double percentile) {
+        return Duration.nanoseconds(getNanosecondsAtPercentile(percentile));
+    }
+
+    public long getNanosecondsAtPercentile(double percentile) {
+        if (!(percentile >= 0.0 && percentile <= 100.0)) {
+            throw new IllegalArgumentException("A percentile must be between 0 and 100, got " + percentile);
+        }
+        checkNotEmpty();
+
+        long countAtPercentile = Math.max(1, (long) Math.ceil(percentile / 100.0 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < counts.length; ++i) {
+            seen += counts[i];
+            if (seen >= countAtPercentile) {
+                long highestEquivalent = valueAt(i) + sizeOfRangeAt(i) - 1;
+                return Math.max(min, Math.min(max, highestEquivalent));
+            }
+        }
+        return max;
+    }
+
+    public int getEncodedSize() {
+        ByteCounter counter = new ByteCounter();
+        encode(counter);
+        return counter.size;
+    }
+
+    public void encodeInto(ByteBuffer buffer) {
+        encode(new BufferWriter(buffer));
+    }
+
+    private void encode(Writer writer) {
+        writer.writeByte(ENCODING_VERSION);
+        writer.writeByte((byte) significantDigits);
+        writer.writeVarLong(highestTrackable);
+        writer.writeVarLong(totalCount);
+        writer.writeVarLong(totalCount == 0 ? 0 : min);
+        writer.writeVarLong(max);
+
+        int length = counts.length;
+        while (length > 0 && counts[length - 1] == 0) {
+            length--;
+        }
+        writer.writeVarLong(length);
+
+        // Runs of empty buckets are written as a single negative number
+        int i = 0;
+        while (i < length) {
+            if (counts[i] == 0) {
+                int run = 0;
+                while (counts[i] == 0) {
+                    run++;
+                    i++;
+                }
+                writer.writeVarLong(zigZag(-run));
+            } else {
+                writer.writeVarLong(zigZag(counts[i++]));
+            }
+        }
+    }
+
+    private int indexOf(long value) {
+        int bucketIndex = leadingZeroCountBase - Long.numberOfLeadingZeros(value | subBucketMask);
+        int subBucketIndex = (int) (value >>> bucketIndex);
+        return ((bucketIndex + 1) << subBucketHalfCountMagnitude) + (subBucketIndex - subBucketHalfCount);
+    }
+
+    private long valueAt(int index) {
+        int bucketIndex = (index >> subBucketHalfCountMagnitude) - 1;
+        int subBucketIndex = (index & (subBucketHalfCount - 1)) + subBucketHalfCount;
+        if (bucketIndex < 0) {
+            subBucketIndex -= subBucketHalfCount;
+            bucketIndex = 0;
+        }
+        return (long) subBucketIndex << bucketIndex;
+    }
+
+    private long sizeOfRangeAt(int index) {
+        int bucketIndex = Math.max(0, (index >> subBucketHalfCountMagnitude) - 1);
+        return 1L << bucketIndex;
+    }
+
+    private void checkNotEmpty() {
+        if (totalCount == 0) {
+            throw new IllegalStateException("An empty histogram has no statistics");
+        }
+    }
+
+    public static LatencyHistogram of(Duration highestTrackableLatency, int significantDigits) {
+        return ofNanoseconds(highestTrackableLatency.toNanoseconds(), significantDigits);
+    }
+
+    private static LatencyHistogram ofNanoseconds(long highestTrackable, int significantDigits) {
+        if (significantDigits < 1 || significantDigits > MAX_SIGNIFICANT_DIGITS) {
+            throw new IllegalArgumentException("The significant digits must be between 1 and " + MAX_SIGNIFICANT_DIGITS);
+        }
+        if (highestTrackable < 1) {
+            throw new IllegalArgumentException("The highest trackable latency must be at least one nanosecond");
+        }
+        return new LatencyHistogram(highestTrackable, significantDigits);
+    }
+
+    public static LatencyHistogram decodeFrom(ByteBuffer buffer) {
+        try {
+            if (buffer.get() != ENCODING_VERSION) {
+                throw new IllegalArgumentException("Unknown histogram encoding");
+            }
+            int significantDigits = buffer.get();
+            LatencyHistogram histogram = ofNanoseconds(readVarLong(buffer), significantDigits);
+            histogram.totalCount = readVarLong(buffer);
+            long min = readVarLong(buffer);
+            histogram.min = histogram.totalCount == 0 ? Long.MAX_VALUE : min;
+            histogram.max = readVarLong(buffer);
+
+            long length = readVarLong(buffer);
+            if (length > histogram.counts.length) {
+                throw new IllegalArgumentException("The encoded histogram has too many buckets");
+            }
+            int i = 0;
+            while (i < length) {
+                long count = unZigZag(readVarLong(buffer));
+                if (count < 1) {
+                    i += (int) -count;
+                } else {
+                    histogram.counts[i++] = count;
+                }
+            }
+            return histogram;
+        } catch (BufferUnderflowException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("The encoded histogram is truncated or corrupted", e);
+        }
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static long readVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed variable-length number");
+    }
+
+    @Override
+    public String toString() {
+        if (totalCount == 0) {
+            return "empty histogram";
+        }
+        return totalCount + " latencies, p50=" + getNanosecondsAtPercentile(50) + "ns, p99=" + getNanosecondsAtPercentile(99) + "ns, max="
+                + max + "ns";
+    }
+
+    private interface Writer {
+
+        void writeByte(byte value);
+
+        default void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                writeByte((byte) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            writeByte((byte) value);
+        }
+    }
+
+    private static class ByteCounter implements Writer {
+
+        private int size;
+
+        @Override
+        public void writeByte(byte value) {
+            size++;
+        }
+    }
+
+    private static class BufferWriter implements Writer {
+
+        private final ByteBuffer buffer;
+
+        private BufferWriter(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void writeByte(byte value) {
+            buffer.put(value);
+        }
+    }
+}
@@ -32,44 +32,48 @@ public class Angle implements Comparable<Angle> {
         return Math.toRadians(angleInDegrees);
     }
 
+    public double fastSin() {
+        return FastTrigonometry.sin(angleInDegrees);
+    }
+
+    public double fastCos() {
+        return FastTrigonometry.cos(angleInDegrees);
+    }
+
+    public void sinCos(double[] sineAndCosine) {
+        FastTrigonometry.sinCos(angleInDegrees, sineAndCosine);
+    }
+
     public Angle invert() {
         return new Angle(-angleInDegrees);
     }
 
     public Angle normalize() {
-        double c = angleInDegrees % 360;
-        double normalizedAngleInDegrees = c >= 0 ? c : 360.0 + c;
-        return new Angle(normalizedAngleInDegrees);
+        return new Angle(AngleMath.normalizeDegrees(angleInDegrees));
     }
 
     public boolean isInFirstQuadrant() {
-        double normalizedAngleInDegrees = normalize().toDegrees();
-        return 0 < normalizedAngleInDegrees && normalizedAngleInDegrees < 90;
+        return AngleMath.quadrant(angleInDegrees) == 1;
     }
 
     public boolean isInSecondQuadrant() {
-        double normalizedAngleInDegrees = normalize().toDegrees();
-        return 90 < normalizedAngleInDegrees && normalizedAngleInDegrees < 180;
+        return AngleMath.quadrant(angleInDegrees) == 2;
     }
 
     public boolean isInThirdQuadrant() {
-        double normalizedAngleInDegrees = normalize().toDegrees();
-        return 180 < normalizedAngleInDegrees && normalizedAngleInDegrees < 270;
+        return AngleMath.quadrant(angleInDegrees) == 3;
     }
 
     public boolean isInFourthQuadrant() {
-        double normalizedAngleInDegrees = normalize().toDegrees();
-        return 270 < normalizedAngleInDegrees && normalizedAngleInDegrees < 360;
+        return AngleMath.quadrant(angleInDegrees) == 4;
     }
 
     public boolean isOnXAxis() {
-        Angle normalized = normalize();
-        return normalized.equals(ZERO_DEGREES) || normalized.equals(DEGREES_180);
+        return AngleMath.isOnXAxis(angleInDegrees);
     }
 
     public boolean isOnYAxis() {
-        Angle normalized = normalize();
-        return normalized.equals(DEGREES_90) || normalized.equals(DEGREES_270);
+        return AngleMath.isOnYAxis(angleInDegrees);
     }
 
     public static Angle fromRadians(double angleInRadians) {
@@ -0,0 +1,88 @@
+package ca.nexapp.math.units;
+
+public class AngleMath {
+
+    public static final int ON_AN_AXIS = 0;
+
+    private static final double FULL_TURN_IN_DEGREES = 360.0;
+    private static final double FULL_TURN_IN_RADIANS = 2.0 * Math.PI;
+
+    private AngleMath() {
+    }
+
+    public static double normalizeDegrees(double degrees) {
+        return normalize(degrees, FULL_TURN_IN_DEGREES);
+    }
+
+    public static double normalizeRadians(double radians) {
+        return normalize(radians, FULL_TURN_IN_RADIANS);
+    }
+
+    public static void normalizeDegrees(double[] degrees, double[] normalized) {
+        normalize(degrees, normalized, FULL_TURN_IN_DEGREES);
+    }
+
+    public static void normalizeRadians(double[] radians, double[] normalized) {
+        normalize(radians, normalized, FULL_TURN_IN_RADIANS);
+    }
+
+    public static double wrapDegreesTo180(double degrees) {
+        return wrap(degrees, FULL_TURN_IN_DEGREES);
+    }
+
+    public static double wrapRadiansToPi(double radians) {
+        return wrap(radians, FULL_TURN_IN_RADIANS);
+    }
+
+    public static double differenceInDegrees(double fromDegrees, double toDegrees) {
+        return wrapDegreesTo180(toDegrees - fromDegrees);
+    }
+
+    public static double differenceInRadians(double fromRadians, double toRadians) {
+        return wrapRadiansToPi(toRadians - fromRadians);
+    }
+
+    public static int quadrant(double degrees) {
+        double normalized = normalizeDegrees(degrees);
+        if (normalized == 0.0 || normalized == 90.0 || normalized == 180.0 || normalized == 270.0 || Double.isNaN(normalized)) {
+            return ON_AN_AXIS;
+        }
+        return (int) (normalized / 90.0) + 1;
+    }
+
+    public static boolean isOnXAxis(double degrees) {
+        double normalized = normalizeDegrees(degrees);
+        return normalized == 0.0 || normalized == 180.0;
+    }
+
+    public static boolean isOnYAxis(double degrees) {
+        double normalized = normalizeDegrees(degrees);
+        return normalized == 90.0 || normalized == 270.0;
+    }
+
+    private static void normalize(double[] angles, double[] normalized, double fullTurn) {
+        if (normalized.length < angles.length) {
+            throw new IllegalArgumentException("The output array must hold at least " + angles.length + " values");
+        }
+        for (int i = 0; i < angles.length; ++i) {
+            normalized[i] = normalize(angles[i], fullTurn);
+        }
+    }
+
+    private static double normalize(double angle, double fullTurn) {
+        double remainder = angle % fullTurn;
+        double normalized = remainder >= 0.0 ? remainder + 0.0 : fullTurn + remainder;
+        return normalized == fullTurn ? 0.0 : normalized;
+    }
+
+    // Works on the remainder itself rather than shifting by a half turn, which would lose the precision of angles close to zero
+    private static double wrap(double angle, double fullTurn) {
+        double remainder = angle % fullTurn;
+        if (remainder >= fullTurn / 2.0) {
+            return remainder - fullTurn;
+        } else if (remainder < -fullTurn / 2.0) {
+            return remainder + fullTurn;
+        }
+        return remainder;
+    }
+}
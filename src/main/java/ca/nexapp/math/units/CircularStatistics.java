@@ -0,0 +1,76 @@
+package ca.nexapp.math.units;
+
+import java.util.function.Consumer;
+
+public class CircularStatistics implements Consumer<Angle> {
+
+    private long count;
+    private double sineSum;
+    private double cosineSum;
+
+    @Override
+    public void accept(Angle angle) {
+        accept(angle.toDegrees());
+    }
+
+    public void accept(double degrees) {
+        sineSum += FastTrigonometry.sin(degrees);
+        cosineSum += FastTrigonometry.cos(degrees);
+        count++;
+    }
+
+    public void acceptAll(double[] degrees) {
+        double sines = 0.0;
+        double cosines = 0.0;
+        for (double angle : degrees) {
+            sines += FastTrigonometry.sin(angle);
+            cosines += FastTrigonometry.cos(angle);
+        }
+        sineSum += sines;
+        cosineSum += cosines;
+        count += degrees.length;
+    }
+
+    public CircularStatistics combine(CircularStatistics other) {
+        sineSum += other.sineSum;
+        cosineSum += other.cosineSum;
+        count += other.count;
+        return this;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public Angle getMeanDirection() {
+        checkNotEmpty();
+        return Angle.fromDegrees(AngleMath.normalizeDegrees(Math.toDegrees(Math.atan2(sineSum, cosineSum))));
+    }
+
+    public double getMeanResultantLength() {
+        checkNotEmpty();
+        return Math.min(1.0, Math.hypot(sineSum, cosineSum) / count);
+    }
+
+    public double getCircularVariance() {
+        return 1.0 - getMeanResultantLength();
+    }
+
+    public Angle getCircularStandardDeviation() {
+        return Angle.fromRadians(Math.sqrt(-2.0 * Math.log(getMeanResultantLength())));
+    }
+
+    private void checkNotEmpty() {
+        if (count == 0) {
+            throw new IllegalStateException("Must have at least one angle to calculate circular statistics");
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (count == 0) {
+            return "no angles";
+        }
+        return count + " angles, mean " + getMeanDirection().toDegrees() + "°, variance " + getCircularVariance();
+    }
+}
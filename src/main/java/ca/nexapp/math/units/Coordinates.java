@@ -8,7 +8,7 @@ import java.util.Objects;
 
 public class Coordinates {
 
-    private static final Length MEAN_EARTH_RADIUS = Length.fromKilometers(6_371);
+    public static final Length MEAN_EARTH_RADIUS = Length.fromKilometers(6_371);
 
     private Angle latitude;
     private Angle longitude;
@@ -31,7 +31,9 @@ public class Coordinates {
         double lat2 = destination.latitude.toRadians();
         double lon1 = longitude.toRadians();
         double lon2 = destination.longitude.toRadians();
-        double distance = acos(sin(lat1) * sin(lat2) + cos(lat1) * cos(lat2) * cos(lon1 - lon2)) * MEAN_EARTH_RADIUS.toKilometers();
+        double cosine = sin(lat1) * sin(lat2) + cos(lat1) * cos(lat2) * cos(lon1 - lon2);
+        // Rounding can push the cosine of nearby or antipodal positions just beyond ±1, where acos is NaN
+        double distance = acos(Math.max(-1.0, Math.min(1.0, cosine))) * MEAN_EARTH_RADIUS.toKilometers();
         return Length.fromKilometers(distance);
     }
 
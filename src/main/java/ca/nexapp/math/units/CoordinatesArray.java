@@ -0,0 +1,230 @@
+package ca.nexapp.math.units;
+
+import static java.lang.Math.asin;
+import static java.lang.Math.atan2;
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+import static java.lang.Math.sqrt;
+import static java.lang.Math.toDegrees;
+import static java.lang.Math.toRadians;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+import ca.nexapp.math.events.BulkOperation;
+import ca.nexapp.math.events.BulkOperations;
+
+public class CoordinatesArray {
+
+    private static final double E7 = 10_000_000.0;
+    private static final double EARTH_RADIUS_IN_METERS = Coordinates.MEAN_EARTH_RADIUS.toMeters();
+
+    private final int[] latitudesE7;
+    private final int[] longitudesE7;
+    private final int offset;
+    private final int size;
+
+    private CoordinatesArray(int[] latitudesE7, int[] longitudesE7, int offset, int size) {
+        this.latitudesE7 = latitudesE7;
+        this.longitudesE7 = longitudesE7;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Coordinates get(int index) {
+        return Coordinates.locatedAt(getLatitude(index), getLongitude(index));
+    }
+
+    public double getLatitude(int index) {
+        return latitudesE7[position(index)] / E7;
+    }
+
+    public double getLongitude(int index) {
+        return longitudesE7[position(index)] / E7;
+    }
+
+    public int getLatitudeE7(int index) {
+        return latitudesE7[position(index)];
+    }
+
+    public int getLongitudeE7(int index) {
+        return longitudesE7[position(index)];
+    }
+
+    public void set(int index, Coordinates coordinates) {
+        set(index, coordinates.getLatitude().toDegrees(), coordinates.getLongitude().toDegrees());
+    }
+
+    public void set(int index, double latitude, double longitude) {
+        int position = position(index);
+        latitudesE7[position] = toLatitudeE7(latitude);
+        longitudesE7[position] = toLongitudeE7(longitude);
+    }
+
+    public void setE7(int index, int latitudeE7, int longitudeE7) {
+        int position = position(index);
+        latitudesE7[position] = latitudeE7;
+        longitudesE7[position] = longitudeE7;
+    }
+
+    public CoordinatesArray slice(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Invalid slice [" + fromIndex + ", " + toIndex + ") of " + size + " coordinates");
+        }
+        return new CoordinatesArray(latitudesE7, longitudesE7, offset + fromIndex, toIndex - fromIndex);
+    }
+
+    public List<Coordinates> asList() {
+        return new CoordinatesList();
+    }
+
+    public void distancesTo(Coordinates origin, double[] distancesInMeters) {
+        checkOutputLength(distancesInMeters.length);
+        try (BulkOperation operation = BulkOperations.begin("CoordinatesArray.distancesTo", size)) {
+            double originLatitude = origin.getLatitude().toRadians();
+            double originLongitude = origin.getLongitude().toRadians();
+            double cosOriginLatitude = cos(originLatitude);
+
+            for (int i = 0; i < size; ++i) {
+                double haversine = haversine(originLatitude, originLongitude, cosOriginLatitude, offset + i);
+                distancesInMeters[i] = 2.0 * EARTH_RADIUS_IN_METERS * asin(Math.min(1.0, sqrt(haversine)));
+            }
+        }
+    }
+
+    public int[] findInRange(Coordinates origin, Length range) {
+        try (BulkOperation operation = BulkOperations.begin("CoordinatesArray.findInRange", size)) {
+            double originLatitude = origin.getLatitude().toRadians();
+            double originLongitude = origin.getLongitude().toRadians();
+            double cosOriginLatitude = cos(originLatitude);
+            double angularRange = Math.min(range.toMeters() / EARTH_RADIUS_IN_METERS, Math.PI);
+            double halfChord = sin(angularRange / 2.0);
+            double haversineRange = halfChord * halfChord;
+
+            int[] matches = new int[16];
+            int count = 0;
+            for (int i = 0; i < size; ++i) {
+                if (haversine(originLatitude, originLongitude, cosOriginLatitude, offset + i) < haversineRange) {
+                    if (count == matches.length) {
+                        matches = Arrays.copyOf(matches, count * 2);
+                    }
+                    matches[count++] = i;
+                }
+            }
+            return Arrays.copyOf(matches, count);
+        }
+    }
+
+    public void bearingsFrom(Coordinates origin, double[] bearingsInDegrees) {
+        checkOutputLength(bearingsInDegrees.length);
+        try (BulkOperation operation = BulkOperations.begin("CoordinatesArray.bearingsFrom", size)) {
+            double originLatitude = origin.getLatitude().toRadians();
+            double originLongitude = origin.getLongitude().toRadians();
+            double sinOriginLatitude = sin(originLatitude);
+            double cosOriginLatitude = cos(originLatitude);
+
+            for (int i = 0; i < size; ++i) {
+                double latitude = toRadians(latitudesE7[offset + i] / E7);
+                double longitudeDelta = toRadians(longitudesE7[offset + i] / E7) - originLongitude;
+                double cosLatitude = cos(latitude);
+                double y = sin(longitudeDelta) * cosLatitude;
+                double x = cosOriginLatitude * sin(latitude) - sinOriginLatitude * cosLatitude * cos(longitudeDelta);
+                double bearing = toDegrees(atan2(y, x));
+                bearingsInDegrees[i] = bearing < 0.0 ? bearing + 360.0 : bearing;
+            }
+        }
+    }
+
+    private double haversine(double originLatitude, double originLongitude, double cosOriginLatitude, int position) {
+        double latitude = toRadians(latitudesE7[position] / E7);
+        double longitude = toRadians(longitudesE7[position] / E7);
+        double halfLatitudeSine = sin((latitude - originLatitude) / 2.0);
+        double halfLongitudeSine = sin((longitude - originLongitude) / 2.0);
+        return halfLatitudeSine * halfLatitudeSine + cosOriginLatitude * cos(latitude) * halfLongitudeSine * halfLongitudeSine;
+    }
+
+    private int position(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of " + size + " coordinates");
+        }
+        return offset + index;
+    }
+
+    private void checkOutputLength(int length) {
+        if (length < size) {
+            throw new IllegalArgumentException("The output array must hold at least " + size + " values");
+        }
+    }
+
+    private static int toLatitudeE7(double latitude) {
+        if (!(latitude >= -90.0 && latitude <= 90.0)) {
+            throw new IllegalArgumentException("A latitude must be between -90 and 90 degrees, got " + latitude);
+        }
+        return (int) Math.round(latitude * E7);
+    }
+
+    private static int toLongitudeE7(double longitude) {
+        if (!Double.isFinite(longitude)) {
+            throw new IllegalArgumentException("A longitude must be finite, got " + longitude);
+        }
+        double wrapped = longitude;
+        if (wrapped < -180.0 || wrapped > 180.0) {
+            wrapped = ((longitude + 180.0) % 360.0 + 360.0) % 360.0 - 180.0;
+        }
+        return (int) Math.round(wrapped * E7);
+    }
+
+    public static CoordinatesArray ofSize(int size) {
+        return new CoordinatesArray(new int[size], new int[size], 0, size);
+    }
+
+    public static CoordinatesArray of(Coordinates... coordinates) {
+        return from(Arrays.asList(coordinates));
+    }
+
+    public static CoordinatesArray from(List<Coordinates> coordinates) {
+        CoordinatesArray array = ofSize(coordinates.size());
+        int index = 0;
+        for (Coordinates location : coordinates) {
+            array.set(index++, location);
+        }
+        return array;
+    }
+
+    public static CoordinatesArray fromDegrees(double[] latitudes, double[] longitudes) {
+        if (latitudes.length != longitudes.length) {
+            throw new IllegalArgumentException("Must have as many latitudes as longitudes");
+        }
+        CoordinatesArray array = ofSize(latitudes.length);
+        for (int i = 0; i < latitudes.length; ++i) {
+            array.set(i, latitudes[i], longitudes[i]);
+        }
+        return array;
+    }
+
+    private class CoordinatesList extends AbstractList<Coordinates> implements RandomAccess {
+
+        @Override
+        public Coordinates get(int index) {
+            return CoordinatesArray.this.get(index);
+        }
+
+        @Override
+        public Coordinates set(int index, Coordinates element) {
+            Coordinates previous = CoordinatesArray.this.get(index);
+            CoordinatesArray.this.set(index, element);
+            return previous;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package ca.nexapp.math.units;
+
+public class DataRate implements Comparable<DataRate> {
+
+    private static final double NANOS_IN_A_SECOND = 1_000_000_000.0;
+
+    public static final Unit<DataRate> BITS_PER_SECOND = Unit.canonical("bit/s");
+    public static final Unit<DataRate> KILOBITS_PER_SECOND = Unit.scaled("kbit/s", 1e3);
+    public static final Unit<DataRate> MEGABITS_PER_SECOND = Unit.scaled("Mbit/s", 1e6);
+    public static final Unit<DataRate> GIGABITS_PER_SECOND = Unit.scaled("Gbit/s", 1e9);
+    public static final Unit<DataRate> BYTES_PER_SECOND = Unit.scaled("B/s", DigitalStorage.bytes(1).toBits());
+    public static final Unit<DataRate> KILOBYTES_PER_SECOND = Unit.scaled("KiB/s", DigitalStorage.kilobytes(1).toBits());
+    public static final Unit<DataRate> MEGABYTES_PER_SECOND = Unit.scaled("MiB/s", DigitalStorage.megabytes(1).toBits());
+    public static final Unit<DataRate> GIGABYTES_PER_SECOND = Unit.scaled("GiB/s", DigitalStorage.gigabytes(1).toBits());
+
+    public static final Dimension<DataRate> DIMENSION = Dimension.of("data rate", BITS_PER_SECOND, KILOBITS_PER_SECOND,
+            MEGABITS_PER_SECOND, GIGABITS_PER_SECOND, BYTES_PER_SECOND, KILOBYTES_PER_SECOND, MEGABYTES_PER_SECOND,
+            GIGABYTES_PER_SECOND);
+
+    private final double bitsPerSecond;
+
+    private DataRate(double bitsPerSecond) {
+        this.bitsPerSecond = bitsPerSecond;
+    }
+
+    public DataRate add(DataRate augend) {
+        return new DataRate(bitsPerSecond + augend.bitsPerSecond);
+    }
+
+    public DataRate subtract(DataRate subtrahend) {
+        return new DataRate(bitsPerSecond - subtrahend.bitsPerSecond);
+    }
+
+    public Duration timeToTransfer(DigitalStorage storage) {
+        if (bitsPerSecond <= 0.0) {
+            throw new IllegalStateException("Nothing can be transferred at " + this);
+        }
+        return Duration.nanoseconds(Math.round(storage.toBits() / bitsPerSecond * NANOS_IN_A_SECOND));
+    }
+
+    public DigitalStorage transferableIn(Duration duration) {
+        return DigitalStorage.bits((long) (bitsPerSecond * (duration.toNanoseconds() / NANOS_IN_A_SECOND)));
+    }
+
+    public double to(Unit<DataRate> unit) {
+        return BITS_PER_SECOND.convert(bitsPerSecond, unit);
+    }
+
+    public double toBitsPerSecond() {
+        return bitsPerSecond;
+    }
+
+    public double toBytesPerSecond() {
+        return to(BYTES_PER_SECOND);
+    }
+
+    public double toKilobytesPerSecond() {
+        return to(KILOBYTES_PER_SECOND);
+    }
+
+    public double toMegabytesPerSecond() {
+        return to(MEGABYTES_PER_SECOND);
+    }
+
+    public double toGigabytesPerSecond() {
+        return to(GIGABYTES_PER_SECOND);
+    }
+
+    public static DataRate of(double value, Unit<DataRate> unit) {
+        return new DataRate(unit.convert(value, BITS_PER_SECOND));
+    }
+
+    public static DataRate of(DigitalStorage storage, Duration duration) {
+        long nanoseconds = duration.toNanoseconds();
+        if (nanoseconds <= 0) {
+            throw new IllegalArgumentException("A data rate needs a positive duration, got " + duration);
+        }
+        return new DataRate(storage.toBits() * NANOS_IN_A_SECOND / nanoseconds);
+    }
+
+    public static DataRate bitsPerSecond(double bitsPerSecond) {
+        return new DataRate(bitsPerSecond);
+    }
+
+    public static DataRate bytesPerSecond(double bytesPerSecond) {
+        return of(bytesPerSecond, BYTES_PER_SECOND);
+    }
+
+    public static DataRate kilobytesPerSecond(double kilobytesPerSecond) {
+        return of(kilobytesPerSecond, KILOBYTES_PER_SECOND);
+    }
+
+    public static DataRate megabytesPerSecond(double megabytesPerSecond) {
+        return of(megabytesPerSecond, MEGABYTES_PER_SECOND);
+    }
+
+    public static DataRate gigabytesPerSecond(double gigabytesPerSecond) {
+        return of(gigabytesPerSecond, GIGABYTES_PER_SECOND);
+    }
+
+    @Override
+    public int compareTo(DataRate other) {
+        return Double.compare(bitsPerSecond, other.bitsPerSecond);
+    }
+
+    @Override
+    public int hashCode() {
+        return Double.hashCode(bitsPerSecond);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof DataRate)) {
+            return false;
+        }
+
+        DataRate other = (DataRate) obj;
+        return Double.compare(bitsPerSecond, other.bitsPerSecond) == 0;
+    }
+
+    @Override
+    public String toString() {
+        return bitsPerSecond + " bit/s";
+    }
+}
@@ -0,0 +1,83 @@
+package ca.nexapp.math.units;
+
+import java.util.Arrays;
+
+/**
+ * Throughput over a sliding window split in equal slots. Samples are added to the slot of their timestamp (in nanoseconds,
+ * e.g. from {@link System#nanoTime()}), and slots older than the window are recycled, so recording never allocates. Samples
+ * older than the window are ignored. Not thread-safe.
+ */
+public class DataRateMeter {
+
+    private static final double NANOS_IN_A_SECOND = 1_000_000_000.0;
+
+    private final long slotNanoseconds;
+    private final long[] slotIds;
+    private final long[] slotBits;
+
+    private DataRateMeter(long slotNanoseconds, int slots) {
+        this.slotNanoseconds = slotNanoseconds;
+        slotIds = new long[slots];
+        slotBits = new long[slots];
+        Arrays.fill(slotIds, Long.MIN_VALUE);
+    }
+
+    public void recordBytes(long bytes, long timestampInNanoseconds) {
+        recordBits(bytes * Byte.SIZE, timestampInNanoseconds);
+    }
+
+    public void record(DigitalStorage storage, long timestampInNanoseconds) {
+        recordBits(storage.toBits(), timestampInNanoseconds);
+    }
+
+    public void recordBits(long bits, long timestampInNanoseconds) {
+        long slot = Math.floorDiv(timestampInNanoseconds, slotNanoseconds);
+        int index = (int) Math.floorMod(slot, (long) slotIds.length);
+        if (slotIds[index] == slot) {
+            slotBits[index] += bits;
+        } else if (slotIds[index] < slot) {
+            slotIds[index] = slot;
+            slotBits[index] = bits;
+        }
+    }
+
+    public double getBitsPerSecond(long nowInNanoseconds) {
+        long currentSlot = Math.floorDiv(nowInNanoseconds, slotNanoseconds);
+        long oldestSlot = currentSlot - slotIds.length;
+        long bits = 0;
+        for (int i = 0; i < slotIds.length; ++i) {
+            if (slotIds[i] > oldestSlot && slotIds[i] <= currentSlot) {
+                bits += slotBits[i];
+            }
+        }
+        return bits * NANOS_IN_A_SECOND / getWindowInNanoseconds();
+    }
+
+    public DataRate getRate(long nowInNanoseconds) {
+        return DataRate.bitsPerSecond(getBitsPerSecond(nowInNanoseconds));
+    }
+
+    public Duration getWindow() {
+        return Duration.nanoseconds(getWindowInNanoseconds());
+    }
+
+    private long getWindowInNanoseconds() {
+        return slotNanoseconds * slotIds.length;
+    }
+
+    public void reset() {
+        Arrays.fill(slotIds, Long.MIN_VALUE);
+        Arrays.fill(slotBits, 0L);
+    }
+
+    public static DataRateMeter over(Duration window, int slots) {
+        if (slots <= 0) {
+            throw new IllegalArgumentException("A rate meter needs at least one slot");
+        }
+        long slotNanoseconds = window.toNanoseconds() / slots;
+        if (slotNanoseconds <= 0) {
+            throw new IllegalArgumentException("The window of a rate meter must last at least one nanosecond per slot");
+        }
+        return new DataRateMeter(slotNanoseconds, slots);
+    }
+}
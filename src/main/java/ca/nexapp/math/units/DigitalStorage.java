@@ -11,6 +11,17 @@ public class DigitalStorage implements Comparable<DigitalStorage> {
     private static final long BITS_IN_A_TERABYTE = BITS_IN_A_GIGABYTE * 1024;
     private static final long BITS_IN_A_PETABYTE = BITS_IN_A_TERABYTE * 1024;
 
+    public static final Unit<DigitalStorage> BITS = Unit.canonical("bit");
+    public static final Unit<DigitalStorage> BYTES = Unit.scaled("B", BITS_IN_A_BYTE);
+    public static final Unit<DigitalStorage> KILOBYTES = Unit.scaled("KiB", BITS_IN_A_KILOBYTE);
+    public static final Unit<DigitalStorage> MEGABYTES = Unit.scaled("MiB", BITS_IN_A_MEGABYTE);
+    public static final Unit<DigitalStorage> GIGABYTES = Unit.scaled("GiB", BITS_IN_A_GIGABYTE);
+    public static final Unit<DigitalStorage> TERABYTES = Unit.scaled("TiB", BITS_IN_A_TERABYTE);
+    public static final Unit<DigitalStorage> PETABYTES = Unit.scaled("PiB", BITS_IN_A_PETABYTE);
+
+    public static final Dimension<DigitalStorage> DIMENSION = Dimension.of("digital storage", BITS, BYTES, KILOBYTES, MEGABYTES,
+            GIGABYTES, TERABYTES, PETABYTES);
+
     private long bits;
 
     private DigitalStorage(long bits) {
@@ -25,6 +36,18 @@ public class DigitalStorage implements Comparable<DigitalStorage> {
         return new DigitalStorage(bits - subtrahend.bits);
     }
 
+    public DataRate per(Duration duration) {
+        return DataRate.of(this, duration);
+    }
+
+    public double to(Unit<DigitalStorage> unit) {
+        return BITS.convert(bits, unit);
+    }
+
+    public Quantity<DigitalStorage> toQuantity() {
+        return Quantity.of(bits, BITS);
+    }
+
     public long toBits() {
         return bits;
     }
@@ -53,6 +76,14 @@ public class DigitalStorage implements Comparable<DigitalStorage> {
         return bits / BITS_IN_A_PETABYTE;
     }
 
+    public static DigitalStorage of(double value, Unit<DigitalStorage> unit) {
+        return new DigitalStorage(Math.round(unit.convert(value, BITS)));
+    }
+
+    public static DigitalStorage of(Quantity<DigitalStorage> quantity) {
+        return new DigitalStorage(Math.round(quantity.to(BITS)));
+    }
+
     public static DigitalStorage bits(long bits) {
         return new DigitalStorage(bits);
     }
@@ -0,0 +1,37 @@
+package ca.nexapp.math.units;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class DigitalStorageAdder {
+
+    private final LongAdder bits = new LongAdder();
+
+    public void add(DigitalStorage storage) {
+        bits.add(storage.toBits());
+    }
+
+    public void addBits(long bits) {
+        this.bits.add(bits);
+    }
+
+    public void addBytes(long bytes) {
+        bits.add(bytes * Byte.SIZE);
+    }
+
+    public DigitalStorage sum() {
+        return DigitalStorage.bits(bits.sum());
+    }
+
+    public DigitalStorage sumThenReset() {
+        return DigitalStorage.bits(bits.sumThenReset());
+    }
+
+    public void reset() {
+        bits.reset();
+    }
+
+    @Override
+    public String toString() {
+        return bits + " bits";
+    }
+}
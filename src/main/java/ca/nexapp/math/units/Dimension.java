@@ -0,0 +1,172 @@
+package ca.nexapp.math.units;
+
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import ca.nexapp.math.kernels.BulkKernels;
+
+public class Dimension<Q> {
+
+    private final String name;
+    private final List<Unit<Q>> units;
+    private final Unit<Q> canonicalUnit;
+    private final int size;
+
+    private final double[] factors;
+    private final boolean[] divisions;
+    private final boolean affine;
+
+    @SafeVarargs
+    private Dimension(String name, Unit<Q>... units) {
+        this.name = name;
+        this.units = Collections.unmodifiableList(Arrays.asList(units.clone()));
+        size = units.length;
+        canonicalUnit = this.units.stream().filter(Unit::isCanonical).findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("The " + name + " dimension needs a canonical unit"));
+        affine = this.units.stream().anyMatch(unit -> unit.getOffset() != 0.0);
+
+        for (int i = 0; i < size; ++i) {
+            units[i].attachTo(this, i);
+        }
+
+        factors = new double[size * size];
+        divisions = new boolean[size * size];
+        for (Unit<Q> source : units) {
+            for (Unit<Q> target : units) {
+                precompute(source, target);
+            }
+        }
+    }
+
+    private void precompute(Unit<Q> source, Unit<Q> target) {
+        int pair = source.getIndex() * size + target.getIndex();
+        if (source == target) {
+            factors[pair] = 1.0;
+        } else if (source.isCanonical()) {
+            // Same operation as converting by hand, which keeps truncated conversions exact
+            factors[pair] = target.getScale();
+            divisions[pair] = true;
+        } else if (target.isCanonical()) {
+            factors[pair] = source.getScale();
+        } else {
+            factors[pair] = source.getScale() / target.getScale();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<Unit<Q>> getUnits() {
+        return units;
+    }
+
+    public Unit<Q> getCanonicalUnit() {
+        return canonicalUnit;
+    }
+
+    public Unit<Q> getUnit(String symbol) {
+        for (Unit<Q> unit : units) {
+            if (unit.getSymbol().equals(symbol)) {
+                return unit;
+            }
+        }
+        throw new IllegalArgumentException("The " + name + " dimension has no unit " + symbol);
+    }
+
+    public double getFactor(Unit<Q> source, Unit<Q> target) {
+        return convert(1.0, source, target) - convert(0.0, source, target);
+    }
+
+    double convert(double value, Unit<Q> source, Unit<Q> target) {
+        int pair = pairOf(source, target);
+        if (affine) {
+            return convertAffine(value, source, target);
+        }
+        return divisions[pair] ? value / factors[pair] : value * factors[pair];
+    }
+
+    // Goes through the canonical unit with the same operations as converting by hand, such as c * 9 / 5 + 32
+    private double convertAffine(double value, Unit<Q> source, Unit<Q> target) {
+        if (source == target) {
+            return value;
+        }
+        double canonicalValue = source == canonicalUnit ? value : source.toCanonicalValue(value);
+        return target == canonicalUnit ? canonicalValue : target.fromCanonicalValue(canonicalValue);
+    }
+
+    void convert(double[] values, int offset, Unit<Q> source, Unit<Q> target, double[] converted, int convertedOffset,
+            int length) {
+        if (offset < 0 || convertedOffset < 0 || length < 0 || offset + length > values.length) {
+            throw new IndexOutOfBoundsException("Invalid range [" + offset + ", " + (offset + length) + ") of " + values.length);
+        }
+        if (convertedOffset + length > converted.length) {
+            throw new IllegalArgumentException("The output array must hold at least " + (convertedOffset + length) + " values");
+        }
+
+        int pair = pairOf(source, target);
+        if (!affine) {
+            boolean division = divisions[pair];
+            BulkKernels.scale(values, offset, division ? 1.0 : factors[pair], division ? factors[pair] : 1.0, converted,
+                    convertedOffset, length);
+        } else if (source == target) {
+            System.arraycopy(values, offset, converted, convertedOffset, length);
+        } else if (source == canonicalUnit) {
+            BulkKernels.scaleAndOffset(values, offset, 0.0, target.getUnits(), target.getCanonicalUnits(), target.getOffset(),
+                    converted, convertedOffset, length);
+        } else {
+            // Same steps as convertAffine; subtracting 0 and adding -0 leave every value, signed zeros included, unchanged
+            BulkKernels.scaleAndOffset(values, offset, source.getOffset(), source.getScale(), 1.0, -0.0, converted,
+                    convertedOffset, length);
+            if (target != canonicalUnit) {
+                BulkKernels.scaleAndOffset(converted, convertedOffset, 0.0, target.getUnits(), target.getCanonicalUnits(),
+                        target.getOffset(), converted, convertedOffset, length);
+            }
+        }
+    }
+
+    void convert(DoubleBuffer values, Unit<Q> source, Unit<Q> target, DoubleBuffer converted) {
+        int length = values.remaining();
+        if (converted.remaining() < length) {
+            throw new IllegalArgumentException("The output buffer must have at least " + length + " values remaining");
+        }
+
+        if (values.hasArray() && converted.hasArray()) {
+            convert(values.array(), values.arrayOffset() + values.position(), source, target, converted.array(),
+                    converted.arrayOffset() + converted.position(), length);
+        } else {
+            int pair = pairOf(source, target);
+            double factor = factors[pair];
+            boolean division = divisions[pair];
+            int position = values.position();
+            int convertedPosition = converted.position();
+            for (int i = 0; i < length; ++i) {
+                double value = values.get(position + i);
+                converted.put(convertedPosition + i,
+                        affine ? convertAffine(value, source, target) : division ? value / factor : value * factor);
+            }
+        }
+        values.position(values.position() + length);
+        converted.position(converted.position() + length);
+    }
+
+    private int pairOf(Unit<Q> source, Unit<Q> target) {
+        if (source.getDimension() != this || target.getDimension() != this) {
+            throw new IllegalArgumentException("Cannot convert " + source + " (" + source.getDimension() + ") to " + target + " ("
+                    + target.getDimension() + ")");
+        }
+        return source.getIndex() * size + target.getIndex();
+    }
+
+    @SafeVarargs
+    public static <Q> Dimension<Q> of(String name, Unit<Q>... units) {
+        return new Dimension<>(name, units);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -22,6 +22,24 @@ public class Duration implements Comparable<Duration> {
     private static final double NANOS_IN_A_DECADE = 10.0 * NANOS_IN_A_YEAR;
     private static final double NANOS_IN_A_CENTURY = 10.0 * NANOS_IN_A_DECADE;
 
+    public static final Unit<Duration> NANOSECONDS = Unit.canonical("ns");
+    public static final Unit<Duration> MICROSECONDS = Unit.scaled("µs", NANOS_IN_A_MICROSECOND);
+    public static final Unit<Duration> MILLISECONDS = Unit.scaled("ms", NANOS_IN_A_MILLISECOND);
+    public static final Unit<Duration> SECONDS = Unit.scaled("s", NANOS_IN_A_SECOND);
+    public static final Unit<Duration> MINUTES = Unit.scaled("min", NANOS_IN_A_MINUTE);
+    public static final Unit<Duration> HOURS = Unit.scaled("h", NANOS_IN_AN_HOUR);
+    public static final Unit<Duration> DAYS = Unit.scaled("d", NANOS_IN_A_DAY);
+    public static final Unit<Duration> WEEKS = Unit.scaled("wk", NANOS_IN_A_WEEK);
+    public static final Unit<Duration> MONTHS = Unit.scaled("mo", NANOS_IN_A_MONTH);
+    public static final Unit<Duration> YEARS = Unit.scaled("yr", NANOS_IN_A_YEAR);
+    public static final Unit<Duration> DECADES = Unit.scaled("dec", NANOS_IN_A_DECADE);
+    public static final Unit<Duration> CENTURIES = Unit.scaled("c", NANOS_IN_A_CENTURY);
+
+    public static final Dimension<Duration> DIMENSION = Dimension.of("duration", NANOSECONDS, MICROSECONDS, MILLISECONDS, SECONDS,
+            MINUTES, HOURS, DAYS, WEEKS, MONTHS, YEARS, DECADES, CENTURIES);
+
+    public static final Duration ZERO = new Duration(0.0);
+
     private double nanoseconds;
 
     private Duration(double nanoseconds) {
@@ -37,10 +55,26 @@ public class Duration implements Comparable<Duration> {
     }
 
     public Duration average(Duration... durations) {
-        double sum = Arrays.stream(durations).mapToLong(Duration::toNanoseconds).sum();
-        double sumPlusSelf = sum + toNanoseconds();
-        double actualCount = durations.length + 1;
-        return new Duration(sumPlusSelf / actualCount);
+        QuantityStatistics<Duration> statistics = QuantityStatistics.ofDurations();
+        statistics.accept(this);
+        Arrays.stream(durations).forEach(statistics);
+        return statistics.getMean();
+    }
+
+    public boolean isNegative() {
+        return nanoseconds < 0.0;
+    }
+
+    public boolean isZero() {
+        return nanoseconds == 0.0;
+    }
+
+    public double to(Unit<Duration> unit) {
+        return NANOSECONDS.convert(nanoseconds, unit);
+    }
+
+    public Quantity<Duration> toQuantity() {
+        return Quantity.of(nanoseconds, NANOSECONDS);
     }
 
     public long toNanoseconds() {
@@ -48,47 +82,68 @@ public class Duration implements Comparable<Duration> {
     }
 
     public long toMicroseconds() {
-        return (long) (nanoseconds / NANOS_IN_A_MICROSECOND);
+        return (long) to(MICROSECONDS);
     }
 
     public long toMilliseconds() {
-        return (long) (nanoseconds / NANOS_IN_A_MILLISECOND);
+        return (long) to(MILLISECONDS);
     }
 
     public long toSeconds() {
-        return (long) (nanoseconds / NANOS_IN_A_SECOND);
+        return (long) to(SECONDS);
     }
 
     public long toMinutes() {
-        return (long) (nanoseconds / NANOS_IN_A_MINUTE);
+        return (long) to(MINUTES);
     }
 
     public long toHours() {
-        return (long) (nanoseconds / NANOS_IN_AN_HOUR);
+        return (long) to(HOURS);
     }
 
     public long toDays() {
-        return (long) (nanoseconds / NANOS_IN_A_DAY);
+        return (long) to(DAYS);
     }
 
     public long toWeeks() {
-        return (long) (nanoseconds / NANOS_IN_A_WEEK);
+        return (long) to(WEEKS);
     }
 
     public long toMonths() {
-        return (long) (nanoseconds / NANOS_IN_A_MONTH);
+        return (long) to(MONTHS);
     }
 
     public long toYears() {
-        return (long) (nanoseconds / NANOS_IN_A_YEAR);
+        return (long) to(YEARS);
     }
 
     public long toDecades() {
-        return (long) (nanoseconds / NANOS_IN_A_DECADE);
+        return (long) to(DECADES);
     }
 
     public long toCenturies() {
-        return (long) (nanoseconds / NANOS_IN_A_CENTURY);
+        return (long) to(CENTURIES);
+    }
+
+    public ExactDuration toExact() {
+        return ExactDuration.from(this);
+    }
+
+    public java.time.Duration toJavaDuration() {
+        long seconds = toSeconds();
+        return java.time.Duration.ofSeconds(seconds, (long) (nanoseconds - seconds * NANOS_IN_A_SECOND));
+    }
+
+    public static Duration of(double value, Unit<Duration> unit) {
+        return new Duration(unit.convert(value, NANOSECONDS));
+    }
+
+    public static Duration of(Quantity<Duration> quantity) {
+        return new Duration(quantity.to(NANOSECONDS));
+    }
+
+    public static Duration from(java.time.Duration duration) {
+        return new Duration(duration.getSeconds() * NANOS_IN_A_SECOND + duration.getNano());
     }
 
     public static Duration nanoseconds(long numberOfNanoseconds) {
@@ -96,47 +151,47 @@ public class Duration implements Comparable<Duration> {
     }
 
     public static Duration microseconds(long numberOfMicroseconds) {
-        return new Duration(numberOfMicroseconds * NANOS_IN_A_MICROSECOND);
+        return of(numberOfMicroseconds, MICROSECONDS);
     }
 
     public static Duration milliseconds(long numberOfMilliseconds) {
-        return new Duration(numberOfMilliseconds * NANOS_IN_A_MILLISECOND);
+        return of(numberOfMilliseconds, MILLISECONDS);
     }
 
     public static Duration seconds(long numberOfSeconds) {
-        return new Duration(numberOfSeconds * NANOS_IN_A_SECOND);
+        return of(numberOfSeconds, SECONDS);
     }
 
     public static Duration minutes(long numberOfMinutes) {
-        return new Duration(numberOfMinutes * NANOS_IN_A_MINUTE);
+        return of(numberOfMinutes, MINUTES);
     }
 
     public static Duration hours(long numberOfHours) {
-        return new Duration(numberOfHours * NANOS_IN_AN_HOUR);
+        return of(numberOfHours, HOURS);
     }
 
     public static Duration days(long numberOfDays) {
-        return new Duration(numberOfDays * NANOS_IN_A_DAY);
+        return of(numberOfDays, DAYS);
     }
 
     public static Duration weeks(long numberOfWeeks) {
-        return new Duration(numberOfWeeks * NANOS_IN_A_WEEK);
+        return of(numberOfWeeks, WEEKS);
     }
 
     public static Duration months(long numberOfMonths) {
-        return new Duration(numberOfMonths * NANOS_IN_A_MONTH);
+        return of(numberOfMonths, MONTHS);
     }
 
     public static Duration years(long numberOfYears) {
-        return new Duration(numberOfYears * NANOS_IN_A_YEAR);
+        return of(numberOfYears, YEARS);
     }
 
     public static Duration decades(long numberOfDecades) {
-        return new Duration(numberOfDecades * NANOS_IN_A_DECADE);
+        return of(numberOfDecades, DECADES);
     }
 
     public static Duration centuries(long numberOfCenturies) {
-        return new Duration(numberOfCenturies * NANOS_IN_A_CENTURY);
+        return of(numberOfCenturies, CENTURIES);
     }
 
     @Override
@@ -0,0 +1,33 @@
+package ca.nexapp.math.units;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class DurationAdder {
+
+    private final LongAdder nanoseconds = new LongAdder();
+
+    public void add(Duration duration) {
+        nanoseconds.add(duration.toNanoseconds());
+    }
+
+    public void addNanoseconds(long nanoseconds) {
+        this.nanoseconds.add(nanoseconds);
+    }
+
+    public Duration sum() {
+        return Duration.nanoseconds(nanoseconds.sum());
+    }
+
+    public Duration sumThenReset() {
+        return Duration.nanoseconds(nanoseconds.sumThenReset());
+    }
+
+    public void reset() {
+        nanoseconds.reset();
+    }
+
+    @Override
+    public String toString() {
+        return nanoseconds + "nanos";
+    }
+}
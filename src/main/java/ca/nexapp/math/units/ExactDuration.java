@@ -0,0 +1,223 @@
+package ca.nexapp.math.units;
+
+/**
+ * A {@link Duration} kept as a long number of nanoseconds, for latency accounting where every nanosecond counts. Its arithmetic is
+ * integer-only and exact, which limits it to about 292 years either way: add, subtract and the factories throw an
+ * {@link ArithmeticException} on overflow, while the saturating variants stop at {@link #MIN} and {@link #MAX}.
+ */
+public class ExactDuration implements Comparable<ExactDuration> {
+
+    private static final long NANOS_IN_A_MICROSECOND = 1000L;
+    private static final long NANOS_IN_A_MILLISECOND = 1000L * NANOS_IN_A_MICROSECOND;
+
+    private static final long NANOS_IN_A_SECOND = 1000L * NANOS_IN_A_MILLISECOND;
+    private static final long NANOS_IN_A_MINUTE = 60L * NANOS_IN_A_SECOND;
+    private static final long NANOS_IN_AN_HOUR = 60L * NANOS_IN_A_MINUTE;
+
+    private static final long NANOS_IN_A_DAY = 24L * NANOS_IN_AN_HOUR;
+    private static final long NANOS_IN_A_WEEK = 7L * NANOS_IN_A_DAY;
+    private static final long NANOS_IN_A_MONTH = NANOS_IN_A_WEEK / 100_000L * 434_812L; // 4.34812 weeks
+    private static final long NANOS_IN_A_YEAR = 12L * NANOS_IN_A_MONTH;
+
+    private static final long NANOS_IN_A_DECADE = 10L * NANOS_IN_A_YEAR;
+    private static final long NANOS_IN_A_CENTURY = 10L * NANOS_IN_A_DECADE;
+
+    public static final ExactDuration ZERO = new ExactDuration(0L);
+    public static final ExactDuration MIN = new ExactDuration(Long.MIN_VALUE);
+    public static final ExactDuration MAX = new ExactDuration(Long.MAX_VALUE);
+
+    private final long nanoseconds;
+
+    private ExactDuration(long nanoseconds) {
+        this.nanoseconds = nanoseconds;
+    }
+
+    public ExactDuration add(ExactDuration augend) {
+        return new ExactDuration(Math.addExact(nanoseconds, augend.nanoseconds));
+    }
+
+    public ExactDuration subtract(ExactDuration subtrahend) {
+        return new ExactDuration(Math.subtractExact(nanoseconds, subtrahend.nanoseconds));
+    }
+
+    public ExactDuration saturatingAdd(ExactDuration augend) {
+        long sum = nanoseconds + augend.nanoseconds;
+        if (((nanoseconds ^ sum) & (augend.nanoseconds ^ sum)) < 0) {
+            return nanoseconds < 0 ? MIN : MAX;
+        }
+        return new ExactDuration(sum);
+    }
+
+    public ExactDuration saturatingSubtract(ExactDuration subtrahend) {
+        long difference = nanoseconds - subtrahend.nanoseconds;
+        if (((nanoseconds ^ subtrahend.nanoseconds) & (nanoseconds ^ difference)) < 0) {
+            return nanoseconds < 0 ? MIN : MAX;
+        }
+        return new ExactDuration(difference);
+    }
+
+    public ExactDuration average(ExactDuration... durations) {
+        // Sums the quotients and the remainders apart so that the average of long durations cannot overflow
+        long count = durations.length + 1L;
+        long quotients = Math.floorDiv(nanoseconds, count);
+        long remainders = Math.floorMod(nanoseconds, count);
+        for (ExactDuration duration : durations) {
+            quotients += Math.floorDiv(duration.nanoseconds, count);
+            remainders += Math.floorMod(duration.nanoseconds, count);
+        }
+        return new ExactDuration(quotients + remainders / count);
+    }
+
+    public boolean isNegative() {
+        return nanoseconds < 0;
+    }
+
+    public boolean isZero() {
+        return nanoseconds == 0;
+    }
+
+    public double to(Unit<Duration> unit) {
+        return Duration.NANOSECONDS.convert(nanoseconds, unit);
+    }
+
+    public long toNanoseconds() {
+        return nanoseconds;
+    }
+
+    public long toMicroseconds() {
+        return nanoseconds / NANOS_IN_A_MICROSECOND;
+    }
+
+    public long toMilliseconds() {
+        return nanoseconds / NANOS_IN_A_MILLISECOND;
+    }
+
+    public long toSeconds() {
+        return nanoseconds / NANOS_IN_A_SECOND;
+    }
+
+    public long toMinutes() {
+        return nanoseconds / NANOS_IN_A_MINUTE;
+    }
+
+    public long toHours() {
+        return nanoseconds / NANOS_IN_AN_HOUR;
+    }
+
+    public long toDays() {
+        return nanoseconds / NANOS_IN_A_DAY;
+    }
+
+    public long toWeeks() {
+        return nanoseconds / NANOS_IN_A_WEEK;
+    }
+
+    public long toMonths() {
+        return nanoseconds / NANOS_IN_A_MONTH;
+    }
+
+    public long toYears() {
+        return nanoseconds / NANOS_IN_A_YEAR;
+    }
+
+    public long toDecades() {
+        return nanoseconds / NANOS_IN_A_DECADE;
+    }
+
+    public long toCenturies() {
+        return nanoseconds / NANOS_IN_A_CENTURY;
+    }
+
+    public Duration toDuration() {
+        return Duration.nanoseconds(nanoseconds);
+    }
+
+    public java.time.Duration toJavaDuration() {
+        return java.time.Duration.ofNanos(nanoseconds);
+    }
+
+    public static ExactDuration from(Duration duration) {
+        double nanoseconds = duration.to(Duration.NANOSECONDS);
+        if (!(Math.abs(nanoseconds) < 0x1p63)) {
+            throw new ArithmeticException("A duration of " + nanoseconds + " nanoseconds overflows a long");
+        }
+        return new ExactDuration((long) nanoseconds);
+    }
+
+    public static ExactDuration from(java.time.Duration duration) {
+        return new ExactDuration(duration.toNanos());
+    }
+
+    public static ExactDuration nanoseconds(long numberOfNanoseconds) {
+        return new ExactDuration(numberOfNanoseconds);
+    }
+
+    public static ExactDuration microseconds(long numberOfMicroseconds) {
+        return new ExactDuration(Math.multiplyExact(numberOfMicroseconds, NANOS_IN_A_MICROSECOND));
+    }
+
+    public static ExactDuration milliseconds(long numberOfMilliseconds) {
+        return new ExactDuration(Math.multiplyExact(numberOfMilliseconds, NANOS_IN_A_MILLISECOND));
+    }
+
+    public static ExactDuration seconds(long numberOfSeconds) {
+        return new ExactDuration(Math.multiplyExact(numberOfSeconds, NANOS_IN_A_SECOND));
+    }
+
+    public static ExactDuration minutes(long numberOfMinutes) {
+        return new ExactDuration(Math.multiplyExact(numberOfMinutes, NANOS_IN_A_MINUTE));
+    }
+
+    public static ExactDuration hours(long numberOfHours) {
+        return new ExactDuration(Math.multiplyExact(numberOfHours, NANOS_IN_AN_HOUR));
+    }
+
+    public static ExactDuration days(long numberOfDays) {
+        return new ExactDuration(Math.multiplyExact(numberOfDays, NANOS_IN_A_DAY));
+    }
+
+    public static ExactDuration weeks(long numberOfWeeks) {
+        return new ExactDuration(Math.multiplyExact(numberOfWeeks, NANOS_IN_A_WEEK));
+    }
+
+    public static ExactDuration months(long numberOfMonths) {
+        return new ExactDuration(Math.multiplyExact(numberOfMonths, NANOS_IN_A_MONTH));
+    }
+
+    public static ExactDuration years(long numberOfYears) {
+        return new ExactDuration(Math.multiplyExact(numberOfYears, NANOS_IN_A_YEAR));
+    }
+
+    public static ExactDuration decades(long numberOfDecades) {
+        return new ExactDuration(Math.multiplyExact(numberOfDecades, NANOS_IN_A_DECADE));
+    }
+
+    public static ExactDuration centuries(long numberOfCenturies) {
+        return new ExactDuration(Math.multiplyExact(numberOfCenturies, NANOS_IN_A_CENTURY));
+    }
+
+    @Override
+    public int compareTo(ExactDuration other) {
+        return Long.compare(nanoseconds, other.nanoseconds);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(nanoseconds);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof ExactDuration)) {
+            return false;
+        }
+
+        ExactDuration other = (ExactDuration) obj;
+        return nanoseconds == other.nanoseconds;
+    }
+
+    @Override
+    public String toString() {
+        return nanoseconds + "nanos";
+    }
+}
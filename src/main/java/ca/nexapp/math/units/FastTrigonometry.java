@@ -0,0 +1,124 @@
+package ca.nexapp.math.units;
+
+/**
+ * Sine and cosine of angles in degrees from a 4096-entry table. The angle is rounded to the nearest entry and corrected with
+ * the angle sum identities, using short series for the remainder (at most 0.044°). Within one turn (±360°) the absolute error
+ * against {@link Math#sin} and {@link Math#cos} is below {@link #MAX_ERROR}; beyond, it grows with the magnitude of the angle
+ * like the rounding of the angle itself does. Angles beyond ±{@link #MAX_TABLE_DEGREES} fall back to {@link Math}.
+ */
+public class FastTrigonometry {
+
+    public static final double MAX_ERROR = 2e-15;
+    public static final double MAX_TABLE_DEGREES = 1e9;
+
+    private static final int STEPS = 4096;
+    private static final int MASK = STEPS - 1;
+    private static final int QUARTER = STEPS / 4;
+    private static final double STEPS_PER_DEGREE = STEPS / 360.0;
+    private static final double RADIANS_PER_STEP = 2.0 * Math.PI / STEPS;
+
+    private static final double[] SINES = new double[STEPS];
+
+    static {
+        for (int i = 0; i < STEPS; ++i) {
+            SINES[i] = Math.sin(i * RADIANS_PER_STEP);
+        }
+    }
+
+    private FastTrigonometry() {
+    }
+
+    public static double sin(double degrees) {
+        if (!(Math.abs(degrees) <= MAX_TABLE_DEGREES)) {
+            return Math.sin(Math.toRadians(degrees));
+        }
+        double steps = degrees * STEPS_PER_DEGREE;
+        long index = Math.round(steps);
+        double remainder = (steps - index) * RADIANS_PER_STEP;
+        int entry = (int) index & MASK;
+        return SINES[entry] * cosOfRemainder(remainder) + SINES[(entry + QUARTER) & MASK] * sinOfRemainder(remainder);
+    }
+
+    public static double cos(double degrees) {
+        if (!(Math.abs(degrees) <= MAX_TABLE_DEGREES)) {
+            return Math.cos(Math.toRadians(degrees));
+        }
+        double steps = degrees * STEPS_PER_DEGREE;
+        long index = Math.round(steps);
+        double remainder = (steps - index) * RADIANS_PER_STEP;
+        int entry = (int) index & MASK;
+        return SINES[(entry + QUARTER) & MASK] * cosOfRemainder(remainder) - SINES[entry] * sinOfRemainder(remainder);
+    }
+
+    public static void sinCos(double degrees, double[] sineAndCosine) {
+        if (!(Math.abs(degrees) <= MAX_TABLE_DEGREES)) {
+            double radians = Math.toRadians(degrees);
+            sineAndCosine[0] = Math.sin(radians);
+            sineAndCosine[1] = Math.cos(radians);
+            return;
+        }
+        double steps = degrees * STEPS_PER_DEGREE;
+        long index = Math.round(steps);
+        double remainder = (steps - index) * RADIANS_PER_STEP;
+        int entry = (int) index & MASK;
+        double sine = SINES[entry];
+        double cosine = SINES[(entry + QUARTER) & MASK];
+        double cosRemainder = cosOfRemainder(remainder);
+        double sinRemainder = sinOfRemainder(remainder);
+        sineAndCosine[0] = sine * cosRemainder + cosine * sinRemainder;
+        sineAndCosine[1] = cosine * cosRemainder - sine * sinRemainder;
+    }
+
+    public static void sin(double[] degrees, double[] sines) {
+        checkLengths(degrees.length, sines.length);
+        for (int i = 0; i < degrees.length; ++i) {
+            sines[i] = sin(degrees[i]);
+        }
+    }
+
+    public static void cos(double[] degrees, double[] cosines) {
+        checkLengths(degrees.length, cosines.length);
+        for (int i = 0; i < degrees.length; ++i) {
+            cosines[i] = cos(degrees[i]);
+        }
+    }
+
+    public static void sinCos(double[] degrees, double[] sines, double[] cosines) {
+        checkLengths(degrees.length, sines.length);
+        checkLengths(degrees.length, cosines.length);
+        for (int i = 0; i < degrees.length; ++i) {
+            double angle = degrees[i];
+            if (!(Math.abs(angle) <= MAX_TABLE_DEGREES)) {
+                sines[i] = Math.sin(Math.toRadians(angle));
+                cosines[i] = Math.cos(Math.toRadians(angle));
+                continue;
+            }
+            double steps = angle * STEPS_PER_DEGREE;
+            long index = Math.round(steps);
+            double remainder = (steps - index) * RADIANS_PER_STEP;
+            int entry = (int) index & MASK;
+            double sine = SINES[entry];
+            double cosine = SINES[(entry + QUARTER) & MASK];
+            double cosRemainder = cosOfRemainder(remainder);
+            double sinRemainder = sinOfRemainder(remainder);
+            sines[i] = sine * cosRemainder + cosine * sinRemainder;
+            cosines[i] = cosine * cosRemainder - sine * sinRemainder;
+        }
+    }
+
+    private static double sinOfRemainder(double remainder) {
+        double squared = remainder * remainder;
+        return remainder * (1.0 - squared * (1.0 / 6.0) * (1.0 - squared * (1.0 / 20.0)));
+    }
+
+    private static double cosOfRemainder(double remainder) {
+        double squared = remainder * remainder;
+        return 1.0 - squared * 0.5 * (1.0 - squared * (1.0 / 12.0));
+    }
+
+    private static void checkLengths(int inputLength, int outputLength) {
+        if (outputLength < inputLength) {
+            throw new IllegalArgumentException("The output array must hold at least " + inputLength + " values");
+        }
+    }
+}
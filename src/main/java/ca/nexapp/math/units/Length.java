@@ -4,14 +4,27 @@ import java.util.Objects;
 
 public class Length implements Comparable<Length> {
 
-    private static final double METERS_IN_A_MILLIMETER = 0.001;
-    private static final double METERS_IN_A_CENTIMETER = 0.01;
-    private static final double METERS_IN_A_DECIMETER = 0.10;
-    private static final double METERS_IN_A_KILOMETER = 1000;
-    private static final double METERS_IN_A_MILE = 1609.34;
-    private static final double METERS_IN_A_YARD = 0.9144;
-    private static final double METERS_IN_A_FOOT = 0.3048;
-    private static final double METERS_IN_AN_INCH = 0.0254;
+    static final double METERS_IN_A_MILLIMETER = 0.001;
+    static final double METERS_IN_A_CENTIMETER = 0.01;
+    static final double METERS_IN_A_DECIMETER = 0.10;
+    static final double METERS_IN_A_KILOMETER = 1000;
+    static final double METERS_IN_A_MILE = 1609.34;
+    static final double METERS_IN_A_YARD = 0.9144;
+    static final double METERS_IN_A_FOOT = 0.3048;
+    static final double METERS_IN_AN_INCH = 0.0254;
+
+    public static final Unit<Length> MILLIMETERS = Unit.scaled("mm", METERS_IN_A_MILLIMETER);
+    public static final Unit<Length> CENTIMETERS = Unit.scaled("cm", METERS_IN_A_CENTIMETER);
+    public static final Unit<Length> DECIMETERS = Unit.scaled("dm", METERS_IN_A_DECIMETER);
+    public static final Unit<Length> METERS = Unit.canonical("m");
+    public static final Unit<Length> KILOMETERS = Unit.scaled("km", METERS_IN_A_KILOMETER);
+    public static final Unit<Length> MILES = Unit.scaled("mi", METERS_IN_A_MILE);
+    public static final Unit<Length> YARDS = Unit.scaled("yd", METERS_IN_A_YARD);
+    public static final Unit<Length> FOOT = Unit.scaled("ft", METERS_IN_A_FOOT);
+    public static final Unit<Length> INCHES = Unit.scaled("in", METERS_IN_AN_INCH);
+
+    public static final Dimension<Length> DIMENSION = Dimension.of("length", MILLIMETERS, CENTIMETERS, DECIMETERS, METERS, KILOMETERS,
+            MILES, YARDS, FOOT, INCHES);
 
     private double meters;
 
@@ -27,16 +40,24 @@ public class Length implements Comparable<Length> {
         return new Length(meters - subtrahend.meters);
     }
 
+    public double to(Unit<Length> unit) {
+        return METERS.convert(meters, unit);
+    }
+
+    public Quantity<Length> toQuantity() {
+        return Quantity.of(meters, METERS);
+    }
+
     public double toMillimeters() {
-        return meters / METERS_IN_A_MILLIMETER;
+        return to(MILLIMETERS);
     }
 
     public double toCentimeters() {
-        return meters / METERS_IN_A_CENTIMETER;
+        return to(CENTIMETERS);
     }
 
     public double toDecimeters() {
-        return meters / METERS_IN_A_DECIMETER;
+        return to(DECIMETERS);
     }
 
     public double toMeters() {
@@ -44,35 +65,43 @@ public class Length implements Comparable<Length> {
     }
 
     public double toKilometers() {
-        return meters / METERS_IN_A_KILOMETER;
+        return to(KILOMETERS);
     }
 
     public double toMiles() {
-        return meters / METERS_IN_A_MILE;
+        return to(MILES);
     }
 
     public double toYards() {
-        return meters / METERS_IN_A_YARD;
+        return to(YARDS);
     }
 
     public double toInches() {
-        return meters / METERS_IN_AN_INCH;
+        return to(INCHES);
     }
 
     public double toFoot() {
-        return meters / METERS_IN_A_FOOT;
+        return to(FOOT);
+    }
+
+    public static Length of(double value, Unit<Length> unit) {
+        return new Length(unit.convert(value, METERS));
+    }
+
+    public static Length of(Quantity<Length> quantity) {
+        return new Length(quantity.to(METERS));
     }
 
     public static Length fromMillimeters(double millimeters) {
-        return new Length(millimeters * METERS_IN_A_MILLIMETER);
+        return of(millimeters, MILLIMETERS);
     }
 
     public static Length fromCentimeters(double centimeters) {
-        return new Length(centimeters * METERS_IN_A_CENTIMETER);
+        return of(centimeters, CENTIMETERS);
     }
 
     public static Length fromDecimeters(double decimeters) {
-        return new Length(decimeters * METERS_IN_A_DECIMETER);
+        return of(decimeters, DECIMETERS);
     }
 
     public static Length fromMeters(double meters) {
@@ -80,23 +109,23 @@ public class Length implements Comparable<Length> {
     }
 
     public static Length fromKilometers(double kilometers) {
-        return new Length(kilometers * METERS_IN_A_KILOMETER);
+        return of(kilometers, KILOMETERS);
     }
 
     public static Length fromMiles(double miles) {
-        return new Length(miles * METERS_IN_A_MILE);
+        return of(miles, MILES);
     }
 
     public static Length fromYards(double yards) {
-        return new Length(yards * METERS_IN_A_YARD);
+        return of(yards, YARDS);
     }
 
     public static Length fromInches(double inches) {
-        return new Length(inches * METERS_IN_AN_INCH);
+        return of(inches, INCHES);
     }
 
     public static Length fromFoot(double foot) {
-        return new Length(foot * METERS_IN_A_FOOT);
+        return of(foot, FOOT);
     }
 
     @Override
@@ -0,0 +1,151 @@
+package ca.nexapp.math.units;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class LengthArray extends QuantityArray {
+
+    private LengthArray(double[] meters) {
+        super(meters);
+    }
+
+    public Length get(int index) {
+        return Length.fromMeters(values[index]);
+    }
+
+    public void set(int index, Length length) {
+        values[index] = length.toMeters();
+    }
+
+    public double getMeters(int index) {
+        return values[index];
+    }
+
+    public void setMeters(int index, double meters) {
+        values[index] = meters;
+    }
+
+    public LengthArray add(LengthArray augend) {
+        return new LengthArray(plus(augend));
+    }
+
+    public LengthArray add(Length augend) {
+        return new LengthArray(plus(augend.toMeters()));
+    }
+
+    public LengthArray subtract(LengthArray subtrahend) {
+        return new LengthArray(minus(subtrahend));
+    }
+
+    public Length min() {
+        return Length.fromMeters(minimum());
+    }
+
+    public Length max() {
+        return Length.fromMeters(maximum());
+    }
+
+    public Length sum() {
+        return Length.fromMeters(total());
+    }
+
+    public void to(Unit<Length> unit, double[] converted) {
+        Length.METERS.convert(values, unit, converted);
+    }
+
+    public void toMillimeters(double[] millimeters) {
+        to(Length.MILLIMETERS, millimeters);
+    }
+
+    public void toCentimeters(double[] centimeters) {
+        to(Length.CENTIMETERS, centimeters);
+    }
+
+    public void toDecimeters(double[] decimeters) {
+        to(Length.DECIMETERS, decimeters);
+    }
+
+    public void toMeters(double[] meters) {
+        checkOutputLength(meters);
+        System.arraycopy(values, 0, meters, 0, values.length);
+    }
+
+    public void toKilometers(double[] kilometers) {
+        to(Length.KILOMETERS, kilometers);
+    }
+
+    public void toMiles(double[] miles) {
+        to(Length.MILES, miles);
+    }
+
+    public void toYards(double[] yards) {
+        to(Length.YARDS, yards);
+    }
+
+    public void toInches(double[] inches) {
+        to(Length.INCHES, inches);
+    }
+
+    public void toFoot(double[] foot) {
+        to(Length.FOOT, foot);
+    }
+
+    public static LengthArray of(double[] values, Unit<Length> unit) {
+        double[] converted = new double[values.length];
+        unit.convert(values, Length.METERS, converted);
+        return new LengthArray(converted);
+    }
+
+    public static LengthArray ofSize(int size) {
+        return new LengthArray(new double[size]);
+    }
+
+    public static LengthArray of(Length... lengths) {
+        return from(Arrays.asList(lengths));
+    }
+
+    public static LengthArray from(List<Length> lengths) {
+        return new LengthArray(lengths.stream().mapToDouble(Length::toMeters).toArray());
+    }
+
+    public static LengthArray fromMillimeters(double[] millimeters) {
+        return of(millimeters, Length.MILLIMETERS);
+    }
+
+    public static LengthArray fromCentimeters(double[] centimeters) {
+        return of(centimeters, Length.CENTIMETERS);
+    }
+
+    public static LengthArray fromDecimeters(double[] decimeters) {
+        return of(decimeters, Length.DECIMETERS);
+    }
+
+    public static LengthArray fromMeters(double[] meters) {
+        return new LengthArray(meters.clone());
+    }
+
+    public static LengthArray fromKilometers(double[] kilometers) {
+        return of(kilometers, Length.KILOMETERS);
+    }
+
+    public static LengthArray fromMiles(double[] miles) {
+        return of(miles, Length.MILES);
+    }
+
+    public static LengthArray fromYards(double[] yards) {
+        return of(yards, Length.YARDS);
+    }
+
+    public static LengthArray fromInches(double[] inches) {
+        return of(inches, Length.INCHES);
+    }
+
+    public static LengthArray fromFoot(double[] foot) {
+        return of(foot, Length.FOOT);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(values) + "m";
+    }
+}
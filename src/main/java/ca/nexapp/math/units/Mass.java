@@ -4,10 +4,18 @@ import java.util.Objects;
 
 public class Mass implements Comparable<Mass> {
 
-    private static final double GRAMS_IN_AN_OUNCE = 28.3495;
-    private static final double GRAMS_IN_A_POUND = 453.592;
-    private static final double GRAMS_IN_A_KILOGRAM = 1000;
-    private static final double GRAMS_IN_A_TONNE = GRAMS_IN_A_KILOGRAM * 1000;
+    static final double GRAMS_IN_AN_OUNCE = 28.3495;
+    static final double GRAMS_IN_A_POUND = 453.592;
+    static final double GRAMS_IN_A_KILOGRAM = 1000;
+    static final double GRAMS_IN_A_TONNE = GRAMS_IN_A_KILOGRAM * 1000;
+
+    public static final Unit<Mass> OUNCES = Unit.scaled("oz", GRAMS_IN_AN_OUNCE);
+    public static final Unit<Mass> POUNDS = Unit.scaled("lb", GRAMS_IN_A_POUND);
+    public static final Unit<Mass> GRAMS = Unit.canonical("g");
+    public static final Unit<Mass> KILOGRAMS = Unit.scaled("kg", GRAMS_IN_A_KILOGRAM);
+    public static final Unit<Mass> TONNES = Unit.scaled("t", GRAMS_IN_A_TONNE);
+
+    public static final Dimension<Mass> DIMENSION = Dimension.of("mass", OUNCES, POUNDS, GRAMS, KILOGRAMS, TONNES);
 
     private double grams;
 
@@ -23,12 +31,20 @@ public class Mass implements Comparable<Mass> {
         return new Mass(grams - substrahend.grams);
     }
 
+    public double to(Unit<Mass> unit) {
+        return GRAMS.convert(grams, unit);
+    }
+
+    public Quantity<Mass> toQuantity() {
+        return Quantity.of(grams, GRAMS);
+    }
+
     public double toOunces() {
-        return grams / GRAMS_IN_AN_OUNCE;
+        return to(OUNCES);
     }
 
     public double toPounds() {
-        return grams / GRAMS_IN_A_POUND;
+        return to(POUNDS);
     }
 
     public double toGrams() {
@@ -36,19 +52,27 @@ public class Mass implements Comparable<Mass> {
     }
 
     public double toKilograms() {
-        return grams / GRAMS_IN_A_KILOGRAM;
+        return to(KILOGRAMS);
     }
 
     public double toTonnes() {
-        return grams / GRAMS_IN_A_TONNE;
+        return to(TONNES);
+    }
+
+    public static Mass of(double value, Unit<Mass> unit) {
+        return new Mass(unit.convert(value, GRAMS));
+    }
+
+    public static Mass of(Quantity<Mass> quantity) {
+        return new Mass(quantity.to(GRAMS));
     }
 
     public static Mass ounces(double ounces) {
-        return new Mass(ounces * GRAMS_IN_AN_OUNCE);
+        return of(ounces, OUNCES);
     }
 
     public static Mass pounds(double pounds) {
-        return new Mass(pounds * GRAMS_IN_A_POUND);
+        return of(pounds, POUNDS);
     }
 
     public static Mass grams(double grams) {
@@ -56,11 +80,11 @@ public class Mass implements Comparable<Mass> {
     }
 
     public static Mass kilograms(double kilograms) {
-        return new Mass(kilograms * GRAMS_IN_A_KILOGRAM);
+        return of(kilograms, KILOGRAMS);
     }
 
     public static Mass tonnes(double tonnes) {
-        return new Mass(tonnes * GRAMS_IN_A_TONNE);
+        return of(tonnes, TONNES);
     }
 
     @Override
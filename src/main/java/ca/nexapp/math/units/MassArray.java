@@ -0,0 +1,111 @@
+package ca.nexapp.math.units;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class MassArray extends QuantityArray {
+
+    private MassArray(double[] grams) {
+        super(grams);
+    }
+
+    public Mass get(int index) {
+        return Mass.grams(values[index]);
+    }
+
+    public void set(int index, Mass mass) {
+        values[index] = mass.toGrams();
+    }
+
+    public MassArray add(MassArray augend) {
+        return new MassArray(plus(augend));
+    }
+
+    public MassArray add(Mass augend) {
+        return new MassArray(plus(augend.toGrams()));
+    }
+
+    public MassArray subtract(MassArray subtrahend) {
+        return new MassArray(minus(subtrahend));
+    }
+
+    public Mass min() {
+        return Mass.grams(minimum());
+    }
+
+    public Mass max() {
+        return Mass.grams(maximum());
+    }
+
+    public Mass sum() {
+        return Mass.grams(total());
+    }
+
+    public void to(Unit<Mass> unit, double[] converted) {
+        Mass.GRAMS.convert(values, unit, converted);
+    }
+
+    public void toOunces(double[] ounces) {
+        to(Mass.OUNCES, ounces);
+    }
+
+    public void toPounds(double[] pounds) {
+        to(Mass.POUNDS, pounds);
+    }
+
+    public void toGrams(double[] grams) {
+        checkOutputLength(grams);
+        System.arraycopy(values, 0, grams, 0, values.length);
+    }
+
+    public void toKilograms(double[] kilograms) {
+        to(Mass.KILOGRAMS, kilograms);
+    }
+
+    public void toTonnes(double[] tonnes) {
+        to(Mass.TONNES, tonnes);
+    }
+
+    public static MassArray of(double[] values, Unit<Mass> unit) {
+        double[] converted = new double[values.length];
+        unit.convert(values, Mass.GRAMS, converted);
+        return new MassArray(converted);
+    }
+
+    public static MassArray ofSize(int size) {
+        return new MassArray(new double[size]);
+    }
+
+    public static MassArray of(Mass... masses) {
+        return from(Arrays.asList(masses));
+    }
+
+    public static MassArray from(List<Mass> masses) {
+        return new MassArray(masses.stream().mapToDouble(Mass::toGrams).toArray());
+    }
+
+    public static MassArray ounces(double[] ounces) {
+        return of(ounces, Mass.OUNCES);
+    }
+
+    public static MassArray pounds(double[] pounds) {
+        return of(pounds, Mass.POUNDS);
+    }
+
+    public static MassArray grams(double[] grams) {
+        return new MassArray(grams.clone());
+    }
+
+    public static MassArray kilograms(double[] kilograms) {
+        return of(kilograms, Mass.KILOGRAMS);
+    }
+
+    public static MassArray tonnes(double[] tonnes) {
+        return of(tonnes, Mass.TONNES);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(values) + "g";
+    }
+}
@@ -26,10 +26,10 @@ public class Percentage implements Comparable<Percentage> {
     }
 
     public Percentage average(Percentage... percentages) {
-        double sum = Arrays.stream(percentages).mapToDouble(Percentage::toRatio).sum();
-        double sumPlusSelf = sum + toRatio();
-        double actualCount = percentages.length + 1;
-        return fromFraction(sumPlusSelf, ONE_HUNDRED * actualCount);
+        QuantityStatistics<Percentage> statistics = QuantityStatistics.ofPercentages();
+        statistics.accept(this);
+        Arrays.stream(percentages).forEach(statistics);
+        return statistics.getMean();
     }
 
     public Percentage difference(Percentage other) {
@@ -53,8 +53,7 @@ public class Percentage implements Comparable<Percentage> {
         if (percentages.length == 0) {
             throw new IllegalArgumentException("Must have at least one percentage to calculate an average");
         }
-        double sum = Arrays.stream(percentages).mapToDouble(Percentage::toRatio).sum();
-        return fromFraction(sum, ONE_HUNDRED * percentages.length);
+        return Arrays.stream(percentages).collect(QuantityStatistics.summarizingPercentages()).getMean();
     }
 
     @Override
@@ -0,0 +1,232 @@
+package ca.nexapp.math.units;
+
+import static java.lang.Math.abs;
+import static java.lang.Math.asin;
+import static java.lang.Math.atan2;
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+import static java.lang.Math.sqrt;
+import static java.lang.Math.toDegrees;
+import static java.lang.Math.toRadians;
+
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+public class PolylineAccumulator implements Consumer<Coordinates> {
+
+    private static final double EARTH_RADIUS_IN_METERS = Coordinates.MEAN_EARTH_RADIUS.toMeters();
+    private static final int FIXES_PER_CHUNK = 1 << 14;
+
+    private long count;
+
+    private double firstSinLatitude;
+    private double firstCosLatitude;
+    private double firstSinLongitude;
+    private double firstCosLongitude;
+
+    private double lastSinLatitude;
+    private double lastCosLatitude;
+    private double lastSinLongitude;
+    private double lastCosLongitude;
+
+    private double lengthSum;
+    private double lengthCompensation;
+
+    private boolean hasBearing;
+    private double initialBearing;
+    private double finalBearing;
+    private double turningSum;
+    private double turningCompensation;
+
+    @Override
+    public void accept(Coordinates fix) {
+        accept(fix.getLatitude().toDegrees(), fix.getLongitude().toDegrees());
+    }
+
+    public void accept(double latitude, double longitude) {
+        double latitudeInRadians = toRadians(latitude);
+        double longitudeInRadians = toRadians(longitude);
+        double sinLatitude = sin(latitudeInRadians);
+        double cosLatitude = cos(latitudeInRadians);
+        double sinLongitude = sin(longitudeInRadians);
+        double cosLongitude = cos(longitudeInRadians);
+
+        if (count == 0) {
+            firstSinLatitude = sinLatitude;
+            firstCosLatitude = cosLatitude;
+            firstSinLongitude = sinLongitude;
+            firstCosLongitude = cosLongitude;
+        } else {
+            addSegmentTo(sinLatitude, cosLatitude, sinLongitude, cosLongitude);
+        }
+
+        lastSinLatitude = sinLatitude;
+        lastCosLatitude = cosLatitude;
+        lastSinLongitude = sinLongitude;
+        lastCosLongitude = cosLongitude;
+        count++;
+    }
+
+    public PolylineAccumulator combine(PolylineAccumulator following) {
+        if (following.count == 0) {
+            return this;
+        }
+        if (count == 0) {
+            copy(following);
+            return this;
+        }
+
+        addSegmentTo(following.firstSinLatitude, following.firstCosLatitude, following.firstSinLongitude, following.firstCosLongitude);
+        addLength(following.lengthSum);
+        lengthCompensation += following.lengthCompensation;
+
+        if (following.hasBearing) {
+            if (hasBearing) {
+                addTurning(following.initialBearing);
+            } else {
+                hasBearing = true;
+                initialBearing = following.initialBearing;
+            }
+            addTurningSum(following.turningSum);
+            turningCompensation += following.turningCompensation;
+            finalBearing = following.finalBearing;
+        }
+
+        lastSinLatitude = following.lastSinLatitude;
+        lastCosLatitude = following.lastCosLatitude;
+        lastSinLongitude = following.lastSinLongitude;
+        lastCosLongitude = following.lastCosLongitude;
+        count += following.count;
+        return this;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getLengthInMeters() {
+        return lengthSum + lengthCompensation;
+    }
+
+    public Length getLength() {
+        return Length.fromMeters(getLengthInMeters());
+    }
+
+    public Angle getInitialBearing() {
+        checkHasBearing();
+        return Angle.fromDegrees(initialBearing);
+    }
+
+    public Angle getFinalBearing() {
+        checkHasBearing();
+        return Angle.fromDegrees(finalBearing);
+    }
+
+    public Angle getTotalTurning() {
+        return Angle.fromDegrees(turningSum + turningCompensation);
+    }
+
+    private void addSegmentTo(double sinLatitude, double cosLatitude, double sinLongitude, double cosLongitude) {
+        // The chord between the unit vectors stays accurate for the few meters between GPS fixes, unlike acos
+        double dx = lastCosLatitude * lastCosLongitude - cosLatitude * cosLongitude;
+        double dy = lastCosLatitude * lastSinLongitude - cosLatitude * sinLongitude;
+        double dz = lastSinLatitude - sinLatitude;
+        double chord = sqrt(dx * dx + dy * dy + dz * dz);
+        if (chord == 0.0) {
+            return;
+        }
+        addLength(2.0 * EARTH_RADIUS_IN_METERS * asin(Math.min(1.0, chord / 2.0)));
+
+        double sinLongitudeDelta = sinLongitude * lastCosLongitude - cosLongitude * lastSinLongitude;
+        double cosLongitudeDelta = cosLongitude * lastCosLongitude + sinLongitude * lastSinLongitude;
+        double y = sinLongitudeDelta * cosLatitude;
+        double x = lastCosLatitude * sinLatitude - lastSinLatitude * cosLatitude * cosLongitudeDelta;
+        double bearing = toDegrees(atan2(y, x));
+        bearing = bearing < 0.0 ? bearing + 360.0 : bearing;
+
+        if (hasBearing) {
+            addTurning(bearing);
+        } else {
+            hasBearing = true;
+            initialBearing = bearing;
+        }
+        finalBearing = bearing;
+    }
+
+    private void addTurning(double bearing) {
+        double turn = abs(bearing - finalBearing);
+        addTurningSum(turn > 180.0 ? 360.0 - turn : turn);
+    }
+
+    private void addLength(double length) {
+        double sum = lengthSum + length;
+        if (abs(lengthSum) >= abs(length)) {
+            lengthCompensation += (lengthSum - sum) + length;
+        } else {
+            lengthCompensation += (length - sum) + lengthSum;
+        }
+        lengthSum = sum;
+    }
+
+    private void addTurningSum(double turn) {
+        double sum = turningSum + turn;
+        if (abs(turningSum) >= abs(turn)) {
+            turningCompensation += (turningSum - sum) + turn;
+        } else {
+            turningCompensation += (turn - sum) + turningSum;
+        }
+        turningSum = sum;
+    }
+
+    private void checkHasBearing() {
+        if (!hasBearing) {
+            throw new IllegalStateException("A polyline needs two distinct fixes to have a bearing");
+        }
+    }
+
+    private void copy(PolylineAccumulator other) {
+        count = other.count;
+        firstSinLatitude = other.firstSinLatitude;
+        firstCosLatitude = other.firstCosLatitude;
+        firstSinLongitude = other.firstSinLongitude;
+        firstCosLongitude = other.firstCosLongitude;
+        lastSinLatitude = other.lastSinLatitude;
+        lastCosLatitude = other.lastCosLatitude;
+        lastSinLongitude = other.lastSinLongitude;
+        lastCosLongitude = other.lastCosLongitude;
+        lengthSum = other.lengthSum;
+        lengthCompensation = other.lengthCompensation;
+        hasBearing = other.hasBearing;
+        initialBearing = other.initialBearing;
+        finalBearing = other.finalBearing;
+        turningSum = other.turningSum;
+        turningCompensation = other.turningCompensation;
+    }
+
+    public static PolylineAccumulator ofTrack(double[] latitudes, double[] longitudes) {
+        if (latitudes.length != longitudes.length) {
+            throw new IllegalArgumentException("Must have as many latitudes as longitudes");
+        }
+
+        int chunks = (latitudes.length + FIXES_PER_CHUNK - 1) / FIXES_PER_CHUNK;
+        PolylineAccumulator[] partials = IntStream.range(0, chunks).parallel().mapToObj(chunk -> {
+            PolylineAccumulator partial = new PolylineAccumulator();
+            int end = Math.min(latitudes.length, (chunk + 1) * FIXES_PER_CHUNK);
+            for (int i = chunk * FIXES_PER_CHUNK; i < end; ++i) {
+                partial.accept(latitudes[i], longitudes[i]);
+            }
+            return partial;
+        }).toArray(PolylineAccumulator[]::new);
+
+        PolylineAccumulator track = new PolylineAccumulator();
+        for (PolylineAccumulator partial : partials) {
+            track.combine(partial);
+        }
+        return track;
+    }
+
+    @Override
+    public String toString() {
+        return count + " fixes, " + getLengthInMeters() + "m";
+    }
+}
@@ -0,0 +1,77 @@
+package ca.nexapp.math.units;
+
+public class Quantity<Q> implements Comparable<Quantity<Q>> {
+
+    private final double value;
+    private final Unit<Q> unit;
+
+    private Quantity(double value, Unit<Q> unit) {
+        this.value = value;
+        this.unit = unit;
+    }
+
+    public double getValue() {
+        return value;
+    }
+
+    public Unit<Q> getUnit() {
+        return unit;
+    }
+
+    public double to(Unit<Q> target) {
+        return unit.convert(value, target);
+    }
+
+    public Quantity<Q> convertTo(Unit<Q> target) {
+        return target == unit ? this : new Quantity<>(to(target), target);
+    }
+
+    public Quantity<Q> add(Quantity<Q> augend) {
+        return new Quantity<>(value + augend.to(unit), unit);
+    }
+
+    public Quantity<Q> subtract(Quantity<Q> subtrahend) {
+        return new Quantity<>(value - subtrahend.to(unit), unit);
+    }
+
+    public Quantity<Q> multiply(double multiplier) {
+        return new Quantity<>(value * multiplier, unit);
+    }
+
+    private double toCanonical() {
+        return unit.toCanonical(value);
+    }
+
+    public static <Q> Quantity<Q> of(double value, Unit<Q> unit) {
+        if (unit.getDimension() == null) {
+            throw new IllegalArgumentException("The unit " + unit + " does not belong to a dimension");
+        }
+        return new Quantity<>(value, unit);
+    }
+
+    @Override
+    public int compareTo(Quantity<Q> other) {
+        return Double.compare(toCanonical(), other.to(unit.getDimension().getCanonicalUnit()));
+    }
+
+    @Override
+    public int hashCode() {
+        return Double.hashCode(toCanonical()) * 31 + unit.getDimension().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof Quantity)) {
+            return false;
+        }
+
+        Quantity<?> other = (Quantity<?>) obj;
+        return unit.getDimension() == other.unit.getDimension()
+                && Double.compare(toCanonical(), other.unit.toCanonical(other.value)) == 0;
+    }
+
+    @Override
+    public String toString() {
+        return value + " " + unit;
+    }
+}
@@ -0,0 +1,97 @@
+package ca.nexapp.math.units;
+
+import java.util.Arrays;
+
+abstract class QuantityArray {
+
+    final double[] values;
+
+    QuantityArray(double[] values) {
+        this.values = values;
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public void sort() {
+        Arrays.parallelSort(values);
+    }
+
+    double minimum() {
+        checkNotEmpty();
+        double minimum = values[0];
+        for (int i = 1; i < values.length; ++i) {
+            minimum = Math.min(minimum, values[i]);
+        }
+        return minimum;
+    }
+
+    double maximum() {
+        checkNotEmpty();
+        double maximum = values[0];
+        for (int i = 1; i < values.length; ++i) {
+            maximum = Math.max(maximum, values[i]);
+        }
+        return maximum;
+    }
+
+    double total() {
+        double sum = 0.0;
+        double compensation = 0.0;
+        for (double value : values) {
+            double total = sum + value;
+            if (Math.abs(sum) >= Math.abs(value)) {
+                compensation += (sum - total) + value;
+            } else {
+                compensation += (value - total) + sum;
+            }
+            sum = total;
+        }
+        return sum + compensation;
+    }
+
+    double[] plus(QuantityArray augend) {
+        checkSameSize(augend);
+        double[] sums = new double[values.length];
+        for (int i = 0; i < values.length; ++i) {
+            sums[i] = values[i] + augend.values[i];
+        }
+        return sums;
+    }
+
+    double[] plus(double augend) {
+        double[] sums = new double[values.length];
+        for (int i = 0; i < values.length; ++i) {
+            sums[i] = values[i] + augend;
+        }
+        return sums;
+    }
+
+    double[] minus(QuantityArray subtrahend) {
+        checkSameSize(subtrahend);
+        double[] differences = new double[values.length];
+        for (int i = 0; i < values.length; ++i) {
+            differences[i] = values[i] - subtrahend.values[i];
+        }
+        return differences;
+    }
+
+    void checkOutputLength(double[] output) {
+        if (output.length < values.length) {
+            throw new IllegalArgumentException("The output array must hold at least " + values.length + " values");
+        }
+    }
+
+    private void checkSameSize(QuantityArray other) {
+        if (other.values.length != values.length) {
+            throw new IllegalArgumentException("Both arrays must have the same size");
+        }
+    }
+
+    private void checkNotEmpty() {
+        if (values.length == 0) {
+            throw new IllegalStateException("An empty array has no minimum or maximum");
+        }
+    }
+}
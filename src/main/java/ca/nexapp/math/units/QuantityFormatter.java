@@ -0,0 +1,198 @@
+package ca.nexapp.math.units;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Writes canonical values (meters, nanoseconds, bits...) in the largest unit that keeps them above one, such as "1.5 GiB" or
+ * "230 µs", with at most the configured number of fraction digits. Formatting into a {@link StringBuilder}, an
+ * {@link Appendable} or a {@link ByteBuffer} (UTF-8) does not allocate. Fewer fraction digits are written when the value scaled by
+ * the precision reaches 1e18, and values of 1e18 or more in the chosen unit fall back to {@link Double#toString(double)}.
+ */
+public class QuantityFormatter {
+
+    public static final int DEFAULT_PRECISION = 2;
+    public static final int MAX_PRECISION = 9;
+
+    public static final QuantityFormatter LENGTHS = of(Length.MILLIMETERS, Length.METERS, Length.KILOMETERS);
+    public static final QuantityFormatter MASSES = of(Mass.GRAMS, Mass.KILOGRAMS, Mass.TONNES);
+    public static final QuantityFormatter DURATIONS = of(Duration.NANOSECONDS, Duration.MICROSECONDS, Duration.MILLISECONDS,
+            Duration.SECONDS, Duration.MINUTES, Duration.HOURS, Duration.DAYS);
+    public static final QuantityFormatter DIGITAL_STORAGES = of(DigitalStorage.BYTES, DigitalStorage.KILOBYTES,
+            DigitalStorage.MEGABYTES, DigitalStorage.GIGABYTES, DigitalStorage.TERABYTES, DigitalStorage.PETABYTES);
+    public static final QuantityFormatter DATA_RATES = of(DataRate.BYTES_PER_SECOND, DataRate.KILOBYTES_PER_SECOND,
+            DataRate.MEGABYTES_PER_SECOND, DataRate.GIGABYTES_PER_SECOND);
+    public static final QuantityFormatter TEMPERATURES = of(Temperature.CELSIUS);
+    public static final QuantityFormatter PERCENTAGES = new QuantityFormatter(new Unit<?>[] { Unit.scaled("%", 0.01) },
+            DEFAULT_PRECISION);
+    public static final QuantityFormatter ANGLES = new QuantityFormatter(new Unit<?>[] { Unit.canonical("°") }, DEFAULT_PRECISION);
+
+    private static final long[] POWERS_OF_TEN = { 1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L, 100_000_000L,
+            1_000_000_000L };
+    private static final double MAX_FIXED_POINT = 1e18;
+
+    private final Unit<?>[] units;
+    private final String[] symbols;
+    private final byte[][] encodedSymbols;
+    private final double[] scales;
+    private final int precision;
+
+    // The units are sorted by increasing scale
+    private QuantityFormatter(Unit<?>[] units, int precision) {
+        this.units = units;
+        this.precision = precision;
+        symbols = new String[units.length];
+        encodedSymbols = new byte[units.length][];
+        scales = new double[units.length];
+        for (int i = 0; i < units.length; ++i) {
+            symbols[i] = units[i].getSymbol();
+            encodedSymbols[i] = (" " + symbols[i]).getBytes(StandardCharsets.UTF_8);
+            scales[i] = units[i].getScale();
+        }
+    }
+
+    public QuantityFormatter withPrecision(int precision) {
+        if (precision < 0 || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException("The precision must be between 0 and " + MAX_PRECISION + " fraction digits");
+        }
+        return new QuantityFormatter(units, precision);
+    }
+
+    public int getPrecision() {
+        return precision;
+    }
+
+    public String format(double canonicalValue) {
+        return format(canonicalValue, new StringBuilder(24)).toString();
+    }
+
+    public StringBuilder format(double canonicalValue, StringBuilder builder) {
+        try {
+            write(canonicalValue, builder, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return builder;
+    }
+
+    public void format(double canonicalValue, Appendable appendable) throws IOException {
+        write(canonicalValue, appendable, null);
+    }
+
+    public ByteBuffer format(double canonicalValue, ByteBuffer buffer) {
+        try {
+            write(canonicalValue, null, buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer;
+    }
+
+    // Exactly one of appendable and buffer is set
+    private void write(double canonicalValue, Appendable appendable, ByteBuffer buffer) throws IOException {
+        int unit = unitOf(canonicalValue);
+        double value = units[unit].fromCanonicalValue(canonicalValue);
+        int digits = fractionDigitsOf(value);
+
+        if (digits < 0) {
+            writeText(Double.toString(value), appendable, buffer);
+        } else {
+            long fixedPoint = Math.round(Math.abs(value) * POWERS_OF_TEN[digits]);
+            // Rounding may reach the next unit, as 999.999 µs which is written as 1 ms rather than 1000 µs
+            while (unit + 1 < scales.length && (double) fixedPoint / POWERS_OF_TEN[digits] * scales[unit] >= scales[unit + 1]) {
+                unit++;
+                value = units[unit].fromCanonicalValue(canonicalValue);
+                digits = fractionDigitsOf(value);
+                fixedPoint = Math.round(Math.abs(value) * POWERS_OF_TEN[digits]);
+            }
+
+            if (value < 0 && fixedPoint != 0) {
+                writeChar('-', appendable, buffer);
+            }
+            writeDigits(fixedPoint / POWERS_OF_TEN[digits], appendable, buffer);
+
+            long fraction = fixedPoint % POWERS_OF_TEN[digits];
+            while (digits > 0 && fraction % 10 == 0) {
+                fraction /= 10;
+                digits--;
+            }
+            if (digits > 0) {
+                writeChar('.', appendable, buffer);
+                for (int i = digits - 1; i >= 0; --i) {
+                    writeChar((char) ('0' + fraction / POWERS_OF_TEN[i] % 10), appendable, buffer);
+                }
+            }
+        }
+
+        if (buffer != null) {
+            buffer.put(encodedSymbols[unit]);
+        } else {
+            appendable.append(' ').append(symbols[unit]);
+        }
+    }
+
+    // The precision is lowered as long as the fixed-point value does not fit in a long, and -1 is returned when no precision fits
+    private int fractionDigitsOf(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return -1;
+        }
+        int digits = precision;
+        while (digits >= 0 && Math.abs(value) * POWERS_OF_TEN[digits] >= MAX_FIXED_POINT) {
+            digits--;
+        }
+        return digits;
+    }
+
+    private int unitOf(double canonicalValue) {
+        double magnitude = Math.abs(canonicalValue);
+        int unit = 0;
+        while (unit + 1 < scales.length && scales[unit + 1] <= magnitude) {
+            unit++;
+        }
+        return unit;
+    }
+
+    private static void writeDigits(long number, Appendable appendable, ByteBuffer buffer) throws IOException {
+        long power = 1;
+        while (power <= number / 10) {
+            power *= 10;
+        }
+        for (; power > 0; power /= 10) {
+            writeChar((char) ('0' + number / power % 10), appendable, buffer);
+        }
+    }
+
+    private static void writeChar(char c, Appendable appendable, ByteBuffer buffer) throws IOException {
+        if (buffer != null) {
+            buffer.put((byte) c);
+        } else {
+            appendable.append(c);
+        }
+    }
+
+    private static void writeText(String text, Appendable appendable, ByteBuffer buffer) throws IOException {
+        for (int i = 0; i < text.length(); ++i) {
+            writeChar(text.charAt(i), appendable, buffer);
+        }
+    }
+
+    public static QuantityFormatter of(Unit<?>... units) {
+        if (units.length == 0) {
+            throw new IllegalArgumentException("A formatter needs at least one unit");
+        }
+
+        for (Unit<?> unit : units) {
+            if (unit.getDimension() != units[0].getDimension()) {
+                throw new IllegalArgumentException("Cannot format " + units[0].getDimension() + " with " + unit);
+            }
+        }
+
+        Unit<?>[] sorted = units.clone();
+        Arrays.sort(sorted, Comparator.comparingDouble(Unit::getScale));
+        return new QuantityFormatter(sorted, DEFAULT_PRECISION);
+    }
+}
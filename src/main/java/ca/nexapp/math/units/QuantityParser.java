@@ -0,0 +1,335 @@
+package ca.nexapp.math.units;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalInt;
+
+/**
+ * Parses values followed by a unit suffix ("12.5km", "3.2 GB", "72°F") into the canonical unit of their quantity, straight
+ * from a {@link CharSequence}, a byte array or a {@link ByteBuffer} (ASCII, UTF-8 or ISO-8859-1). Suffixes are found with a
+ * perfect hash built once per parser. Parsing does not allocate, except for numbers with more than 15 significant digits or a
+ * decimal exponent beyond ±22: the fast path cannot round them exactly, so they are copied to a string for
+ * {@link Double#parseDouble}.
+ */
+public class QuantityParser {
+
+    public static final QuantityParser LENGTHS = of(Length.DIMENSION);
+    public static final QuantityParser MASSES = of(Mass.DIMENSION, alias("lbs", Mass.POUNDS));
+    public static final QuantityParser DURATIONS = of(Duration.DIMENSION, alias("us", Duration.MICROSECONDS),
+            alias("μs", Duration.MICROSECONDS), alias("sec", Duration.SECONDS));
+    public static final QuantityParser DIGITAL_STORAGES = of(DigitalStorage.DIMENSION, alias("b", DigitalStorage.BITS),
+            alias("KB", DigitalStorage.KILOBYTES), alias("kB", DigitalStorage.KILOBYTES), alias("MB", DigitalStorage.MEGABYTES),
+            alias("GB", DigitalStorage.GIGABYTES), alias("TB", DigitalStorage.TERABYTES), alias("PB", DigitalStorage.PETABYTES));
+    public static final QuantityParser TEMPERATURES = of(Temperature.DIMENSION, alias("C", Temperature.CELSIUS),
+            alias("F", Temperature.FAHRENHEIT));
+    public static final QuantityParser DATA_RATES = of(DataRate.DIMENSION, alias("bps", DataRate.BITS_PER_SECOND));
+    public static final QuantityParser PERCENTAGES = new QuantityParser(Arrays.asList(new Suffix("%", 0.01, 0.0)));
+    public static final QuantityParser ANGLES = new QuantityParser(
+            Arrays.asList(new Suffix("°", 1.0, 0.0), new Suffix("deg", 1.0, 0.0), new Suffix("rad", 180.0 / Math.PI, 0.0)));
+
+    private static final int MAX_EXACT_DIGITS = 15;
+    private static final int MAX_EXACT_EXPONENT = 22;
+    private static final double[] POWERS_OF_TEN = new double[MAX_EXACT_EXPONENT + 1];
+
+    static {
+        POWERS_OF_TEN[0] = 1.0;
+        for (int i = 1; i < POWERS_OF_TEN.length; ++i) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10.0;
+        }
+    }
+
+    private final String[] suffixes;
+    private final double[] scales;
+    private final double[] offsets;
+    private final int mask;
+    private final int seed;
+
+    private QuantityParser(List<Suffix> entries) {
+        if (entries.stream().map(entry -> entry.symbol).distinct().count() != entries.size()) {
+            throw new IllegalArgumentException("Every unit suffix must be unique");
+        }
+
+        int size = Integer.highestOneBit(Math.max(1, entries.size() * 2 - 1)) << 1;
+        OptionalInt foundSeed = findSeed(entries, size - 1);
+        while (!foundSeed.isPresent()) {
+            size <<= 1;
+            foundSeed = findSeed(entries, size - 1);
+        }
+
+        mask = size - 1;
+        seed = foundSeed.getAsInt();
+        suffixes = new String[size];
+        scales = new double[size];
+        offsets = new double[size];
+        for (Suffix entry : entries) {
+            int slot = slotOf(entry.symbol, seed, mask);
+            suffixes[slot] = entry.symbol;
+            scales[slot] = entry.scale;
+            offsets[slot] = entry.offset;
+        }
+    }
+
+    public double parse(CharSequence text) {
+        return parse(text, 0, text.length());
+    }
+
+    public double parse(CharSequence text, int start, int end) {
+        checkRange(start, end, text.length());
+        return parse(text, null, null, start, end);
+    }
+
+    public double parse(byte[] bytes) {
+        return parse(bytes, 0, bytes.length);
+    }
+
+    public double parse(byte[] bytes, int offset, int length) {
+        checkRange(offset, offset + length, bytes.length);
+        return parse(null, bytes, null, offset, offset + length);
+    }
+
+    public double parse(ByteBuffer buffer) {
+        return parse(buffer, buffer.position(), buffer.remaining());
+    }
+
+    public double parse(ByteBuffer buffer, int offset, int length) {
+        checkRange(offset, offset + length, buffer.limit());
+        return parse(null, null, buffer, offset, offset + length);
+    }
+
+    // Exactly one of text, bytes and buffer is set, which keeps a single parser for the three sources without a wrapper
+    private double parse(CharSequence text, byte[] bytes, ByteBuffer buffer, int start, int end) {
+        while (start < end && isWhitespace(charAt(text, bytes, buffer, start))) {
+            start++;
+        }
+        while (end > start && isWhitespace(charAt(text, bytes, buffer, end - 1))) {
+            end--;
+        }
+
+        int position = start;
+        int sign = position < end ? charAt(text, bytes, buffer, position) : 0;
+        boolean negative = sign == '-';
+        if (sign == '-' || sign == '+') {
+            position++;
+        }
+
+        long mantissa = 0;
+        int significantDigits = 0;
+        int exponent = 0;
+        boolean hasDigits = false;
+        int c;
+        while (position < end && isDigit(c = charAt(text, bytes, buffer, position))) {
+            hasDigits = true;
+            if (significantDigits < 19) {
+                mantissa = mantissa * 10 + (c - '0');
+                significantDigits += mantissa == 0 ? 0 : 1;
+            } else {
+                exponent++;
+            }
+            position++;
+        }
+        if (position < end && charAt(text, bytes, buffer, position) == '.') {
+            position++;
+            while (position < end && isDigit(c = charAt(text, bytes, buffer, position))) {
+                hasDigits = true;
+                if (significantDigits < 19) {
+                    mantissa = mantissa * 10 + (c - '0');
+                    significantDigits += mantissa == 0 ? 0 : 1;
+                    exponent--;
+                }
+                position++;
+            }
+        }
+        if (!hasDigits) {
+            throw invalid(text, bytes, buffer, start, end, "no number");
+        }
+        if (position < end && (charAt(text, bytes, buffer, position) | 0x20) == 'e') {
+            int exponentStart = position + 1;
+            int exponentSign = exponentStart < end ? charAt(text, bytes, buffer, exponentStart) : 0;
+            boolean negativeExponent = exponentSign == '-';
+            if (exponentSign == '-' || exponentSign == '+') {
+                exponentStart++;
+            }
+            if (exponentStart < end && isDigit(charAt(text, bytes, buffer, exponentStart))) {
+                int explicitExponent = 0;
+                position = exponentStart;
+                while (position < end && isDigit(c = charAt(text, bytes, buffer, position))) {
+                    explicitExponent = Math.min(100_000, explicitExponent * 10 + (c - '0'));
+                    position++;
+                }
+                exponent += negativeExponent ? -explicitExponent : explicitExponent;
+            }
+        }
+        int numberEnd = position;
+
+        while (position < end && isWhitespace(charAt(text, bytes, buffer, position))) {
+            position++;
+        }
+        int slot = findSuffix(text, bytes, buffer, position, end);
+        if (slot < 0) {
+            throw invalid(text, bytes, buffer, start, end, "unknown unit");
+        }
+
+        double value;
+        if (significantDigits <= MAX_EXACT_DIGITS && Math.abs(exponent) <= MAX_EXACT_EXPONENT) {
+            value = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+            value = negative ? -value : value;
+        } else {
+            value = Double.parseDouble(substring(text, bytes, buffer, start, numberEnd));
+        }
+        return (value - offsets[slot]) * scales[slot];
+    }
+
+    private int findSuffix(CharSequence text, byte[] bytes, ByteBuffer buffer, int start, int end) {
+        if (start == end) {
+            return -1;
+        }
+
+        int hash = seed;
+        for (int i = start, length; i < end; i += length) {
+            length = sequenceLength(text, bytes, buffer, i, end);
+            hash = mix(hash, decode(text, bytes, buffer, i, length));
+        }
+        int slot = finish(hash) & mask;
+
+        String suffix = suffixes[slot];
+        if (suffix == null) {
+            return -1;
+        }
+        int matched = 0;
+        for (int i = start, length; i < end; i += length) {
+            length = sequenceLength(text, bytes, buffer, i, end);
+            int c = decode(text, bytes, buffer, i, length);
+            if (matched == suffix.length() || suffix.charAt(matched++) != c) {
+                return -1;
+            }
+        }
+        return matched == suffix.length() ? slot : -1;
+    }
+
+    // Suffixes only hold characters below U+0800, such as µ, ° or μ, which take at most two bytes in UTF-8
+    private static int sequenceLength(CharSequence text, byte[] bytes, ByteBuffer buffer, int index, int end) {
+        if (text != null || index + 1 == end) {
+            return 1;
+        }
+        int lead = charAt(null, bytes, buffer, index);
+        int continuation = charAt(null, bytes, buffer, index + 1);
+        return lead >= 0xC2 && lead <= 0xDF && (continuation & 0xC0) == 0x80 ? 2 : 1;
+    }
+
+    private static int decode(CharSequence text, byte[] bytes, ByteBuffer buffer, int index, int length) {
+        int c = charAt(text, bytes, buffer, index);
+        return length == 1 ? c : (c & 0x1F) << 6 | charAt(text, bytes, buffer, index + 1) & 0x3F;
+    }
+
+    private static int charAt(CharSequence text, byte[] bytes, ByteBuffer buffer, int index) {
+        if (text != null) {
+            return text.charAt(index);
+        }
+        if (bytes != null) {
+            return bytes[index] & 0xFF;
+        }
+        return buffer.get(index) & 0xFF;
+    }
+
+    private static boolean isDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isWhitespace(int c) {
+        return c == ' ' || c == '\t' || c == '\r' || c == '\n';
+    }
+
+    private static int mix(int hash, int c) {
+        return (hash ^ c) * 0x01000193;
+    }
+
+    private static int finish(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int slotOf(String symbol, int seed, int mask) {
+        int hash = seed;
+        for (int i = 0; i < symbol.length(); ++i) {
+            hash = mix(hash, symbol.charAt(i));
+        }
+        return finish(hash) & mask;
+    }
+
+    private static OptionalInt findSeed(List<Suffix> entries, int mask) {
+        boolean[] used = new boolean[mask + 1];
+        for (int seed = 0x811C9DC5, attempt = 0; attempt < 10_000; seed += 0x9E3779B9, ++attempt) {
+            Arrays.fill(used, false);
+            boolean perfect = true;
+            for (Suffix entry : entries) {
+                int slot = slotOf(entry.symbol, seed, mask);
+                if (used[slot]) {
+                    perfect = false;
+                    break;
+                }
+                used[slot] = true;
+            }
+            if (perfect) {
+                return OptionalInt.of(seed);
+            }
+        }
+        return OptionalInt.empty();
+    }
+
+    private static String substring(CharSequence text, byte[] bytes, ByteBuffer buffer, int start, int end) {
+        if (text != null) {
+            return text.subSequence(start, end).toString();
+        }
+        if (bytes != null) {
+            return new String(bytes, start, end - start, StandardCharsets.UTF_8);
+        }
+        byte[] copy = new byte[end - start];
+        for (int i = start; i < end; ++i) {
+            copy[i - start] = buffer.get(i);
+        }
+        return new String(copy, StandardCharsets.UTF_8);
+    }
+
+    private static IllegalArgumentException invalid(CharSequence text, byte[] bytes, ByteBuffer buffer, int start, int end,
+            String reason) {
+        return new IllegalArgumentException("Cannot parse \"" + substring(text, bytes, buffer, start, end) + "\": " + reason);
+    }
+
+    private static void checkRange(int start, int end, int length) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException("Invalid range [" + start + ", " + end + ") of " + length);
+        }
+    }
+
+    private static Suffix alias(String symbol, Unit<?> unit) {
+        return new Suffix(symbol, unit.getScale(), unit.getOffset());
+    }
+
+    private static QuantityParser of(Dimension<?> dimension, Suffix... aliases) {
+        List<Suffix> entries = new ArrayList<>();
+        for (Unit<?> unit : dimension.getUnits()) {
+            entries.add(alias(unit.getSymbol(), unit));
+        }
+        entries.addAll(Arrays.asList(aliases));
+        return new QuantityParser(entries);
+    }
+
+    private static class Suffix {
+
+        private final String symbol;
+        private final double scale;
+        private final double offset;
+
+        private Suffix(String symbol, double scale, double offset) {
+            this.symbol = symbol;
+            this.scale = scale;
+            this.offset = offset;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package ca.nexapp.math.units;
+
+import java.util.function.Consumer;
+import java.util.function.DoubleFunction;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collector;
+
+/**
+ * Count, sum, mean, extremes and variance of quantities in a single pass, in the canonical unit of the quantity (nanoseconds,
+ * meters, grams, bits or a fraction). The sum is compensated (Kahan–Neumaier) and the variance follows Welford, so both stay
+ * accurate over hundreds of millions of values. Accumulators of parallel chunks merge with {@link #combine}.
+ */
+public class QuantityStatistics<Q> implements Consumer<Q> {
+
+    private final ToDoubleFunction<Q> toCanonical;
+    private final DoubleFunction<Q> fromCanonical;
+
+    private long count;
+    private double sum;
+    private double compensation;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+    private double mean;
+    private double squaredDeviations;
+
+    private QuantityStatistics(ToDoubleFunction<Q> toCanonical, DoubleFunction<Q> fromCanonical) {
+        this.toCanonical = toCanonical;
+        this.fromCanonical = fromCanonical;
+    }
+
+    @Override
+    public void accept(Q quantity) {
+        accept(toCanonical.applyAsDouble(quantity));
+    }
+
+    public void accept(double canonicalValue) {
+        count++;
+        addToSum(canonicalValue);
+        min = Math.min(min, canonicalValue);
+        max = Math.max(max, canonicalValue);
+
+        double deviation = canonicalValue - mean;
+        mean += deviation / count;
+        squaredDeviations += deviation * (canonicalValue - mean);
+    }
+
+    public void acceptAll(double[] canonicalValues) {
+        for (double value : canonicalValues) {
+            accept(value);
+        }
+    }
+
+    public QuantityStatistics<Q> combine(QuantityStatistics<Q> other) {
+        if (other.count == 0) {
+            return this;
+        }
+
+        long combinedCount = count + other.count;
+        double deviation = other.mean - mean;
+        squaredDeviations += other.squaredDeviations + deviation * deviation * ((double) count * other.count / combinedCount);
+        mean += deviation * other.count / combinedCount;
+
+        addToSum(other.sum);
+        compensation += other.compensation;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        count = combinedCount;
+        return this;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public Q getSum() {
+        return fromCanonical.apply(getCanonicalSum());
+    }
+
+    public double getCanonicalSum() {
+        return sum + compensation;
+    }
+
+    public Q getMean() {
+        return fromCanonical.apply(getCanonicalMean());
+    }
+
+    public double getCanonicalMean() {
+        checkNotEmpty();
+        return getCanonicalSum() / count;
+    }
+
+    public Q getMin() {
+        checkNotEmpty();
+        return fromCanonical.apply(min);
+    }
+
+    public Q getMax() {
+        checkNotEmpty();
+        return fromCanonical.apply(max);
+    }
+
+    public double getVariance() {
+        checkNotEmpty();
+        return squaredDeviations / count;
+    }
+
+    public double getSampleVariance() {
+        if (count < 2) {
+            throw new IllegalStateException("The sample variance needs at least two values");
+        }
+        return squaredDeviations / (count - 1);
+    }
+
+    public Q getStandardDeviation() {
+        return fromCanonical.apply(Math.sqrt(getVariance()));
+    }
+
+    private void addToSum(double value) {
+        double total = sum + value;
+        if (Math.abs(sum) >= Math.abs(value)) {
+            compensation += (sum - total) + value;
+        } else {
+            compensation += (value - total) + sum;
+        }
+        sum = total;
+    }
+
+    private void checkNotEmpty() {
+        if (count == 0) {
+            throw new IllegalStateException("Cannot compute statistics without values");
+        }
+    }
+
+    public static QuantityStatistics<Duration> ofDurations() {
+        return new QuantityStatistics<>(duration -> duration.to(Duration.NANOSECONDS),
+                nanoseconds -> Duration.of(nanoseconds, Duration.NANOSECONDS));
+    }
+
+    public static QuantityStatistics<Length> ofLengths() {
+        return new QuantityStatistics<>(Length::toMeters, Length::fromMeters);
+    }
+
+    public static QuantityStatistics<Mass> ofMasses() {
+        return new QuantityStatistics<>(Mass::toGrams, Mass::grams);
+    }
+
+    public static QuantityStatistics<Percentage> ofPercentages() {
+        return new QuantityStatistics<>(Percentage::toFraction, Percentage::fromFraction);
+    }
+
+    public static QuantityStatistics<DigitalStorage> ofDigitalStorages() {
+        return new QuantityStatistics<>(DigitalStorage::toBits, bits -> DigitalStorage.bits(Math.round(bits)));
+    }
+
+    public static Collector<Duration, ?, QuantityStatistics<Duration>> summarizingDurations() {
+        return summarizing(QuantityStatistics::ofDurations);
+    }
+
+    public static Collector<Length, ?, QuantityStatistics<Length>> summarizingLengths() {
+        return summarizing(QuantityStatistics::ofLengths);
+    }
+
+    public static Collector<Mass, ?, QuantityStatistics<Mass>> summarizingMasses() {
+        return summarizing(QuantityStatistics::ofMasses);
+    }
+
+    public static Collector<Percentage, ?, QuantityStatistics<Percentage>> summarizingPercentages() {
+        return summarizing(QuantityStatistics::ofPercentages);
+    }
+
+    public static Collector<DigitalStorage, ?, QuantityStatistics<DigitalStorage>> summarizingDigitalStorages() {
+        return summarizing(QuantityStatistics::ofDigitalStorages);
+    }
+
+    private static <Q> Collector<Q, ?, QuantityStatistics<Q>> summarizing(Supplier<QuantityStatistics<Q>> supplier) {
+        return Collector.of(supplier, QuantityStatistics::accept, QuantityStatistics::combine, Collector.Characteristics.IDENTITY_FINISH,
+                Collector.Characteristics.UNORDERED);
+    }
+
+    @Override
+    public String toString() {
+        if (count == 0) {
+            return "no values";
+        }
+        return count + " values, mean " + getCanonicalMean() + ", min " + min + ", max " + max;
+    }
+}
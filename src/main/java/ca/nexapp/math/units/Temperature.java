@@ -4,22 +4,50 @@ import java.util.Objects;
 
 public class Temperature implements Comparable<Temperature> {
 
+    private static final double FAHRENHEIT_ZERO_IN_CELSIUS = 32.0;
+    private static final double CELSIUS_DEGREES = 5.0;
+    private static final double FAHRENHEIT_DEGREES = 9.0;
+    private static final double KELVIN_ZERO_IN_CELSIUS = 273.15;
+
+    public static final Unit<Temperature> CELSIUS = Unit.canonical("°C");
+    public static final Unit<Temperature> FAHRENHEIT = Unit.affine("°F", CELSIUS_DEGREES, FAHRENHEIT_DEGREES,
+            FAHRENHEIT_ZERO_IN_CELSIUS);
+    public static final Unit<Temperature> KELVIN = Unit.affine("K", 1.0, KELVIN_ZERO_IN_CELSIUS);
+
+    public static final Dimension<Temperature> DIMENSION = Dimension.of("temperature", CELSIUS, FAHRENHEIT, KELVIN);
+
     private double celsius;
 
     private Temperature(double celsius) {
         this.celsius = celsius;
     }
 
+    public double to(Unit<Temperature> unit) {
+        return CELSIUS.convert(celsius, unit);
+    }
+
+    public Quantity<Temperature> toQuantity() {
+        return Quantity.of(celsius, CELSIUS);
+    }
+
     public double toCelsius() {
         return celsius;
     }
 
     public double toFahrenheit() {
-        return celsius * 9.0 / 5.0 + 32.0;
+        return to(FAHRENHEIT);
     }
 
     public double toKelvin() {
-        return celsius + 273.15;
+        return to(KELVIN);
+    }
+
+    public static Temperature of(double value, Unit<Temperature> unit) {
+        return new Temperature(unit.convert(value, CELSIUS));
+    }
+
+    public static Temperature of(Quantity<Temperature> quantity) {
+        return new Temperature(quantity.to(CELSIUS));
     }
 
     public static Temperature fromCelsius(double celsius) {
@@ -27,13 +55,11 @@ public class Temperature implements Comparable<Temperature> {
     }
 
     public static Temperature fromFahrenheit(double fahrenheit) {
-        double celsius = (fahrenheit - 32.0) * (5.0 / 9.0);
-        return fromCelsius(celsius);
+        return of(fahrenheit, FAHRENHEIT);
     }
 
     public static Temperature fromKelvin(double kelvin) {
-        double celsius = kelvin - 273.15;
-        return fromCelsius(celsius);
+        return of(kelvin, KELVIN);
     }
 
     @Override
@@ -0,0 +1,79 @@
+package ca.nexapp.math.units;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class TemperatureArray extends QuantityArray {
+
+    private TemperatureArray(double[] celsius) {
+        super(celsius);
+    }
+
+    public Temperature get(int index) {
+        return Temperature.fromCelsius(values[index]);
+    }
+
+    public void set(int index, Temperature temperature) {
+        values[index] = temperature.toCelsius();
+    }
+
+    public Temperature min() {
+        return Temperature.fromCelsius(minimum());
+    }
+
+    public Temperature max() {
+        return Temperature.fromCelsius(maximum());
+    }
+
+    public void to(Unit<Temperature> unit, double[] converted) {
+        Temperature.CELSIUS.convert(values, unit, converted);
+    }
+
+    public void toCelsius(double[] celsius) {
+        checkOutputLength(celsius);
+        System.arraycopy(values, 0, celsius, 0, values.length);
+    }
+
+    public void toFahrenheit(double[] fahrenheit) {
+        to(Temperature.FAHRENHEIT, fahrenheit);
+    }
+
+    public void toKelvin(double[] kelvin) {
+        to(Temperature.KELVIN, kelvin);
+    }
+
+    public static TemperatureArray of(double[] values, Unit<Temperature> unit) {
+        double[] converted = new double[values.length];
+        unit.convert(values, Temperature.CELSIUS, converted);
+        return new TemperatureArray(converted);
+    }
+
+    public static TemperatureArray ofSize(int size) {
+        return new TemperatureArray(new double[size]);
+    }
+
+    public static TemperatureArray of(Temperature... temperatures) {
+        return from(Arrays.asList(temperatures));
+    }
+
+    public static TemperatureArray from(List<Temperature> temperatures) {
+        return new TemperatureArray(temperatures.stream().mapToDouble(Temperature::toCelsius).toArray());
+    }
+
+    public static TemperatureArray fromCelsius(double[] celsius) {
+        return new TemperatureArray(celsius.clone());
+    }
+
+    public static TemperatureArray fromFahrenheit(double[] fahrenheit) {
+        return of(fahrenheit, Temperature.FAHRENHEIT);
+    }
+
+    public static TemperatureArray fromKelvin(double[] kelvin) {
+        return of(kelvin, Temperature.KELVIN);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(values) + "°";
+    }
+}
@@ -0,0 +1,128 @@
+package ca.nexapp.math.units;
+
+import java.nio.DoubleBuffer;
+
+public class Unit<Q> {
+
+    private final String symbol;
+    private final double scale;
+    private final double canonicalUnits;
+    private final double units;
+    private final double offset;
+
+    private Dimension<Q> dimension;
+    private int index;
+
+    private Unit(String symbol, double canonicalUnits, double units, double offset) {
+        this.symbol = symbol;
+        this.scale = canonicalUnits / units;
+        this.canonicalUnits = canonicalUnits;
+        this.units = units;
+        this.offset = offset;
+    }
+
+    public String getSymbol() {
+        return symbol;
+    }
+
+    public Dimension<Q> getDimension() {
+        return dimension;
+    }
+
+    public boolean isCanonical() {
+        return scale == 1.0 && offset == 0.0;
+    }
+
+    public double convert(double value, Unit<Q> target) {
+        return dimension.convert(value, this, target);
+    }
+
+    public void convert(double[] values, Unit<Q> target, double[] converted) {
+        dimension.convert(values, 0, this, target, converted, 0, values.length);
+    }
+
+    public void convert(double[] values, int offset, int length, Unit<Q> target, double[] converted, int convertedOffset) {
+        dimension.convert(values, offset, this, target, converted, convertedOffset, length);
+    }
+
+    public void convert(DoubleBuffer values, Unit<Q> target, DoubleBuffer converted) {
+        dimension.convert(values, this, target, converted);
+    }
+
+    public double toCanonical(double value) {
+        return convert(value, dimension.getCanonicalUnit());
+    }
+
+    public double fromCanonical(double canonicalValue) {
+        return dimension.getCanonicalUnit().convert(canonicalValue, this);
+    }
+
+    double getScale() {
+        return scale;
+    }
+
+    double getOffset() {
+        return offset;
+    }
+
+    double getCanonicalUnits() {
+        return canonicalUnits;
+    }
+
+    double getUnits() {
+        return units;
+    }
+
+    // Multiplies then divides by the ratio's terms, as a conversion written by hand would, rather than dividing by the rounded scale
+    double fromCanonicalValue(double canonicalValue) {
+        return canonicalValue * units / canonicalUnits + offset;
+    }
+
+    double toCanonicalValue(double value) {
+        return (value - offset) * scale;
+    }
+
+    int getIndex() {
+        return index;
+    }
+
+    void attachTo(Dimension<Q> dimension, int index) {
+        if (this.dimension != null) {
+            throw new IllegalStateException("The unit " + symbol + " already belongs to the " + this.dimension + " dimension");
+        }
+        this.dimension = dimension;
+        this.index = index;
+    }
+
+    public static <Q> Unit<Q> canonical(String symbol) {
+        return new Unit<>(symbol, 1.0, 1.0, 0.0);
+    }
+
+    public static <Q> Unit<Q> scaled(String symbol, double canonicalUnitsPerUnit) {
+        if (!(canonicalUnitsPerUnit > 0.0) || Double.isInfinite(canonicalUnitsPerUnit)) {
+            throw new IllegalArgumentException("A unit must be a positive multiple of the canonical unit");
+        }
+        return new Unit<>(symbol, canonicalUnitsPerUnit, 1.0, 0.0);
+    }
+
+    public static <Q> Unit<Q> affine(String symbol, double canonicalUnitsPerUnit, double zeroOffset) {
+        return affine(symbol, canonicalUnitsPerUnit, 1.0, zeroOffset);
+    }
+
+    /**
+     * A unit whose {@code units} span {@code canonicalUnits}, such as 9 °F for 5 °C, and whose zero is {@code zeroOffset} of its
+     * own units away from the canonical zero.
+     */
+    public static <Q> Unit<Q> affine(String symbol, double canonicalUnits, double units, double zeroOffset) {
+        double canonicalUnitsPerUnit = canonicalUnits / units;
+        if (!(canonicalUnitsPerUnit > 0.0) || Double.isInfinite(canonicalUnitsPerUnit)) {
+            throw new IllegalArgumentException("A unit must be a positive multiple of the canonical unit");
+        }
+        return new Unit<>(symbol, canonicalUnits, units, zeroOffset);
+    }
+
+    @Override
+    public String toString() {
+        return symbol;
+    }
+}
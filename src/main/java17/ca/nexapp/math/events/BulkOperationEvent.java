@@ -0,0 +1,70 @@
+package ca.nexapp.math.events;
+
+import java.lang.management.ManagementFactory;
+
+import com.sun.management.ThreadMXBean;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(BulkOperations.EVENT_NAME)
+@Label("Bulk Operation")
+@Category("Nexapp Math")
+@Description("Bulk solver, spatial index or distance computation")
+@Enabled(false)
+@StackTrace(false)
+class BulkOperationEvent extends Event implements BulkOperation {
+
+    private static final ThreadMXBean THREADS = threads();
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Elements")
+    long elements;
+
+    @Label("Allocated")
+    @Description("Bytes allocated by the calling thread, -1 when the JVM does not measure them")
+    @DataAmount
+    long allocated;
+
+    private transient long allocatedAtStart;
+
+    void start(String operation, long elements) {
+        this.operation = operation;
+        this.elements = elements;
+        allocatedAtStart = allocatedBytes();
+        begin();
+    }
+
+    @Override
+    public void close() {
+        end();
+        if (shouldCommit()) {
+            long allocatedAtEnd = allocatedBytes();
+            allocated = allocatedAtStart < 0 || allocatedAtEnd < 0 ? -1L : allocatedAtEnd - allocatedAtStart;
+            commit();
+        }
+    }
+
+    private static long allocatedBytes() {
+        if (THREADS == null) {
+            return -1L;
+        }
+        return THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static ThreadMXBean threads() {
+        Object threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof ThreadMXBean && ((ThreadMXBean) threads).isThreadAllocatedMemorySupported()) {
+            return (ThreadMXBean) threads;
+        }
+        return null;
+    }
+}
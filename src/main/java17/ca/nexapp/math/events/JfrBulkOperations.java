@@ -0,0 +1,32 @@
+package ca.nexapp.math.events;
+
+import jdk.jfr.EventType;
+import jdk.jfr.FlightRecorder;
+
+// Loaded reflectively by BulkOperations
+class JfrBulkOperations implements BulkOperationRecorder {
+
+    JfrBulkOperations() {
+        // Resolves the jdk.jfr classes here, so that BulkOperations falls back when the module is missing instead of every begin
+        // throwing a NoClassDefFoundError
+        FlightRecorder.class.getName();
+        BulkOperationEvent.class.getName();
+    }
+
+    @Override
+    public BulkOperation begin(String operation, long elements) {
+        // Once a recording ran, a disabled event is not always removed by escape analysis, so it is only created when enabled
+        if (!FlightRecorder.isInitialized() || !Type.BULK_OPERATION.isEnabled()) {
+            return BulkOperation.NONE;
+        }
+        BulkOperationEvent event = new BulkOperationEvent();
+        event.start(operation, elements);
+        return event;
+    }
+
+    // Looked up on the first recording only, since it initializes the flight recorder metadata
+    private static class Type {
+
+        private static final EventType BULK_OPERATION = EventType.getEventType(BulkOperationEvent.class);
+    }
+}
@@ -0,0 +1,107 @@
+package ca.nexapp.math.kernels;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// Loaded reflectively by BulkKernels; the scalar kernels handle the indices left after the last full vector
+class VectorKernels implements Kernels {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private final ScalarKernels scalar = new ScalarKernels();
+
+    @Override
+    public void evaluatePolynomial(double[] coefficients, double[] xs, double[] ys, int from, int to) {
+        int i = from;
+        for (int bound = from + SPECIES.loopBound(to - from); i < bound; i += SPECIES.length()) {
+            DoubleVector x = DoubleVector.fromArray(SPECIES, xs, i);
+            DoubleVector y = DoubleVector.broadcast(SPECIES, coefficients[0]);
+            for (int k = 1; k < coefficients.length; ++k) {
+                y = y.fma(x, DoubleVector.broadcast(SPECIES, coefficients[k]));
+            }
+            y.intoArray(ys, i);
+        }
+        scalar.evaluatePolynomial(coefficients, xs, ys, i, to);
+    }
+
+    @Override
+    public void solveQuadratics(double[] a, double[] b, double[] c, double[] positiveRoots, double[] negativeRoots, int from, int to) {
+        int i = from;
+        for (int bound = from + SPECIES.loopBound(to - from); i < bound; i += SPECIES.length()) {
+            DoubleVector va = DoubleVector.fromArray(SPECIES, a, i);
+            DoubleVector vb = DoubleVector.fromArray(SPECIES, b, i);
+            DoubleVector vc = DoubleVector.fromArray(SPECIES, c, i);
+            DoubleVector squareRoot = vb.mul(vb).sub(va.mul(vc).mul(4.0)).sqrt();
+            DoubleVector twoA = va.mul(2.0);
+            DoubleVector minusB = vb.neg();
+            minusB.add(squareRoot).div(twoA).intoArray(positiveRoots, i);
+            minusB.sub(squareRoot).div(twoA).intoArray(negativeRoots, i);
+        }
+        scalar.solveQuadratics(a, b, c, positiveRoots, negativeRoots, i, to);
+    }
+
+    @Override
+    public void rotateCounterClockwise(double[] xs, double[] ys, double pivotX, double pivotY, double sin, double cos,
+            double[] rotatedXs, double[] rotatedYs, int from, int to) {
+        DoubleVector sine = DoubleVector.broadcast(SPECIES, sin);
+        DoubleVector cosine = DoubleVector.broadcast(SPECIES, cos);
+        int i = from;
+        for (int bound = from + SPECIES.loopBound(to - from); i < bound; i += SPECIES.length()) {
+            DoubleVector dx = DoubleVector.fromArray(SPECIES, xs, i).sub(pivotX);
+            DoubleVector dy = DoubleVector.fromArray(SPECIES, ys, i).sub(pivotY);
+            dx.fma(cosine, dy.mul(-sin)).add(pivotX).intoArray(rotatedXs, i);
+            dx.fma(sine, dy.mul(cos)).add(pivotY).intoArray(rotatedYs, i);
+        }
+        scalar.rotateCounterClockwise(xs, ys, pivotX, pivotY, sin, cos, rotatedXs, rotatedYs, i, to);
+    }
+
+    @Override
+    public void greatCircleDistances(double originLatitude, double originLongitude, double[] latitudes, double[] longitudes,
+            double radius, double[] distances, int from, int to) {
+        double cosOriginLatitude = Math.cos(originLatitude);
+        double radiansPerDegree = Math.PI / 180.0;
+        int i = from;
+        for (int bound = from + SPECIES.loopBound(to - from); i < bound; i += SPECIES.length()) {
+            DoubleVector latitude = DoubleVector.fromArray(SPECIES, latitudes, i).mul(radiansPerDegree);
+            DoubleVector longitude = DoubleVector.fromArray(SPECIES, longitudes, i).mul(radiansPerDegree);
+            DoubleVector halfLatitudeSine = latitude.sub(originLatitude).mul(0.5).lanewise(VectorOperators.SIN);
+            DoubleVector halfLongitudeSine = longitude.sub(originLongitude).mul(0.5).lanewise(VectorOperators.SIN);
+            DoubleVector haversine = halfLatitudeSine.fma(halfLatitudeSine, latitude.lanewise(VectorOperators.COS)
+                    .mul(cosOriginLatitude).mul(halfLongitudeSine).mul(halfLongitudeSine));
+            haversine.sqrt().min(1.0).lanewise(VectorOperators.ASIN).mul(2.0 * radius).intoArray(distances, i);
+        }
+        scalar.greatCircleDistances(originLatitude, originLongitude, latitudes, longitudes, radius, distances, i, to);
+    }
+
+    @Override
+    public void scale(double[] values, double multiplier, double divisor, double[] scaled, int shift, int from, int to) {
+        int i = from;
+        int bound = from + SPECIES.loopBound(to - from);
+        if (divisor == 1.0) {
+            for (; i < bound; i += SPECIES.length()) {
+                DoubleVector.fromArray(SPECIES, values, i).mul(multiplier).intoArray(scaled, i + shift);
+            }
+        } else if (multiplier == 1.0) {
+            for (; i < bound; i += SPECIES.length()) {
+                DoubleVector.fromArray(SPECIES, values, i).div(divisor).intoArray(scaled, i + shift);
+            }
+        } else {
+            for (; i < bound; i += SPECIES.length()) {
+                DoubleVector.fromArray(SPECIES, values, i).mul(multiplier).div(divisor).intoArray(scaled, i + shift);
+            }
+        }
+        scalar.scale(values, multiplier, divisor, scaled, shift, i, to);
+    }
+
+    @Override
+    public void scaleAndOffset(double[] values, double subtrahend, double multiplier, double divisor, double addend,
+            double[] scaled, int shift, int from, int to) {
+        int i = from;
+        for (int bound = from + SPECIES.loopBound(to - from); i < bound; i += SPECIES.length()) {
+            DoubleVector.fromArray(SPECIES, values, i).sub(subtrahend).mul(multiplier).div(divisor).add(addend)
+                    .intoArray(scaled, i + shift);
+        }
+        scalar.scaleAndOffset(values, subtrahend, multiplier, divisor, addend, scaled, shift, i, to);
+    }
+}
@@ -0,0 +1,237 @@
+package ca.nexapp.math;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import ca.nexapp.math.functions.CubicFunction;
+import ca.nexapp.math.functions.QuarticFunction;
+import ca.nexapp.math.kernels.BulkKernels;
+import ca.nexapp.math.units.Coordinates;
+import ca.nexapp.math.units.FastTrigonometry;
+
+/**
+ * Throughput of each implementation over a mix of random and adversarial inputs, with its largest error against the
+ * {@link HighPrecision} reference over the same inputs printed at the end of the trial.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccuracyBenchmark {
+
+    private static final int SIZE = 4096;
+    private static final Coordinates ORIGIN = Coordinates.locatedAt(45.4959755, -73.5693904);
+
+    @Param
+    private Implementation implementation;
+
+    private double[][] inputs;
+    private double[] results;
+
+    @Setup
+    public void setUp() {
+        inputs = implementation.inputs.generate(new Random(42), SIZE);
+        results = new double[SIZE];
+    }
+
+    @Benchmark
+    public double[] evaluate() {
+        implementation.evaluate(inputs, results);
+        return results;
+    }
+
+    @TearDown(Level.Trial)
+    public void reportErrors() {
+        ErrorSummary errors = new ErrorSummary();
+        implementation.evaluate(inputs, results);
+        for (int i = 0; i < SIZE; ++i) {
+            errors.accept(inputs[0][i], results[i], implementation.inputs.reference(inputs, i));
+        }
+        System.out.println();
+        System.out.println(implementation + ": " + errors);
+    }
+
+    public enum Implementation {
+
+        MATH_SIN(Inputs.ANGLES) {
+            @Override
+            void evaluate(double[][] inputs, double[] results) {
+                double[] degrees = inputs[0];
+                for (int i = 0; i < degrees.length; ++i) {
+                    results[i] = Math.sin(Math.toRadians(degrees[i]));
+                }
+            }
+        },
+        FAST_SIN(Inputs.ANGLES) {
+            @Override
+            void evaluate(double[][] inputs, double[] results) {
+                FastTrigonometry.sin(inputs[0], results);
+            }
+        },
+        LAW_OF_COSINES_DISTANCE(Inputs.DESTINATIONS) {
+            @Override
+            void evaluate(double[][] inputs, double[] results) {
+                double[] latitudes = inputs[0];
+                double[] longitudes = inputs[1];
+                for (int i = 0; i < latitudes.length; ++i) {
+                    results[i] = ORIGIN.getDistanceTo(Coordinates.locatedAt(latitudes[i], longitudes[i])).toMeters();
+                }
+            }
+        },
+        HAVERSINE_DISTANCE(Inputs.DESTINATIONS) {
+            @Override
+            void evaluate(double[][] inputs, double[] results) {
+                BulkKernels.greatCircleDistances(ORIGIN, inputs[0], inputs[1], results);
+            }
+        },
+        CUBIC_LARGEST_ROOT(Inputs.CUBICS) {
+            @Override
+            void evaluate(double[][] inputs, double[] results) {
+                for (int i = 0; i < results.length; ++i) {
+                    results[i] = largest(new CubicFunction(1.0, inputs[1][i], inputs[2][i], inputs[3][i]).findRealRoots());
+                }
+            }
+        },
+        QUARTIC_LARGEST_ROOT(Inputs.QUARTICS) {
+            @Override
+            void evaluate(double[][] inputs, double[] results) {
+                for (int i = 0; i < results.length; ++i) {
+                    results[i] = largest(
+                            new QuarticFunction(1.0, inputs[1][i], inputs[2][i], inputs[3][i], inputs[4][i]).findRealRoots());
+                }
+            }
+        };
+
+        private final Inputs inputs;
+
+        private Implementation(Inputs inputs) {
+            this.inputs = inputs;
+        }
+
+        abstract void evaluate(double[][] inputs, double[] results);
+
+        private static double largest(double[] roots) {
+            double largest = Double.NaN;
+            for (double root : roots) {
+                largest = Double.isNaN(largest) ? root : Math.max(largest, root);
+            }
+            return largest;
+        }
+    }
+
+    private enum Inputs {
+
+        // Within one turn, a quarter of them right next to the axes
+        ANGLES {
+            @Override
+            double[][] generate(Random random, int size) {
+                double[] degrees = new double[size];
+                for (int i = 0; i < size; ++i) {
+                    degrees[i] = i % 4 == 0 ? (random.nextInt(9) - 4) * 90.0 + random.nextGaussian() * 1e-9
+                            : random.nextDouble() * 720.0 - 360.0;
+                }
+                return new double[][] { degrees };
+            }
+
+            @Override
+            BigDecimal reference(double[][] inputs, int index) {
+                return HighPrecision.sinOfDegrees(inputs[0][index]);
+            }
+        },
+        // Anywhere, nearby or antipodal to the origin, where the formulas are ill-conditioned
+        DESTINATIONS {
+            @Override
+            double[][] generate(Random random, int size) {
+                double latitude = ORIGIN.getLatitude().toDegrees();
+                double longitude = ORIGIN.getLongitude().toDegrees();
+                double[] latitudes = new double[size];
+                double[] longitudes = new double[size];
+                for (int i = 0; i < size; ++i) {
+                    if (i % 4 == 0) {
+                        latitudes[i] = latitude + random.nextGaussian() * 1e-6;
+                        longitudes[i] = longitude + random.nextGaussian() * 1e-6;
+                    } else if (i % 4 == 1) {
+                        latitudes[i] = -latitude + random.nextGaussian() * 1e-6;
+                        longitudes[i] = longitude + 180.0 + random.nextGaussian() * 1e-6;
+                    } else {
+                        latitudes[i] = random.nextDouble() * 180.0 - 90.0;
+                        longitudes[i] = random.nextDouble() * 360.0 - 180.0;
+                    }
+                }
+                return new double[][] { latitudes, longitudes };
+            }
+
+            @Override
+            BigDecimal reference(double[][] inputs, int index) {
+                return HighPrecision.greatCircleDistanceInMeters(ORIGIN.getLatitude().toDegrees(), ORIGIN.getLongitude().toDegrees(),
+                        inputs[0][index], inputs[1][index]);
+            }
+        },
+        CUBICS {
+            @Override
+            double[][] generate(Random random, int size) {
+                return polynomials(random, size, 3);
+            }
+        },
+        QUARTICS {
+            @Override
+            double[][] generate(Random random, int size) {
+                return polynomials(random, size, 4);
+            }
+        };
+
+        abstract double[][] generate(Random random, int size);
+
+        // Built from their roots, the polynomials have an exact largest root
+        BigDecimal reference(double[][] inputs, int index) {
+            return new BigDecimal(inputs[0][index]);
+        }
+
+        // Monic polynomials with roots multiple of 2⁻⁸ between -8 and 8, exact in double, a quarter of them with a double root.
+        // The first column holds the largest root, the next ones the coefficients from the second highest degree.
+        private static double[][] polynomials(Random random, int size, int degree) {
+            double[][] columns = new double[degree + 1][size];
+            for (int i = 0; i < size; ++i) {
+                double[] coefficients = { 1.0 };
+                double largest = Double.NEGATIVE_INFINITY;
+                double root = 0.0;
+                for (int j = 0; j < degree; ++j) {
+                    root = j == 1 && i % 4 == 0 ? root : (random.nextInt(16 << 8) - (8 << 8)) / 256.0;
+                    largest = Math.max(largest, root);
+                    coefficients = multiplyByXMinus(coefficients, root);
+                }
+                columns[0][i] = largest;
+                for (int j = 1; j <= degree; ++j) {
+                    columns[j][i] = coefficients[j];
+                }
+            }
+            return columns;
+        }
+
+        private static double[] multiplyByXMinus(double[] coefficients, double root) {
+            double[] product = new double[coefficients.length + 1];
+            for (int i = 0; i < coefficients.length; ++i) {
+                product[i] += coefficients[i];
+                product[i + 1] -= coefficients[i] * root;
+            }
+            return product;
+        }
+    }
+}
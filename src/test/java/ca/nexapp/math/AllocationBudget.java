@@ -0,0 +1,64 @@
+package ca.nexapp.math;
+
+import static com.google.common.truth.Truth.assertWithMessage;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.Assume;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Measures the bytes a call allocates on the calling thread with {@link ThreadMXBean#getThreadAllocatedBytes(long)}, once the JIT
+ * had the chance to compile it (and remove the allocations that escape analysis can remove). Tests are skipped on JVMs that do
+ * not measure allocations.
+ */
+public class AllocationBudget {
+
+    private static final int WARM_UP_CALLS = 50_000;
+    private static final int MEASURED_CALLS = 10_000;
+    private static final ThreadMXBean THREADS = threads();
+
+    private AllocationBudget() {
+    }
+
+    public static void assertAllocatesAtMost(long bytesPerCall, String description, Runnable call) {
+        Assume.assumeTrue("The JVM does not measure allocations", THREADS != null);
+
+        long allocated = bytesPerCall(call);
+        assertWithMessage(description + " allocates " + allocated + " bytes per call").that(allocated).isAtMost(bytesPerCall);
+    }
+
+    public static void assertDoesNotAllocate(String description, Runnable call) {
+        assertAllocatesAtMost(0, description, call);
+    }
+
+    public static long bytesPerCall(Runnable call) {
+        Runnable nothing = () -> {
+        };
+        for (int i = 0; i < WARM_UP_CALLS; ++i) {
+            call.run();
+            nothing.run();
+        }
+        long overhead = measure(nothing);
+        return Math.max(0L, (measure(call) - overhead) / MEASURED_CALLS);
+    }
+
+    private static long measure(Runnable call) {
+        long threadId = Thread.currentThread().getId();
+        long before = THREADS.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_CALLS; ++i) {
+            call.run();
+        }
+        return THREADS.getThreadAllocatedBytes(threadId) - before;
+    }
+
+    private static ThreadMXBean threads() {
+        Object threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof ThreadMXBean && ((ThreadMXBean) threads).isThreadAllocatedMemorySupported()) {
+            ((ThreadMXBean) threads).setThreadAllocatedMemoryEnabled(true);
+            return (ThreadMXBean) threads;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,50 @@
+package ca.nexapp.math;
+
+import java.math.BigDecimal;
+
+/**
+ * Largest absolute and relative errors of an implementation against its {@link HighPrecision} reference, the relative one in
+ * units in the last place of the reference rounded to a double. Exact zeros have no meaningful ULP error and only count
+ * towards the absolute error.
+ */
+public class ErrorSummary {
+
+    private long count;
+    private double maxAbsoluteError;
+    private double maxUlpError;
+    private double worstInput = Double.NaN;
+
+    public void accept(double input, double actual, BigDecimal expected) {
+        count++;
+        double absoluteError = Double.isFinite(actual) ? new BigDecimal(actual).subtract(expected).abs().doubleValue()
+                : Double.POSITIVE_INFINITY;
+        if (absoluteError > maxAbsoluteError || Double.isNaN(worstInput)) {
+            maxAbsoluteError = absoluteError;
+            worstInput = input;
+        }
+        if (expected.signum() != 0) {
+            maxUlpError = Math.max(maxUlpError, absoluteError / Math.ulp(expected.doubleValue()));
+        }
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMaxAbsoluteError() {
+        return maxAbsoluteError;
+    }
+
+    public double getMaxUlpError() {
+        return maxUlpError;
+    }
+
+    public double getWorstInput() {
+        return worstInput;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d samples, max error %.3g (%.1f ulp) at %s", count, maxAbsoluteError, maxUlpError, worstInput);
+    }
+}
@@ -0,0 +1,140 @@
+package ca.nexapp.math;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+/**
+ * Reference implementations with 40 significant digits, slow but far more accurate than any double result they are compared
+ * with. The inputs are doubles taken exactly, so the error measured is the error of the implementation alone.
+ */
+public class HighPrecision {
+
+    public static final MathContext CONTEXT = new MathContext(40, RoundingMode.HALF_EVEN);
+
+    public static final BigDecimal PI = new BigDecimal("3.14159265358979323846264338327950288419716939937510582097494");
+    public static final BigDecimal EARTH_RADIUS_IN_METERS = BigDecimal.valueOf(6_371_000L);
+
+    private static final BigDecimal TWO = BigDecimal.valueOf(2L);
+    private static final BigDecimal TWO_PI = PI.multiply(TWO);
+    private static final BigDecimal HALF_PI = PI.divide(TWO);
+    private static final BigDecimal DEGREES_IN_A_TURN = BigDecimal.valueOf(360L);
+    private static final BigDecimal EPSILON = BigDecimal.ONE.movePointLeft(CONTEXT.getPrecision() + 5);
+
+    private HighPrecision() {
+    }
+
+    public static BigDecimal sinOfDegrees(double degrees) {
+        return sin(toRadians(reduceDegrees(degrees)));
+    }
+
+    public static BigDecimal cosOfDegrees(double degrees) {
+        return cos(toRadians(reduceDegrees(degrees)));
+    }
+
+    public static BigDecimal toRadians(BigDecimal degrees) {
+        return degrees.multiply(PI).divide(BigDecimal.valueOf(180L), CONTEXT);
+    }
+
+    public static BigDecimal sin(BigDecimal radians) {
+        BigDecimal x = reduceRadians(radians);
+        BigDecimal squared = x.multiply(x, CONTEXT);
+        BigDecimal term = x;
+        BigDecimal sum = x;
+        for (int n = 1; term.abs().compareTo(EPSILON) > 0; ++n) {
+            term = term.multiply(squared).divide(BigDecimal.valueOf(-(2L * n) * (2L * n + 1)), CONTEXT);
+            sum = sum.add(term, CONTEXT);
+        }
+        return sum;
+    }
+
+    public static BigDecimal cos(BigDecimal radians) {
+        BigDecimal x = reduceRadians(radians);
+        BigDecimal squared = x.multiply(x, CONTEXT);
+        BigDecimal term = BigDecimal.ONE;
+        BigDecimal sum = BigDecimal.ONE;
+        for (int n = 1; term.abs().compareTo(EPSILON) > 0; ++n) {
+            term = term.multiply(squared).divide(BigDecimal.valueOf(-(2L * n - 1) * (2L * n)), CONTEXT);
+            sum = sum.add(term, CONTEXT);
+        }
+        return sum;
+    }
+
+    public static BigDecimal sqrt(BigDecimal value) {
+        if (value.signum() < 0) {
+            throw new ArithmeticException("Cannot take the square root of " + value);
+        }
+        if (value.signum() == 0) {
+            return BigDecimal.ZERO;
+        }
+        // Each Newton step doubles the correct digits of the double estimate
+        BigDecimal root = new BigDecimal(Math.sqrt(value.doubleValue()));
+        for (int i = 0; i < 3; ++i) {
+            root = root.add(value.divide(root, CONTEXT)).divide(TWO, CONTEXT);
+        }
+        return root;
+    }
+
+    public static BigDecimal atan(BigDecimal value) {
+        if (value.abs().compareTo(BigDecimal.ONE) > 0) {
+            BigDecimal complement = HALF_PI.subtract(atan(BigDecimal.ONE.divide(value.abs(), CONTEXT)));
+            return value.signum() < 0 ? complement.negate() : complement;
+        }
+
+        // atan(x) = 2 atan(x / (1 + sqrt(1 + x²))), applied twice so that the series converges quickly
+        BigDecimal x = value;
+        for (int i = 0; i < 2; ++i) {
+            x = x.divide(BigDecimal.ONE.add(sqrt(BigDecimal.ONE.add(x.multiply(x)))), CONTEXT);
+        }
+        BigDecimal squared = x.multiply(x, CONTEXT);
+        BigDecimal power = x;
+        BigDecimal sum = x;
+        for (int n = 1; power.abs().compareTo(EPSILON) > 0; ++n) {
+            power = power.multiply(squared, CONTEXT).negate();
+            sum = sum.add(power.divide(BigDecimal.valueOf(2L * n + 1), CONTEXT), CONTEXT);
+        }
+        return sum.multiply(BigDecimal.valueOf(4L));
+    }
+
+    public static BigDecimal atan2(BigDecimal y, BigDecimal x) {
+        if (x.signum() > 0) {
+            return atan(y.divide(x, CONTEXT));
+        }
+        if (x.signum() == 0) {
+            return y.signum() < 0 ? HALF_PI.negate() : HALF_PI;
+        }
+        BigDecimal angle = PI.subtract(atan(y.divide(x.negate(), CONTEXT)));
+        return y.signum() < 0 ? angle.negate() : angle;
+    }
+
+    /**
+     * Distance on a sphere of {@link #EARTH_RADIUS_IN_METERS} with the Vincenty formula, which unlike the law of cosines and
+     * the haversine is well conditioned for both nearby and antipodal positions.
+     */
+    public static BigDecimal greatCircleDistanceInMeters(double latitude1, double longitude1, double latitude2, double longitude2) {
+        BigDecimal phi1 = toRadians(new BigDecimal(latitude1));
+        BigDecimal phi2 = toRadians(new BigDecimal(latitude2));
+        BigDecimal deltaLambda = toRadians(new BigDecimal(longitude2).subtract(new BigDecimal(longitude1)));
+
+        BigDecimal sinPhi1 = sin(phi1);
+        BigDecimal cosPhi1 = cos(phi1);
+        BigDecimal sinPhi2 = sin(phi2);
+        BigDecimal cosPhi2 = cos(phi2);
+        BigDecimal cosDeltaLambda = cos(deltaLambda);
+
+        BigDecimal across = cosPhi2.multiply(sin(deltaLambda), CONTEXT);
+        BigDecimal along = cosPhi1.multiply(sinPhi2).subtract(sinPhi1.multiply(cosPhi2).multiply(cosDeltaLambda), CONTEXT);
+        BigDecimal y = sqrt(across.multiply(across).add(along.multiply(along), CONTEXT));
+        BigDecimal x = sinPhi1.multiply(sinPhi2).add(cosPhi1.multiply(cosPhi2).multiply(cosDeltaLambda), CONTEXT);
+        return atan2(y, x).multiply(EARTH_RADIUS_IN_METERS, CONTEXT);
+    }
+
+    private static BigDecimal reduceDegrees(double degrees) {
+        return new BigDecimal(degrees).remainder(DEGREES_IN_A_TURN);
+    }
+
+    private static BigDecimal reduceRadians(BigDecimal radians) {
+        BigDecimal turns = radians.divide(TWO_PI, 0, RoundingMode.HALF_EVEN);
+        return radians.subtract(TWO_PI.multiply(turns), CONTEXT);
+    }
+}
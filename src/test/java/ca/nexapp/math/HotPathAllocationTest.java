@@ -0,0 +1,181 @@
+package ca.nexapp.math;
+
+import static ca.nexapp.math.AllocationBudget.assertAllocatesAtMost;
+import static ca.nexapp.math.AllocationBudget.assertDoesNotAllocate;
+
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import ca.nexapp.math.codecs.BinaryCodec;
+import ca.nexapp.math.functions.CubicFunction;
+import ca.nexapp.math.functions.QuarticFunction;
+import ca.nexapp.math.geofences.Geofence;
+import ca.nexapp.math.geofences.GeofenceEngine;
+import ca.nexapp.math.geofences.GeofenceIndex;
+import ca.nexapp.math.projections.Tile;
+import ca.nexapp.math.statistics.LatencyHistogram;
+import ca.nexapp.math.units.Angle;
+import ca.nexapp.math.units.AngleMath;
+import ca.nexapp.math.units.Coordinates;
+import ca.nexapp.math.units.CoordinatesArray;
+import ca.nexapp.math.units.Duration;
+import ca.nexapp.math.units.DurationAdder;
+import ca.nexapp.math.units.FastTrigonometry;
+import ca.nexapp.math.units.Length;
+import ca.nexapp.math.units.LengthArray;
+import ca.nexapp.math.units.QuantityFormatter;
+import ca.nexapp.math.units.QuantityParser;
+
+public class HotPathAllocationTest {
+
+    private static final int SIZE = 256;
+
+    // Object layouts of a 64-bit JVM without compressed class pointers, the largest of the usual ones
+    private static final long LENGTH_BYTES = 24;
+    private static final long ARRAY_HEADER_BYTES = 24;
+    private static final long QUARTIC_BYTES = 1024;
+
+    private static final Coordinates CENTER_BELL = Coordinates.locatedAt(45.4959755, -73.5693904);
+    private static final Coordinates EIFFEL_TOWER = Coordinates.locatedAt(48.8583, 2.2945);
+
+    // Results are kept so that the JIT cannot drop the measured calls
+    private static double sink;
+    private static long longSink;
+
+    private final double[] degrees = sequence(-720.0, 5.625);
+    private final double[] output = new double[SIZE];
+    private final double[] otherOutput = new double[SIZE];
+
+    @Test
+    public void angleMathDoesNotAllocate() {
+        assertDoesNotAllocate("AngleMath.normalizeDegrees(double)", () -> sink = AngleMath.normalizeDegrees(sink - 725.0));
+        assertDoesNotAllocate("AngleMath.quadrant", () -> longSink += AngleMath.quadrant(longSink % 720 - 360));
+        assertDoesNotAllocate("AngleMath.normalizeDegrees(double[])", () -> AngleMath.normalizeDegrees(degrees, output));
+    }
+
+    @Test
+    public void anglePredicatesDoNotAllocate() {
+        Angle angle = Angle.fromDegrees(-600.0);
+
+        assertDoesNotAllocate("Angle.isInFirstQuadrant", () -> longSink += angle.isInFirstQuadrant() ? 1 : 0);
+        assertDoesNotAllocate("Angle.isInThirdQuadrant", () -> longSink += angle.isInThirdQuadrant() ? 1 : 0);
+        assertDoesNotAllocate("Angle.isOnXAxis", () -> longSink += angle.isOnXAxis() ? 1 : 0);
+    }
+
+    @Test
+    public void fastTrigonometryDoesNotAllocate() {
+        double[] sineAndCosine = new double[2];
+
+        assertDoesNotAllocate("FastTrigonometry.sin", () -> sink += FastTrigonometry.sin(sink));
+        assertDoesNotAllocate("FastTrigonometry.sinCos(double)", () -> FastTrigonometry.sinCos(sink, sineAndCosine));
+        assertDoesNotAllocate("FastTrigonometry.sinCos(double[])", () -> FastTrigonometry.sinCos(degrees, output, otherOutput));
+    }
+
+    @Test
+    public void bulkUnitConversionsDoNotAllocate() {
+        DoubleBuffer values = DoubleBuffer.wrap(degrees);
+        DoubleBuffer converted = DoubleBuffer.wrap(output);
+        LengthArray lengths = LengthArray.of(degrees, Length.METERS);
+
+        assertDoesNotAllocate("Unit.convert(double[])", () -> Length.METERS.convert(degrees, Length.FOOT, output));
+        assertDoesNotAllocate("Unit.convert(double[], range)",
+                () -> Length.METERS.convert(degrees, 16, 128, Length.MILES, output, 0));
+        assertDoesNotAllocate("Unit.convert(DoubleBuffer)", () -> {
+            values.clear();
+            converted.clear();
+            Length.KILOMETERS.convert(values, Length.METERS, converted);
+        });
+        assertDoesNotAllocate("LengthArray.to", () -> lengths.to(Length.KILOMETERS, output));
+    }
+
+    @Test
+    public void coordinatesArrayDoesNotAllocate() {
+        CoordinatesArray coordinates = CoordinatesArray.fromDegrees(sequence(-60.0, 0.5), sequence(-170.0, 1.25));
+
+        assertDoesNotAllocate("CoordinatesArray.distancesTo", () -> coordinates.distancesTo(CENTER_BELL, output));
+        assertDoesNotAllocate("CoordinatesArray.bearingsFrom", () -> coordinates.bearingsFrom(EIFFEL_TOWER, output));
+    }
+
+    @Test
+    public void quantityParsingAndFormattingDoNotAllocate() {
+        StringBuilder text = new StringBuilder(32);
+        ByteBuffer bytes = ByteBuffer.allocate(32);
+
+        assertDoesNotAllocate("QuantityParser.parse(CharSequence)", () -> sink += QuantityParser.LENGTHS.parse("12.5 km"));
+        assertDoesNotAllocate("QuantityFormatter.format(StringBuilder)", () -> {
+            text.setLength(0);
+            QuantityFormatter.DIGITAL_STORAGES.format(1.5e10, text);
+        });
+        assertDoesNotAllocate("QuantityFormatter.format(ByteBuffer)", () -> {
+            bytes.clear();
+            QuantityFormatter.DURATIONS.format(230_000.0, bytes);
+        });
+    }
+
+    @Test
+    public void varintsDoNotAllocate() {
+        ByteBuffer buffer = ByteBuffer.allocate(BinaryCodec.MAX_VARLONG_SIZE);
+
+        assertDoesNotAllocate("BinaryCodec var longs", () -> {
+            buffer.clear();
+            BinaryCodec.writeVarLong(buffer, BinaryCodec.zigZag(-longSink - 1_000_000L));
+            buffer.flip();
+            longSink += BinaryCodec.readVarLong(buffer) & 1;
+        });
+    }
+
+    @Test
+    public void recordingLatenciesDoesNotAllocate() {
+        DurationAdder adder = new DurationAdder();
+        LatencyHistogram histogram = LatencyHistogram.of(Duration.seconds(10), 3);
+
+        assertDoesNotAllocate("DurationAdder.addNanoseconds", () -> adder.addNanoseconds(1_250L));
+        assertDoesNotAllocate("LatencyHistogram.recordNanoseconds", () -> histogram.recordNanoseconds(123_456L));
+    }
+
+    @Test
+    public void geofenceUpdatesWithoutTransitionsDoNotAllocate() {
+        GeofenceIndex index = GeofenceIndex.of(Collections.singletonList(Geofence.centeredAt("bell", CENTER_BELL, Length.fromMeters(500))));
+        GeofenceEngine engine = new GeofenceEngine(index, transition -> longSink++);
+        engine.update("truck", CENTER_BELL);
+
+        assertDoesNotAllocate("GeofenceEngine.update", () -> engine.update("truck", CENTER_BELL));
+    }
+
+    @Test
+    public void tilesOnlyAllocateTheirStreamPipeline() {
+        double[] latitudes = sequence(-80.0, 0.5);
+        double[] longitudes = sequence(-170.0, 1.25);
+        long[] quadkeys = new long[SIZE];
+
+        // The pipeline over the indices costs the same for any number of positions
+        assertAllocatesAtMost(256, "Tile.toQuadkeys", () -> Tile.toQuadkeys(latitudes, longitudes, 15, quadkeys));
+    }
+
+    @Test
+    public void objectApisStayWithinTheirBudget() {
+        QuarticFunction fourRoots = new QuarticFunction(1.0, -10.0, 35.0, -50.0, 24.0);
+        CubicFunction threeRoots = new CubicFunction(1.0, -6.0, 11.0, -6.0);
+
+        assertAllocatesAtMost(LENGTH_BYTES, "Coordinates.getDistanceTo",
+                () -> sink += CENTER_BELL.getDistanceTo(EIFFEL_TOWER).toMeters());
+        assertAllocatesAtMost(rootsBytes(3), "CubicFunction.findRealRoots", () -> sink += threeRoots.findRealRoots()[0]);
+        // Removes the duplicate roots with a HashSet<Double> and a stream, which escape analysis does not always get rid of
+        assertAllocatesAtMost(QUARTIC_BYTES, "QuarticFunction.findRealRoots", () -> sink += fourRoots.findRealRoots()[0]);
+    }
+
+    private static long rootsBytes(int count) {
+        return ARRAY_HEADER_BYTES + count * Double.BYTES;
+    }
+
+    private static double[] sequence(double first, double step) {
+        double[] values = new double[SIZE];
+        for (int i = 0; i < SIZE; ++i) {
+            values[i] = first + i * step;
+        }
+        return values;
+    }
+}
@@ -0,0 +1,197 @@
+package ca.nexapp.math.codecs;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import ca.nexapp.math.shapes.Rectangle;
+import ca.nexapp.math.units.Angle;
+import ca.nexapp.math.units.Coordinates;
+import ca.nexapp.math.units.CoordinatesArray;
+import ca.nexapp.math.units.DigitalStorage;
+import ca.nexapp.math.units.Duration;
+import ca.nexapp.math.units.Length;
+import ca.nexapp.math.units.LengthArray;
+import ca.nexapp.math.units.Point;
+
+public class BinaryCodecTest {
+
+    private static final double TOLERANCE = 0.0000001;
+
+    private final ByteBuffer buffer = ByteBuffer.allocate(1024);
+
+    @Test
+    public void fixedWidthValues_ShouldRoundTrip() {
+        BinaryCodec.writeAngle(buffer, Angle.fromDegrees(42.5));
+        BinaryCodec.writeLength(buffer, Length.fromKilometers(3));
+        BinaryCodec.writeDuration(buffer, Duration.milliseconds(1500));
+        BinaryCodec.writeDigitalStorage(buffer, DigitalStorage.megabytes(8));
+        BinaryCodec.writePoint(buffer, Point.fromCartesian(1.5, -2.5));
+        BinaryCodec.writeCoordinates(buffer, Coordinates.locatedAt(46.81, -71.21));
+        buffer.flip();
+
+        assertThat(BinaryCodec.readAngle(buffer)).isEqualTo(Angle.fromDegrees(42.5));
+        assertThat(BinaryCodec.readLength(buffer)).isEqualTo(Length.fromKilometers(3));
+        assertThat(BinaryCodec.readDuration(buffer)).isEqualTo(Duration.milliseconds(1500));
+        assertThat(BinaryCodec.readDigitalStorage(buffer)).isEqualTo(DigitalStorage.megabytes(8));
+        assertThat(BinaryCodec.readPoint(buffer)).isEqualTo(Point.fromCartesian(1.5, -2.5));
+        assertThat(BinaryCodec.readCoordinates(buffer)).isEqualTo(Coordinates.locatedAt(46.81, -71.21));
+        assertThat(buffer.hasRemaining()).isFalse();
+    }
+
+    @Test
+    public void fixedWidthValues_ShouldTakeTheirDeclaredSize() {
+        BinaryCodec.writePoint(buffer, Point.ORIGIN);
+        assertThat(buffer.position()).isEqualTo(BinaryCodec.POINT_SIZE);
+
+        BinaryCodec.writeRectangle(buffer, Rectangle.fromCorners(0, 0, 1, 1));
+        assertThat(buffer.position()).isEqualTo(BinaryCodec.POINT_SIZE + BinaryCodec.RECTANGLE_SIZE);
+
+        BinaryCodec.writeCoordinatesE7(buffer, Coordinates.locatedAt(0, 0));
+        assertThat(buffer.position())
+                .isEqualTo(BinaryCodec.POINT_SIZE + BinaryCodec.RECTANGLE_SIZE + BinaryCodec.COORDINATES_E7_SIZE);
+    }
+
+    @Test
+    public void fixedWidthValues_ShouldFollowTheByteOrderOfTheBuffer() {
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        BinaryCodec.writeDuration(buffer, Duration.nanoseconds(1));
+
+        assertThat(buffer.get(0)).isEqualTo((byte) 1);
+        buffer.flip();
+        assertThat(BinaryCodec.readDuration(buffer)).isEqualTo(Duration.nanoseconds(1));
+    }
+
+    @Test
+    public void aRectangle_ShouldRoundTrip() {
+        BinaryCodec.writeRectangle(buffer, Rectangle.fromCorners(-1, 2, 3, 4));
+        buffer.flip();
+
+        Rectangle rectangle = BinaryCodec.readRectangle(buffer);
+
+        assertThat(rectangle.getX1()).isEqualTo(-1.0);
+        assertThat(rectangle.getY1()).isEqualTo(2.0);
+        assertThat(rectangle.getX2()).isEqualTo(3.0);
+        assertThat(rectangle.getY2()).isEqualTo(4.0);
+    }
+
+    @Test
+    public void coordinatesInE7_ShouldRoundTripToTheNearestHundredNanodegree() {
+        BinaryCodec.writeCoordinatesE7(buffer, Coordinates.locatedAt(46.812345678, -71.208765432));
+        buffer.flip();
+
+        Coordinates coordinates = BinaryCodec.readCoordinatesE7(buffer);
+
+        assertThat(coordinates.getLatitude().toDegrees()).isWithin(TOLERANCE).of(46.8123457);
+        assertThat(coordinates.getLongitude().toDegrees()).isWithin(TOLERANCE).of(-71.2087654);
+    }
+
+    @Test
+    public void smallVariableLengthValues_ShouldTakeASingleByte() {
+        BinaryCodec.writeVarDuration(buffer, Duration.nanoseconds(-64));
+        BinaryCodec.writeVarDigitalStorage(buffer, DigitalStorage.bits(63));
+
+        assertThat(buffer.position()).isEqualTo(2);
+        buffer.flip();
+        assertThat(BinaryCodec.readVarDuration(buffer)).isEqualTo(Duration.nanoseconds(-64));
+        assertThat(BinaryCodec.readVarDigitalStorage(buffer)).isEqualTo(DigitalStorage.bits(63));
+    }
+
+    @Test
+    public void extremeVariableLengthValues_ShouldRoundTrip() {
+        BinaryCodec.writeVarDuration(buffer, Duration.nanoseconds(Long.MIN_VALUE));
+        BinaryCodec.writeVarDuration(buffer, Duration.nanoseconds(Long.MAX_VALUE));
+        BinaryCodec.writeVarLong(buffer, -1L);
+
+        assertThat(buffer.position()).isEqualTo(3 * BinaryCodec.MAX_VARLONG_SIZE);
+        buffer.flip();
+        assertThat(BinaryCodec.readVarDuration(buffer)).isEqualTo(Duration.nanoseconds(Long.MIN_VALUE));
+        assertThat(BinaryCodec.readVarDuration(buffer)).isEqualTo(Duration.nanoseconds(Long.MAX_VALUE));
+        assertThat(BinaryCodec.readVarLong(buffer)).isEqualTo(-1L);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void aVariableLengthValueOfMoreThanTenBytes_ShouldBeRejected() {
+        for (int i = 0; i < 11; ++i) {
+            buffer.put((byte) 0x80);
+        }
+        buffer.flip();
+
+        BinaryCodec.readVarLong(buffer);
+    }
+
+    @Test
+    public void sortedDurations_ShouldBeDeltaEncoded() {
+        long[] nanoseconds = { 1_000_000_000L, 1_000_000_010L, 1_000_000_020L, 1_000_000_005L };
+
+        BinaryCodec.writeDurations(buffer, nanoseconds);
+
+        assertThat(buffer.position()).isEqualTo(1 + 5 + 3 * 1);
+        buffer.flip();
+        assertThat(BinaryCodec.readDurations(buffer)).isEqualTo(nanoseconds);
+    }
+
+    @Test
+    public void digitalStorages_ShouldRoundTrip() {
+        long[] bits = { 0, Long.MAX_VALUE, Long.MIN_VALUE, 8 };
+
+        BinaryCodec.writeDigitalStorages(buffer, bits);
+        buffer.flip();
+
+        assertThat(BinaryCodec.readDigitalStorages(buffer)).isEqualTo(bits);
+    }
+
+    @Test
+    public void coordinatesArrays_ShouldRoundTripExactly() {
+        CoordinatesArray coordinates = CoordinatesArray.fromDegrees(new double[] { 46.8123456, 46.8123460, -89.9999999 },
+                new double[] { -71.2087654, -71.2087650, 179.9999999 });
+
+        BinaryCodec.writeCoordinatesArray(buffer, coordinates);
+        buffer.flip();
+        CoordinatesArray decoded = BinaryCodec.readCoordinatesArray(buffer);
+
+        assertThat(decoded.size()).isEqualTo(3);
+        for (int i = 0; i < 3; ++i) {
+            assertThat(decoded.getLatitudeE7(i)).isEqualTo(coordinates.getLatitudeE7(i));
+            assertThat(decoded.getLongitudeE7(i)).isEqualTo(coordinates.getLongitudeE7(i));
+        }
+    }
+
+    @Test
+    public void lengthArrays_ShouldRoundTrip() {
+        LengthArray lengths = LengthArray.of(Length.fromMeters(1), Length.fromKilometers(2));
+
+        BinaryCodec.writeLengths(buffer, lengths);
+        buffer.flip();
+        LengthArray decoded = BinaryCodec.readLengths(buffer);
+
+        assertThat(decoded.get(0)).isEqualTo(Length.fromMeters(1));
+        assertThat(decoded.get(1)).isEqualTo(Length.fromKilometers(2));
+    }
+
+    @Test
+    public void pointsAndRectangles_ShouldRoundTrip() {
+        List<Point> points = Arrays.asList(Point.fromCartesian(1, 2), Point.fromCartesian(3, 4));
+
+        BinaryCodec.writePoints(buffer, points);
+        BinaryCodec.writeRectangles(buffer, Arrays.asList(Rectangle.fromCorners(0, 0, 2, 2)));
+        buffer.flip();
+
+        assertThat(BinaryCodec.readPoints(buffer)).containsExactlyElementsIn(points).inOrder();
+        assertThat(BinaryCodec.readRectangles(buffer)).hasSize(1);
+    }
+
+    @Test(expected = BufferUnderflowException.class)
+    public void aCountLargerThanTheRemainingBytes_ShouldBeRejectedBeforeAllocating() {
+        BinaryCodec.writeVarLong(buffer, Integer.MAX_VALUE);
+        buffer.flip();
+
+        BinaryCodec.readPoints(buffer);
+    }
+}
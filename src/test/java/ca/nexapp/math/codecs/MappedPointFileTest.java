@@ -0,0 +1,134 @@
+package ca.nexapp.math.codecs;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import ca.nexapp.math.shapes.Rectangle;
+import ca.nexapp.math.units.Point;
+
+public class MappedPointFileTest {
+
+    private static final double TOLERANCE = 0.000001;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void appendedPoints_ShouldBeReadBack() throws IOException {
+        try (MappedPointFile points = MappedPointFile.create(file())) {
+            assertThat(points.append(Point.fromCartesian(1, 2))).isEqualTo(0);
+            assertThat(points.append(3, 4)).isEqualTo(1);
+
+            assertThat(points.size()).isEqualTo(2);
+            assertThat(points.get(1)).isEqualTo(Point.fromCartesian(3, 4));
+            assertThat(points.getX(0)).isEqualTo(1.0);
+            assertThat(points.getY(0)).isEqualTo(2.0);
+        }
+    }
+
+    @Test
+    public void points_ShouldSpanSeveralSegments() throws IOException {
+        try (MappedPointFile points = MappedPointFile.create(file(), 2)) {
+            for (int i = 0; i < 100; ++i) {
+                points.append(i, -i);
+            }
+
+            assertThat(points.size()).isEqualTo(100);
+            for (int i = 0; i < 100; ++i) {
+                assertThat(points.get(i)).isEqualTo(Point.fromCartesian(i, -i));
+            }
+        }
+    }
+
+    @Test
+    public void aReopenedFile_ShouldKeepItsPointsAndAcceptAppends() throws IOException {
+        Path path = file();
+        try (MappedPointFile points = MappedPointFile.create(path, 2)) {
+            for (int i = 0; i < 5; ++i) {
+                points.append(i, i);
+            }
+            points.force();
+        }
+
+        try (MappedPointFile points = MappedPointFile.open(path)) {
+            points.append(5, 5);
+            assertThat(points.size()).isEqualTo(6);
+        }
+
+        try (MappedPointFile points = MappedPointFile.openReadOnly(path)) {
+            assertThat(points.asList()).hasSize(6);
+            assertThat(points.asList().get(5)).isEqualTo(Point.fromCartesian(5, 5));
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void aReadOnlyFile_ShouldRejectAppends() throws IOException {
+        Path path = file();
+        MappedPointFile.create(path).close();
+
+        try (MappedPointFile points = MappedPointFile.openReadOnly(path)) {
+            points.append(1, 1);
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void aRectangleFile_ShouldNotOpenAsPoints() throws IOException {
+        Path path = file();
+        MappedRectangleFile.create(path).close();
+
+        MappedPointFile.open(path);
+    }
+
+    @Test(expected = IOException.class)
+    public void aFileThatIsNotAColumnFile_ShouldNotOpen() throws IOException {
+        Path path = file();
+        Files.write(path, new byte[128]);
+
+        MappedPointFile.open(path);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void aPointBeyondTheSize_ShouldNotBeRead() throws IOException {
+        try (MappedPointFile points = MappedPointFile.create(file())) {
+            points.append(1, 1);
+
+            points.get(1);
+        }
+    }
+
+    @Test
+    public void canCalculateTheDistancesToAPoint() throws IOException {
+        try (MappedPointFile points = MappedPointFile.create(file())) {
+            points.append(3, 4);
+            points.append(0, -2);
+            double[] distances = new double[2];
+
+            points.distancesTo(Point.ORIGIN, distances);
+
+            assertThat(distances[0]).isWithin(TOLERANCE).of(5);
+            assertThat(distances[1]).isWithin(TOLERANCE).of(2);
+        }
+    }
+
+    @Test
+    public void canFindThePointsInsideARectangle() throws IOException {
+        try (MappedPointFile points = MappedPointFile.create(file())) {
+            points.append(1, 1);
+            points.append(5, 5);
+            points.append(2, -1);
+
+            assertThat(points.findInside(Rectangle.fromCorners(0, 2, 3, -2))).asList().containsExactly(0, 2).inOrder();
+        }
+    }
+
+    private Path file() throws IOException {
+        return folder.getRoot().toPath().resolve("points-" + System.nanoTime());
+    }
+}
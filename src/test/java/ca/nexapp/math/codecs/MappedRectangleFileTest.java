@@ -0,0 +1,71 @@
+package ca.nexapp.math.codecs;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import ca.nexapp.math.shapes.Rectangle;
+
+public class MappedRectangleFileTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void appendedRectangles_ShouldBeReadBack() throws IOException {
+        try (MappedRectangleFile rectangles = MappedRectangleFile.create(file(), 1)) {
+            rectangles.append(Rectangle.fromCorners(0, 2, 3, -1));
+            rectangles.append(10, 12, 13, 9);
+            rectangles.append(20, 22, 23, 19);
+
+            Rectangle rectangle = rectangles.get(2);
+            assertThat(rectangles.size()).isEqualTo(3);
+            assertThat(rectangle.getX1()).isEqualTo(20.0);
+            assertThat(rectangle.getY1()).isEqualTo(22.0);
+            assertThat(rectangle.getX2()).isEqualTo(23.0);
+            assertThat(rectangle.getY2()).isEqualTo(19.0);
+            assertThat(rectangles.getY2(0)).isEqualTo(-1.0);
+        }
+    }
+
+    @Test
+    public void aReopenedFile_ShouldKeepItsRectangles() throws IOException {
+        Path path = file();
+        try (MappedRectangleFile rectangles = MappedRectangleFile.create(path)) {
+            rectangles.append(0, 1, 1, 0);
+        }
+
+        try (MappedRectangleFile rectangles = MappedRectangleFile.openReadOnly(path)) {
+            assertThat(rectangles.asList()).hasSize(1);
+            assertThat(rectangles.getX2(0)).isEqualTo(1.0);
+        }
+    }
+
+    @Test
+    public void canFindTheRectanglesIntersectingAnArea() throws IOException {
+        Rectangle area = Rectangle.fromCorners(0, 10, 10, 0);
+        try (MappedRectangleFile rectangles = MappedRectangleFile.create(file())) {
+            Rectangle[] candidates = { Rectangle.fromCorners(5, 15, 15, 5), Rectangle.fromCorners(11, 5, 12, 4),
+                    Rectangle.fromCorners(2, 8, 3, 7), Rectangle.fromCorners(-5, -1, 5, -5) };
+            for (Rectangle candidate : candidates) {
+                rectangles.append(candidate);
+            }
+
+            int[] intersecting = rectangles.findIntersecting(area);
+
+            assertThat(intersecting).asList().containsExactly(0, 2).inOrder();
+            for (int i = 0; i < candidates.length; ++i) {
+                assertThat(area.isIntersecting(candidates[i])).isEqualTo(i == 0 || i == 2);
+            }
+        }
+    }
+
+    private Path file() throws IOException {
+        return folder.getRoot().toPath().resolve("rectangles-" + System.nanoTime());
+    }
+}
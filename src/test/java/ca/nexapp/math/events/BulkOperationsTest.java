@@ -0,0 +1,16 @@
+package ca.nexapp.math.events;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.Test;
+
+public class BulkOperationsTest {
+
+    @Test
+    public void withoutARecording_BulkOperationsShouldNotBeRecorded() {
+        BulkOperation operation = BulkOperations.begin("BulkOperationsTest", 1);
+
+        assertThat(operation).isSameAs(BulkOperation.NONE);
+        operation.close();
+    }
+}
@@ -7,6 +7,7 @@ import org.junit.Test;
 public class CubicFunctionTest {
 
     private static final double TOLERANCE = 0.1;
+    private static final double DOUBLE_ROOT_TOLERANCE = 1e-6;
 
     @Test
     public void givenOneRoot_ShouldFindTheSingleRealRoot() {
@@ -63,4 +64,40 @@ public class CubicFunctionTest {
         double[] expected = { -22412.1 };
         assertThat(roots).hasValuesWithin(TOLERANCE).of(expected);
     }
+
+    @Test
+    public void givenAPositiveTripleRoot_ShouldFindTheSingleRealRoot() {
+        // (x - 2)³
+        CubicFunction cubic = new CubicFunction(1, -6, 12, -8);
+
+        double roots[] = cubic.findRealRoots();
+
+        double[] expected = { 2 };
+        assertThat(roots).hasValuesWithin(TOLERANCE).of(expected);
+    }
+
+    @Test
+    public void givenOneRealRootWithANegativeCubeRootTerm_ShouldFindTheSingleRealRoot() {
+        // (x + 2.001953125)(x² + 1)
+        CubicFunction cubic = new CubicFunction(1, 2.001953125, 1, 2.001953125);
+
+        double roots[] = cubic.findRealRoots();
+
+        double[] expected = { -2.001953125 };
+        assertThat(roots).hasValuesWithin(TOLERANCE).of(expected);
+    }
+
+    @Test
+    public void givenADoubleRootWithARoundedDiscriminant_ShouldFindBothRoots() {
+        // (x + 6.9375)²(x - 1.296875), whose discriminant rounds to a positive value
+        double doubleRoot = -6.9375;
+        double simpleRoot = 1.296875;
+        CubicFunction cubic = new CubicFunction(1, -(2 * doubleRoot + simpleRoot), doubleRoot * doubleRoot + 2 * doubleRoot * simpleRoot,
+                -doubleRoot * doubleRoot * simpleRoot);
+
+        double roots[] = cubic.findRealRoots();
+
+        double[] expected = { simpleRoot, doubleRoot, doubleRoot };
+        assertThat(roots).hasValuesWithin(DOUBLE_ROOT_TOLERANCE).of(expected);
+    }
 }
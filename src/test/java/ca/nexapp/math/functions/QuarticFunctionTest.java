@@ -8,6 +8,7 @@ public class QuarticFunctionTest {
 
     private static final double A_VALUE = 66.0;
     private static final double TOLERANCE = 0.1;
+    private static final double PRECISE_TOLERANCE = 1e-9;
 
     @Test
     public void givenOnlyBValuedATZero_ShouldNotBeBiquadratic() {
@@ -74,13 +75,13 @@ public class QuarticFunctionTest {
     }
 
     @Test
-    public void givenThreeRealRoots_ShouldFindTheThreeRealRoots() {
+    public void givenTwoRootsNearZero_ShouldFindBothOfThem() {
         // http://www.wolframalpha.com/input/?i=x%5E4+%2B+x%C2%B3+%2B+-300x%C2%B2+%2B+-x+%2B+0+%3D+0
         QuarticFunction quarticFunction = new QuarticFunction(1.0, 1.0, -300.0, -1.0, 0.0);
 
         double[] roots = quarticFunction.findRealRoots();
 
-        double[] expected = { 0.00, -17.826, 16.829 };
+        double[] expected = { 0.00, -17.826, -0.00333, 16.829 };
         assertThat(roots).hasValuesWithin(TOLERANCE).of(expected);
     }
 
@@ -94,4 +95,26 @@ public class QuarticFunctionTest {
         double[] expected = { Math.sqrt(Math.sqrt(3) - 1), -Math.sqrt(Math.sqrt(3) - 1) };
         assertThat(roots).hasValuesWithin(TOLERANCE).of(expected);
     }
+
+    @Test
+    public void givenTwoRealAndTwoComplexRoots_ShouldFindTheRealRootsPrecisely() {
+        // (x + 1.625)(x - 4.125)((x - 7)² + 25)
+        QuarticFunction quarticFunction = new QuarticFunction(1.0, -16.5, 102.296875, -91.15625, -496.03125);
+
+        double[] roots = quarticFunction.findRealRoots();
+
+        double[] expected = { 4.125, -1.625 };
+        assertThat(roots).hasValuesWithin(PRECISE_TOLERANCE).of(expected);
+    }
+
+    @Test
+    public void givenASmallNonZeroRoot_ShouldNotRoundItToZero() {
+        // x(x - 0.0078125)(x - 3)(x - 5)
+        QuarticFunction quarticFunction = new QuarticFunction(1.0, -8.0078125, 15.0625, -0.1171875, 0.0);
+
+        double[] roots = quarticFunction.findRealRoots();
+
+        double[] expected = { 0.0078125, 0.0, 5.0, 3.0 };
+        assertThat(roots).hasValuesWithin(PRECISE_TOLERANCE).of(expected);
+    }
 }
@@ -0,0 +1,217 @@
+package ca.nexapp.math.functions;
+
+import static com.google.common.truth.Truth.assertWithMessage;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import ca.nexapp.math.ErrorSummary;
+import ca.nexapp.math.HighPrecision;
+import ca.nexapp.math.units.Angle;
+import ca.nexapp.math.units.Point;
+
+/**
+ * The polynomials are built from their roots, multiples of 2⁻¹⁰ (2⁻⁸ for quartics) between -8 and 8, whose products are exact
+ * doubles. The coefficients are then exact and so are the expected roots.
+ */
+public class SolverAccuracyTest {
+
+    private static final int SAMPLES = 5_000;
+
+    private static final double SIMPLE_ROOT_TOLERANCE = 1e-8;
+    // A root of multiplicity m only has 1/m of the digits of its coefficients
+    private static final double DOUBLE_ROOT_TOLERANCE = 1e-5;
+    private static final double TRIPLE_ROOT_TOLERANCE = 1e-4;
+    private static final double CLOSE_ROOTS_TOLERANCE = 1e-4;
+    private static final double MIN_SEPARATION = 1.0 / 16;
+    // For points and lines within 100 units of the origin
+    private static final double LINE_DISTANCE_TOLERANCE = 1e-11;
+
+    private final Random random = new Random(19);
+
+    @Test
+    public void givenThreeSeparatedRoots_CubicShouldFindThemAll() {
+        ErrorSummary errors = new ErrorSummary();
+        for (int i = 0; i < SAMPLES; ++i) {
+            double[] roots = separatedRoots(3, 10);
+            acceptCubic(errors, roots[0], roots[1], roots[2]);
+        }
+
+        assertAtMost(errors, SIMPLE_ROOT_TOLERANCE);
+    }
+
+    @Test
+    public void givenADoubleRoot_CubicShouldFindItWithinHalfTheDigits() {
+        ErrorSummary errors = new ErrorSummary();
+        for (int i = 0; i < SAMPLES; ++i) {
+            double[] roots = separatedRoots(2, 10);
+            acceptCubic(errors, roots[0], roots[0], roots[1]);
+        }
+
+        assertAtMost(errors, DOUBLE_ROOT_TOLERANCE);
+    }
+
+    @Test
+    public void givenATripleRoot_CubicShouldFindIt() {
+        ErrorSummary errors = new ErrorSummary();
+        for (int i = 0; i < SAMPLES; ++i) {
+            double root = dyadic(10);
+            acceptCubic(errors, root, root, root);
+        }
+
+        assertAtMost(errors, TRIPLE_ROOT_TOLERANCE);
+    }
+
+    @Test
+    public void givenOneRealAndTwoComplexRoots_CubicShouldOnlyFindTheRealOne() {
+        ErrorSummary errors = new ErrorSummary();
+        for (int i = 0; i < SAMPLES; ++i) {
+            // (x - r)(x² + 1)
+            double root = dyadic(10);
+            accept(errors, new CubicFunction(1.0, -root, 1.0, -root).findRealRoots(), root);
+        }
+
+        assertAtMost(errors, SIMPLE_ROOT_TOLERANCE);
+    }
+
+    @Test
+    public void givenFourSeparatedRoots_QuarticShouldFindThemAll() {
+        ErrorSummary errors = new ErrorSummary();
+        for (int i = 0; i < SAMPLES; ++i) {
+            double[] roots = separatedRoots(4, 8);
+            acceptQuartic(errors, roots[0], roots[1], roots[2], roots[3]);
+        }
+
+        assertAtMost(errors, SIMPLE_ROOT_TOLERANCE);
+    }
+
+    @Test
+    public void givenTwoCloseRoots_QuarticShouldTellThemApart() {
+        ErrorSummary errors = new ErrorSummary();
+        for (int i = 0; i < SAMPLES; ++i) {
+            double[] roots = separatedRoots(3, 8);
+            acceptQuartic(errors, roots[0], roots[0] + 1.0 / 256, roots[1], roots[2]);
+        }
+
+        assertAtMost(errors, CLOSE_ROOTS_TOLERANCE);
+    }
+
+    @Test
+    public void givenTwoRealAndTwoComplexRoots_QuarticShouldOnlyFindTheRealOnes() {
+        ErrorSummary errors = new ErrorSummary();
+        for (int i = 0; i < SAMPLES; ++i) {
+            // (x - r1)(x - r2)(x² + 1)
+            double[] roots = separatedRoots(2, 8);
+            double sum = roots[0] + roots[1];
+            double product = roots[0] * roots[1];
+            accept(errors, new QuarticFunction(1.0, -sum, product + 1.0, -sum, product).findRealRoots(), roots);
+        }
+
+        assertAtMost(errors, SIMPLE_ROOT_TOLERANCE);
+    }
+
+    @Test
+    public void givenADoubleRoot_QuarticShouldOnlyFindActualRoots() {
+        ErrorSummary errors = new ErrorSummary();
+        for (int i = 0; i < SAMPLES; ++i) {
+            double[] roots = separatedRoots(3, 8);
+            double[] expected = { roots[0], roots[0], roots[1], roots[2] };
+            double[] found = quartic(expected).findRealRoots();
+
+            // The double root can be lost when it also makes the resolvent cubic ill-conditioned, but never a simple one
+            for (double root : Arrays.copyOfRange(roots, 1, 3)) {
+                errors.accept(root, nearest(found, root), new BigDecimal(root));
+            }
+            for (double root : found) {
+                errors.accept(root, nearest(expected, root), new BigDecimal(root));
+            }
+        }
+
+        assertAtMost(errors, DOUBLE_ROOT_TOLERANCE);
+    }
+
+    @Test
+    public void givenANearlyVerticalLine_DistancesShouldKeepTheirPrecision() {
+        ErrorSummary errors = new ErrorSummary();
+        for (int i = 0; i < SAMPLES; ++i) {
+            double offset = Math.pow(10.0, -1 - random.nextInt(12));
+            Angle angle = Angle.fromDegrees(random.nextBoolean() ? 90.0 - offset : 90.0 + offset);
+            Point through = Point.fromCartesian(random.nextDouble() * 200.0 - 100.0, random.nextDouble() * 200.0 - 100.0);
+            Point point = Point.fromCartesian(random.nextDouble() * 200.0 - 100.0, random.nextDouble() * 200.0 - 100.0);
+            Line line = new Line(angle, through);
+
+            // |m (x - x₀) - (y - y₀)| / sqrt(m² + 1) with the exact slope of the line, which does not need its rounded intercept
+            BigDecimal slope = new BigDecimal(line.getSlope());
+            BigDecimal numerator = slope.multiply(new BigDecimal(point.getX()).subtract(new BigDecimal(through.getX())))
+                    .subtract(new BigDecimal(point.getY()).subtract(new BigDecimal(through.getY()))).abs();
+            BigDecimal expected = numerator.divide(HighPrecision.sqrt(slope.multiply(slope).add(BigDecimal.ONE)), HighPrecision.CONTEXT);
+            errors.accept(offset, line.getDistanceTo(point), expected);
+        }
+
+        assertAtMost(errors, LINE_DISTANCE_TOLERANCE);
+    }
+
+    private void acceptCubic(ErrorSummary errors, double r1, double r2, double r3) {
+        double[] found = new CubicFunction(1.0, -(r1 + r2 + r3), r1 * r2 + r1 * r3 + r2 * r3, -r1 * r2 * r3).findRealRoots();
+        accept(errors, found, r1, r2, r3);
+    }
+
+    private void acceptQuartic(ErrorSummary errors, double r1, double r2, double r3, double r4) {
+        accept(errors, quartic(r1, r2, r3, r4).findRealRoots(), r1, r2, r3, r4);
+    }
+
+    private static QuarticFunction quartic(double... roots) {
+        double r1 = roots[0];
+        double r2 = roots[1];
+        double r3 = roots[2];
+        double r4 = roots[3];
+        return new QuarticFunction(1.0, -(r1 + r2 + r3 + r4), r1 * r2 + r1 * r3 + r1 * r4 + r2 * r3 + r2 * r4 + r3 * r4,
+                -(r1 * r2 * r3 + r1 * r2 * r4 + r1 * r3 * r4 + r2 * r3 * r4), r1 * r2 * r3 * r4);
+    }
+
+    // Every expected root must be found, and every root found must be expected
+    private static void accept(ErrorSummary errors, double[] found, double... expected) {
+        for (double root : expected) {
+            errors.accept(root, nearest(found, root), new BigDecimal(root));
+        }
+        for (double root : found) {
+            errors.accept(root, nearest(expected, root), new BigDecimal(root));
+        }
+    }
+
+    private static double nearest(double[] candidates, double value) {
+        return Arrays.stream(candidates).boxed().min((x, y) -> Double.compare(Math.abs(x - value), Math.abs(y - value)))
+                .orElse(Double.NaN);
+    }
+
+    private double[] separatedRoots(int count, int fractionBits) {
+        double[] roots = new double[count];
+        for (int i = 0; i < count; ++i) {
+            do {
+                roots[i] = dyadic(fractionBits);
+            } while (!isSeparatedFromThePrevious(roots, i));
+        }
+        return roots;
+    }
+
+    // Roots closer than this are close roots in disguise, which are covered on their own
+    private static boolean isSeparatedFromThePrevious(double[] roots, int index) {
+        for (int i = 0; i < index; ++i) {
+            if (Math.abs(roots[i] - roots[index]) < MIN_SEPARATION) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private double dyadic(int fractionBits) {
+        return (random.nextInt(16 << fractionBits) - (8 << fractionBits)) / (double) (1 << fractionBits);
+    }
+
+    private static void assertAtMost(ErrorSummary errors, double tolerance) {
+        assertWithMessage(errors.toString()).that(errors.getMaxAbsoluteError()).isAtMost(tolerance);
+    }
+}
@@ -0,0 +1,149 @@
+package ca.nexapp.math.functions;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class SolverStatisticsTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final SolverStatistics statistics = new SolverStatistics();
+
+    @Test
+    public void shouldCountEachBranch() {
+        statistics.record(SolverBranch.QUARTIC_FERRARI, 100);
+        statistics.record(SolverBranch.QUARTIC_FERRARI, 300);
+        statistics.record(SolverBranch.CUBIC_TRIPLE_ROOT, 50);
+
+        assertThat(statistics.getCount(SolverBranch.QUARTIC_FERRARI)).isEqualTo(2);
+        assertThat(statistics.getCount(SolverBranch.CUBIC_TRIPLE_ROOT)).isEqualTo(1);
+        assertThat(statistics.getCount(SolverBranch.QUARTIC_BIQUADRATIC)).isEqualTo(0);
+        assertThat(statistics.getMeanLatencyInNanoseconds(SolverBranch.QUARTIC_FERRARI)).isWithin(0.000001).of(200);
+    }
+
+    @Test
+    public void percentiles_ShouldBeBoundedByTheirPowerOfTwoBucket() {
+        for (int i = 0; i < 99; ++i) {
+            statistics.record(SolverBranch.CUBIC_ONE_REAL_ROOT, 100);
+        }
+        statistics.record(SolverBranch.CUBIC_ONE_REAL_ROOT, 5000);
+
+        assertThat(statistics.getLatencyAtPercentileInNanoseconds(SolverBranch.CUBIC_ONE_REAL_ROOT, 50)).isEqualTo(127);
+        assertThat(statistics.getLatencyAtPercentileInNanoseconds(SolverBranch.CUBIC_ONE_REAL_ROOT, 99)).isEqualTo(127);
+        assertThat(statistics.getLatencyAtPercentileInNanoseconds(SolverBranch.CUBIC_ONE_REAL_ROOT, 100)).isEqualTo(8191);
+    }
+
+    @Test
+    public void aBranchNeverTaken_ShouldHaveNoLatency() {
+        assertThat(statistics.getMeanLatencyInNanoseconds(SolverBranch.QUARTIC_FERRARI)).isEqualTo(0.0);
+        assertThat(statistics.getLatencyAtPercentileInNanoseconds(SolverBranch.QUARTIC_FERRARI, 99)).isEqualTo(0L);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void aPercentileAboveOneHundred_ShouldThrowAnException() {
+        statistics.getLatencyAtPercentileInNanoseconds(SolverBranch.QUARTIC_FERRARI, 100.5);
+    }
+
+    @Test
+    public void reset_ShouldForgetEverything() {
+        statistics.record(SolverBranch.QUARTIC_FERRARI, 100);
+
+        statistics.reset();
+
+        assertThat(statistics.getCount(SolverBranch.QUARTIC_FERRARI)).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldBeReadableThroughJmx() throws Exception {
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        statistics.record(SolverBranch.QUARTIC_BIQUADRATIC, 10);
+
+        ObjectName name = statistics.registerMBean(server);
+
+        TabularData counts = (TabularData) server.getAttribute(name, "Counts");
+        assertThat(counts.get(new Object[] { "QUARTIC_BIQUADRATIC" }).get("value")).isEqualTo(1L);
+        server.invoke(name, "reset", new Object[0], new String[0]);
+        assertThat(statistics.getCounts()).containsEntry("QUARTIC_BIQUADRATIC", 0L);
+    }
+
+    @Test
+    public void withoutAProvider_TheInstrumentationShouldBeDisabled() {
+        assertThat(SolverInstrumentation.current()).isSameAs(SolverInstrumentation.NOOP);
+        assertThat(SolverInstrumentation.current().isEnabled()).isFalse();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void theSolvers_ShouldReportTheirBranchToTheInstalledProvider() throws Exception {
+        // The provider is installed in a class loader of its own, so the rest of the tests keep the default instrumentation
+        try (URLClassLoader loader = withProvider(SolverStatistics.class)) {
+            Object installed = currentInstrumentation(loader);
+            assertThat(installed.getClass().getName()).isEqualTo(SolverStatistics.class.getName());
+
+            solveQuartic(loader, 0, 1, -6, 11, -6);
+            solveQuartic(loader, 1, 0, -5, 0, 4);
+            solveQuartic(loader, 1, 4, 1, -6, 0);
+            solveQuartic(loader, 1, 1, -7, -1, 6);
+            solveCubic(loader, 1, 0, 0, -1);
+            solveCubic(loader, 1, -3, 3, -1);
+
+            Map<String, Long> counts = (Map<String, Long>) installed.getClass().getMethod("getCounts").invoke(installed);
+            for (SolverBranch branch : SolverBranch.values()) {
+                assertThat(counts.get(branch.name())).isGreaterThan(0L);
+            }
+        }
+    }
+
+    private URLClassLoader withProvider(Class<? extends SolverInstrumentation> provider) throws IOException {
+        File services = new File(folder.getRoot(), "META-INF/services");
+        services.mkdirs();
+        Files.write(new File(services, SolverInstrumentation.class.getName()).toPath(),
+                provider.getName().getBytes(StandardCharsets.UTF_8));
+
+        URL classes = SolverInstrumentation.class.getProtectionDomain().getCodeSource().getLocation();
+        return new URLClassLoader(new URL[] { folder.getRoot().toURI().toURL(), classes },
+                ClassLoader.getSystemClassLoader().getParent());
+    }
+
+    // ServiceLoader looks for the providers through the context class loader
+    private static Object currentInstrumentation(ClassLoader loader) throws Exception {
+        Thread thread = Thread.currentThread();
+        ClassLoader contextLoader = thread.getContextClassLoader();
+        thread.setContextClassLoader(loader);
+        try {
+            return loader.loadClass(SolverInstrumentation.class.getName()).getMethod("current").invoke(null);
+        } finally {
+            thread.setContextClassLoader(contextLoader);
+        }
+    }
+
+    private static void solveQuartic(ClassLoader loader, double a, double b, double c, double d, double e) throws Exception {
+        Class<?> quartic = loader.loadClass(QuarticFunction.class.getName());
+        Object function = quartic.getConstructor(double.class, double.class, double.class, double.class, double.class)
+                .newInstance(a, b, c, d, e);
+        quartic.getMethod("findRealRoots").invoke(function);
+    }
+
+    private static void solveCubic(ClassLoader loader, double a, double b, double c, double d) throws Exception {
+        Class<?> cubic = loader.loadClass(CubicFunction.class.getName());
+        Object function = cubic.getConstructor(double.class, double.class, double.class, double.class).newInstance(a, b, c, d);
+        cubic.getMethod("findRealRoots").invoke(function);
+    }
+}
@@ -0,0 +1,147 @@
+package ca.nexapp.math.geofences;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import ca.nexapp.math.units.Coordinates;
+import ca.nexapp.math.units.Length;
+
+public class GeofenceEngineTest {
+
+    private static final String A_TRUCK = "truck-1";
+    private static final String ANOTHER_TRUCK = "truck-2";
+
+    private static final Coordinates CENTER_BELL = Coordinates.locatedAt(45.4959755, -73.5693904);
+    private static final Coordinates NEAR_CENTER_BELL = Coordinates.locatedAt(45.4970, -73.5700);
+    private static final Coordinates TORONTO = Coordinates.locatedAt(43.6532, -79.3832);
+    private static final Coordinates SAINT_LAURENT = Coordinates.locatedAt(45.5200, -73.6800);
+
+    private static final Geofence AROUND_CENTER_BELL = Geofence.centeredAt("bell", CENTER_BELL, Length.fromMeters(500));
+    private static final Geofence AROUND_MONTREAL = Geofence.centeredAt("montreal", CENTER_BELL, Length.fromKilometers(30));
+
+    private List<GeofenceTransition> transitions;
+    private GeofenceEngine engine;
+
+    @Before
+    public void setUp() {
+        transitions = new ArrayList<>();
+        GeofenceIndex index = GeofenceIndex.of(Arrays.asList(AROUND_CENTER_BELL, AROUND_MONTREAL));
+        engine = new GeofenceEngine(index, transitions::add);
+    }
+
+    @Test
+    public void whenAnEntityMovesIntoGeofences_ShouldEmitEnterTransitions() {
+        engine.update(A_TRUCK, NEAR_CENTER_BELL);
+
+        assertThat(transitions).containsExactly(GeofenceTransition.entering(A_TRUCK, AROUND_CENTER_BELL),
+                GeofenceTransition.entering(A_TRUCK, AROUND_MONTREAL));
+    }
+
+    @Test
+    public void whenAnEntityStaysInAGeofence_ShouldNotEmitAnything() {
+        engine.update(A_TRUCK, NEAR_CENTER_BELL);
+        transitions.clear();
+
+        engine.update(A_TRUCK, CENTER_BELL);
+
+        assertThat(transitions).isEmpty();
+    }
+
+    @Test
+    public void whenAnEntityLeavesGeofences_ShouldEmitExitTransitions() {
+        engine.update(A_TRUCK, NEAR_CENTER_BELL);
+        transitions.clear();
+
+        engine.update(A_TRUCK, TORONTO);
+
+        assertThat(transitions).containsExactly(GeofenceTransition.exiting(A_TRUCK, AROUND_CENTER_BELL),
+                GeofenceTransition.exiting(A_TRUCK, AROUND_MONTREAL));
+        assertThat(engine.getGeofencesContaining(A_TRUCK)).isEmpty();
+    }
+
+    @Test
+    public void shouldTrackEachEntitySeparately() {
+        engine.update(A_TRUCK, NEAR_CENTER_BELL);
+        engine.update(ANOTHER_TRUCK, TORONTO);
+
+        assertThat(engine.getGeofencesContaining(A_TRUCK)).containsExactly(AROUND_CENTER_BELL, AROUND_MONTREAL);
+        assertThat(engine.getGeofencesContaining(ANOTHER_TRUCK)).isEmpty();
+        assertThat(engine.getTrackedEntityCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void givenALimitOfFencesPerEntity_ShouldNotTrackMoreThanTheLimit() {
+        GeofenceIndex index = GeofenceIndex.of(Arrays.asList(AROUND_CENTER_BELL, AROUND_MONTREAL));
+        GeofenceEngine limitedEngine = new GeofenceEngine(index, transitions::add, 1);
+
+        limitedEngine.update(A_TRUCK, NEAR_CENTER_BELL);
+
+        assertThat(limitedEngine.getGeofencesContaining(A_TRUCK)).hasSize(1);
+        assertThat(transitions).hasSize(1);
+    }
+
+    @Test
+    public void whenForgettingAnEntity_ShouldNoLongerTrackIt() {
+        engine.update(A_TRUCK, NEAR_CENTER_BELL);
+
+        engine.forget(A_TRUCK);
+
+        assertThat(engine.getTrackedEntityCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void aListenerUpdatingTheEngine_ShouldNotDisturbTheTransitionsBeingEmitted() {
+        List<GeofenceTransition> received = new ArrayList<>();
+        GeofenceEngine[] reentrant = new GeofenceEngine[1];
+        reentrant[0] = new GeofenceEngine(GeofenceIndex.of(Arrays.asList(AROUND_CENTER_BELL, AROUND_MONTREAL)), transition -> {
+            received.add(transition);
+            if (transition.getEntityId().equals(A_TRUCK)) {
+                reentrant[0].update(ANOTHER_TRUCK, SAINT_LAURENT);
+            }
+        });
+
+        reentrant[0].update(A_TRUCK, NEAR_CENTER_BELL);
+
+        assertThat(received).hasSize(3);
+        assertThat(reentrant[0].getGeofencesContaining(A_TRUCK)).containsExactly(AROUND_CENTER_BELL, AROUND_MONTREAL);
+        assertThat(reentrant[0].getGeofencesContaining(ANOTHER_TRUCK)).containsExactly(AROUND_MONTREAL);
+    }
+
+    @Test
+    public void whenProcessingABatchInParallel_ShouldKeepTheTransitionsOfEachEntityInOrder() {
+        ConcurrentLinkedQueue<GeofenceTransition> received = new ConcurrentLinkedQueue<>();
+        GeofenceEngine parallelEngine = new GeofenceEngine(GeofenceIndex.of(Collections.singletonList(AROUND_MONTREAL)), received::add);
+        List<PositionUpdate> updates = new ArrayList<>();
+        for (int round = 0; round < 10; ++round) {
+            for (int truck = 0; truck < 50; ++truck) {
+                updates.add(PositionUpdate.of("truck-" + truck, round % 2 == 0 ? CENTER_BELL : TORONTO));
+            }
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            parallelEngine.process(updates, executor, 4);
+        } finally {
+            executor.shutdown();
+        }
+
+        for (int truck = 0; truck < 50; ++truck) {
+            String truckId = "truck-" + truck;
+            List<GeofenceTransition.Type> types = new ArrayList<>();
+            received.stream().filter(transition -> transition.getEntityId().equals(truckId)).forEach(transition -> types.add(transition.getType()));
+            assertThat(types).containsExactly(GeofenceTransition.Type.ENTER, GeofenceTransition.Type.EXIT, GeofenceTransition.Type.ENTER,
+                    GeofenceTransition.Type.EXIT, GeofenceTransition.Type.ENTER, GeofenceTransition.Type.EXIT, GeofenceTransition.Type.ENTER,
+                    GeofenceTransition.Type.EXIT, GeofenceTransition.Type.ENTER, GeofenceTransition.Type.EXIT).inOrder();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package ca.nexapp.math.geofences;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import ca.nexapp.math.units.Angle;
+import ca.nexapp.math.units.Coordinates;
+import ca.nexapp.math.units.Length;
+
+public class GeofenceIndexTest {
+
+    private static final Coordinates CENTER_BELL = Coordinates.locatedAt(45.4959755, -73.5693904);
+    private static final Coordinates YANKEE_STADIUM = Coordinates.locatedAt(40.8295818, -73.9261455);
+
+    private static final Geofence AROUND_CENTER_BELL = Geofence.centeredAt("bell", CENTER_BELL, Length.fromMeters(500));
+    private static final Geofence AROUND_YANKEE_STADIUM = Geofence.centeredAt("yankee", YANKEE_STADIUM, Length.fromMeters(500));
+    private static final Geofence AROUND_MONTREAL = Geofence.centeredAt("montreal", CENTER_BELL, Length.fromKilometers(30));
+
+    @Test
+    public void givenALocationInsideAGeofence_ShouldFindTheGeofence() {
+        GeofenceIndex index = GeofenceIndex.of(Arrays.asList(AROUND_CENTER_BELL, AROUND_YANKEE_STADIUM));
+
+        assertThat(index.findContaining(Coordinates.locatedAt(45.4970, -73.5700))).containsExactly(AROUND_CENTER_BELL);
+    }
+
+    @Test
+    public void givenALocationOutsideEveryGeofence_ShouldFindNothing() {
+        GeofenceIndex index = GeofenceIndex.of(Arrays.asList(AROUND_CENTER_BELL, AROUND_YANKEE_STADIUM));
+
+        assertThat(index.findContaining(Coordinates.locatedAt(43.6532, -79.3832))).isEmpty();
+    }
+
+    @Test
+    public void givenOverlappingGeofences_ShouldFindAllOfThem() {
+        GeofenceIndex index = GeofenceIndex.of(Arrays.asList(AROUND_CENTER_BELL, AROUND_MONTREAL));
+
+        assertThat(index.findContaining(CENTER_BELL)).containsExactly(AROUND_CENTER_BELL, AROUND_MONTREAL);
+    }
+
+    @Test
+    public void givenAGeofenceSpanningManyCells_ShouldFindItFromAFarCell() {
+        GeofenceIndex index = GeofenceIndex.of(Collections.singletonList(AROUND_MONTREAL), Angle.fromDegrees(0.01));
+
+        assertThat(index.findContaining(Coordinates.locatedAt(45.70, -73.50))).containsExactly(AROUND_MONTREAL);
+    }
+
+    @Test
+    public void givenAGeofenceOnTheAntimeridian_ShouldFindItFromBothSides() {
+        Geofence fiji = Geofence.centeredAt("fiji", Coordinates.locatedAt(-17.0, 180.0), Length.fromKilometers(10));
+        GeofenceIndex index = GeofenceIndex.of(Collections.singletonList(fiji));
+
+        assertThat(index.findContaining(Coordinates.locatedAt(-17.0, 179.95))).containsExactly(fiji);
+        assertThat(index.findContaining(Coordinates.locatedAt(-17.0, -179.95))).containsExactly(fiji);
+    }
+
+    @Test
+    public void givenACellSizeThatDoesNotDivideTheLongitudes_ShouldFindAGeofenceAcrossTheAntimeridian() {
+        Geofence fence = Geofence.centeredAt("fence", Coordinates.locatedAt(0.0, -179.9), Length.fromKilometers(70));
+        GeofenceIndex index = GeofenceIndex.of(Collections.singletonList(fence), Angle.fromDegrees(0.7));
+
+        assertThat(index.findContaining(Coordinates.locatedAt(0.0, 179.7))).containsExactly(fence);
+    }
+
+    @Test
+    public void givenAGeofenceAroundAPole_ShouldFindItFromAnyLongitude() {
+        Geofence northPole = Geofence.centeredAt("north", Coordinates.locatedAt(90.0, 0.0), Length.fromKilometers(50));
+        GeofenceIndex index = GeofenceIndex.of(Collections.singletonList(northPole));
+
+        assertThat(index.findContaining(Coordinates.locatedAt(89.8, -120.0))).containsExactly(northPole);
+        assertThat(index.findContaining(Coordinates.locatedAt(89.8, 75.0))).containsExactly(northPole);
+    }
+
+    @Test
+    public void shouldAgreeWithTheDistanceBetweenCoordinates() {
+        GeofenceIndex index = GeofenceIndex.of(Collections.singletonList(AROUND_MONTREAL));
+        Coordinates justInside = Coordinates.locatedAt(45.4959755 + 0.2690, -73.5693904);
+        Coordinates justOutside = Coordinates.locatedAt(45.4959755 + 0.2700, -73.5693904);
+
+        assertThat(CENTER_BELL.isInRange(justInside, AROUND_MONTREAL.getRadius())).isTrue();
+        assertThat(index.findContaining(justInside)).containsExactly(AROUND_MONTREAL);
+        assertThat(CENTER_BELL.isInRange(justOutside, AROUND_MONTREAL.getRadius())).isFalse();
+        assertThat(index.findContaining(justOutside)).isEmpty();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenANonPositiveCellSize_ShouldNotBeAbleToCreateTheIndex() {
+        GeofenceIndex.of(Collections.singletonList(AROUND_MONTREAL), Angle.ZERO_DEGREES);
+    }
+}
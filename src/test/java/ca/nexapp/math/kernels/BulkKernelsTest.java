@@ -0,0 +1,236 @@
+package ca.nexapp.math.kernels;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth.assertWithMessage;
+import static org.junit.Assume.assumeTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import ca.nexapp.math.functions.QuadraticFunction;
+import ca.nexapp.math.units.Angle;
+import ca.nexapp.math.units.Coordinates;
+import ca.nexapp.math.units.Point;
+
+public class BulkKernelsTest {
+
+    // Set by the java17 Maven profile, which puts the Vector API kernels on the test class path
+    private static final String VECTOR_KERNELS_EXPECTED_PROPERTY = "ca.nexapp.math.kernels.vectorExpected";
+
+    private static final double TOLERANCE = 0.000001;
+    private static final double RELATIVE_TOLERANCE = 1e-12;
+    private static final int SIZE = 1027;
+
+    private final Random random = new Random(42);
+
+    @Test
+    public void canEvaluateAPolynomial() {
+        double[] ys = new double[3];
+
+        BulkKernels.evaluatePolynomial(new double[] { 2, -3, 1 }, new double[] { 0, 1, 2.5 }, ys);
+
+        QuadraticFunction function = QuadraticFunction.standardForm(2, -3, 1);
+        assertThat(ys).usingTolerance(TOLERANCE).containsExactly(function.findY(0), function.findY(1), function.findY(2.5))
+                .inOrder();
+    }
+
+    @Test
+    public void canSolveQuadratics() {
+        double[] positiveRoots = new double[3];
+        double[] negativeRoots = new double[3];
+
+        BulkKernels.solveQuadratics(new double[] { 1, 1, 1 }, new double[] { -3, 2, 0 }, new double[] { 2, 1, 1 }, positiveRoots,
+                negativeRoots);
+
+        assertThat(positiveRoots[0]).isWithin(TOLERANCE).of(2);
+        assertThat(negativeRoots[0]).isWithin(TOLERANCE).of(1);
+        assertThat(positiveRoots[1]).isWithin(TOLERANCE).of(-1);
+        assertThat(negativeRoots[1]).isWithin(TOLERANCE).of(-1);
+        assertThat(positiveRoots[2]).isNaN();
+        assertThat(negativeRoots[2]).isNaN();
+    }
+
+    @Test
+    public void rotatedPoints_ShouldMatchRotatingEachPoint() {
+        Point pivot = Point.fromCartesian(1, -2);
+        Angle angle = Angle.fromDegrees(33);
+        double[] xs = { 5, -3, 0 };
+        double[] ys = { 2, 7, 0 };
+        double[] counterClockwiseXs = new double[3];
+        double[] counterClockwiseYs = new double[3];
+        double[] clockwiseXs = new double[3];
+        double[] clockwiseYs = new double[3];
+
+        BulkKernels.rotateCounterClockwise(xs, ys, pivot, angle, counterClockwiseXs, counterClockwiseYs);
+        BulkKernels.rotateClockwise(xs, ys, pivot, angle, clockwiseXs, clockwiseYs);
+
+        for (int i = 0; i < xs.length; ++i) {
+            Point counterClockwise = Point.fromCartesian(xs[i], ys[i]).rotateCounterClockwise(pivot, angle);
+            Point clockwise = Point.fromCartesian(xs[i], ys[i]).rotateClockwise(pivot, angle);
+            assertThat(counterClockwiseXs[i]).isWithin(TOLERANCE).of(counterClockwise.getX());
+            assertThat(counterClockwiseYs[i]).isWithin(TOLERANCE).of(counterClockwise.getY());
+            assertThat(clockwiseXs[i]).isWithin(TOLERANCE).of(clockwise.getX());
+            assertThat(clockwiseYs[i]).isWithin(TOLERANCE).of(clockwise.getY());
+        }
+    }
+
+    @Test
+    public void greatCircleDistances_ShouldMatchTheDistanceBetweenCoordinates() {
+        Coordinates quebec = Coordinates.locatedAt(46.8139, -71.2080);
+        double[] latitudes = { 45.5017, 48.8566, 46.8139 };
+        double[] longitudes = { -73.5673, 2.3522, -71.2080 };
+        double[] distances = new double[3];
+
+        BulkKernels.greatCircleDistances(quebec, latitudes, longitudes, distances);
+
+        for (int i = 0; i < latitudes.length; ++i) {
+            double expected = quebec.getDistanceTo(Coordinates.locatedAt(latitudes[i], longitudes[i])).toMeters();
+            assertThat(distances[i]).isWithin(1.0).of(expected); // getDistanceTo loses ~0.1 m to cancellation near zero
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void aTooSmallOutputArray_ShouldThrowAnException() {
+        BulkKernels.evaluatePolynomial(new double[] { 1 }, new double[2], new double[1]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void coefficientsOfDifferentLengths_ShouldThrowAnException() {
+        BulkKernels.solveQuadratics(new double[2], new double[2], new double[1], new double[2], new double[2]);
+    }
+
+    @Test
+    public void selectedPolynomialKernel_ShouldMatchTheScalarKernel() {
+        double[] coefficients = { 0.5, -1.25, 3, 0.75, -2 };
+        double[] xs = randoms(-10, 10);
+        double[] expected = new double[SIZE];
+        double[] actual = new double[SIZE];
+
+        new ScalarKernels().evaluatePolynomial(coefficients, xs, expected, 0, SIZE);
+        selectedKernels().evaluatePolynomial(coefficients, xs, actual, 0, SIZE);
+
+        assertEquivalent(actual, expected);
+    }
+
+    @Test
+    public void selectedQuadraticKernel_ShouldMatchTheScalarKernel() {
+        double[] a = randoms(0.5, 5);
+        double[] b = randoms(-10, 10);
+        double[] c = randoms(-10, 10);
+        double[] expectedPositive = new double[SIZE];
+        double[] expectedNegative = new double[SIZE];
+        double[] actualPositive = new double[SIZE];
+        double[] actualNegative = new double[SIZE];
+
+        new ScalarKernels().solveQuadratics(a, b, c, expectedPositive, expectedNegative, 0, SIZE);
+        selectedKernels().solveQuadratics(a, b, c, actualPositive, actualNegative, 0, SIZE);
+
+        assertEquivalent(actualPositive, expectedPositive);
+        assertEquivalent(actualNegative, expectedNegative);
+    }
+
+    @Test
+    public void selectedRotationKernel_ShouldMatchTheScalarKernel() {
+        double[] xs = randoms(-1000, 1000);
+        double[] ys = randoms(-1000, 1000);
+        double[] expectedXs = new double[SIZE];
+        double[] expectedYs = new double[SIZE];
+        double[] actualXs = new double[SIZE];
+        double[] actualYs = new double[SIZE];
+        double sin = Math.sin(1.1);
+        double cos = Math.cos(1.1);
+
+        new ScalarKernels().rotateCounterClockwise(xs, ys, 3, -4, sin, cos, expectedXs, expectedYs, 0, SIZE);
+        selectedKernels().rotateCounterClockwise(xs, ys, 3, -4, sin, cos, actualXs, actualYs, 0, SIZE);
+
+        assertWithin(actualXs, expectedXs, 1e-9);
+        assertWithin(actualYs, expectedYs, 1e-9);
+    }
+
+    @Test
+    public void selectedGreatCircleKernel_ShouldMatchTheScalarKernel() {
+        double[] latitudes = randoms(-90, 90);
+        double[] longitudes = randoms(-180, 180);
+        double[] expected = new double[SIZE];
+        double[] actual = new double[SIZE];
+        double radius = Coordinates.MEAN_EARTH_RADIUS.toMeters();
+
+        new ScalarKernels().greatCircleDistances(0.8, -1.2, latitudes, longitudes, radius, expected, 0, SIZE);
+        selectedKernels().greatCircleDistances(0.8, -1.2, latitudes, longitudes, radius, actual, 0, SIZE);
+
+        assertWithin(actual, expected, 0.001);
+    }
+
+    @Test
+    public void canScaleARangeOfValues() {
+        double[] scaled = new double[4];
+
+        BulkKernels.scale(new double[] { 1, 2, 3 }, 1, 3, 2, scaled, 2, 2);
+        BulkKernels.scaleAndOffset(new double[] { 212 }, 0, 32, 5, 9, 273.15, scaled, 0, 1);
+
+        assertThat(scaled).usingTolerance(TOLERANCE).containsExactly(373.15, 0, 3, 4.5).inOrder();
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void scalingARangeBeyondTheValues_ShouldThrowAnException() {
+        BulkKernels.scale(new double[2], 1, 2, 1, new double[4], 0, 2);
+    }
+
+    @Test
+    public void selectedScalingKernels_ShouldMatchTheScalarKernelsExactly() {
+        double[] values = randoms(-1000, 1000);
+        double[] expected = new double[SIZE + 3];
+        double[] actual = new double[SIZE + 3];
+        double[][] factors = { { 0.3048, 1.0 }, { 1.0, 1609.34 }, { 9.0, 5.0 } };
+
+        for (double[] factor : factors) {
+            new ScalarKernels().scale(values, factor[0], factor[1], expected, 3, 0, SIZE);
+            selectedKernels().scale(values, factor[0], factor[1], actual, 3, 0, SIZE);
+            assertThat(actual).isEqualTo(expected);
+        }
+
+        new ScalarKernels().scaleAndOffset(values, 32, 5, 9, 273.15, expected, 3, 0, SIZE);
+        selectedKernels().scaleAndOffset(values, 32, 5, 9, 273.15, actual, 3, 0, SIZE);
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    public void theJava17Build_ShouldSelectTheVectorKernels() {
+        assumeTrue(Boolean.getBoolean(VECTOR_KERNELS_EXPECTED_PROPERTY) && !Boolean.getBoolean(BulkKernels.SCALAR_PROPERTY));
+
+        assertThat(BulkKernels.isVectorized()).isTrue();
+    }
+
+    // Otherwise the selected kernel tests would silently compare the scalar kernels with themselves
+    private static Kernels selectedKernels() {
+        if (Boolean.getBoolean(VECTOR_KERNELS_EXPECTED_PROPERTY) && !Boolean.getBoolean(BulkKernels.SCALAR_PROPERTY)) {
+            assertWithMessage("the Vector API kernels should be selected").that(BulkKernels.isVectorized()).isTrue();
+        }
+        return BulkKernels.kernels();
+    }
+
+    private double[] randoms(double min, double max) {
+        double[] values = new double[SIZE];
+        for (int i = 0; i < SIZE; ++i) {
+            values[i] = min + random.nextDouble() * (max - min);
+        }
+        return values;
+    }
+
+    private static void assertEquivalent(double[] actual, double[] expected) {
+        for (int i = 0; i < expected.length; ++i) {
+            if (Double.isNaN(expected[i])) {
+                assertThat(actual[i]).isNaN();
+            } else {
+                assertThat(actual[i]).isWithin(RELATIVE_TOLERANCE * Math.max(1.0, Math.abs(expected[i]))).of(expected[i]);
+            }
+        }
+    }
+
+    private static void assertWithin(double[] actual, double[] expected, double tolerance) {
+        for (int i = 0; i < expected.length; ++i) {
+            assertThat(actual[i]).isWithin(tolerance).of(expected[i]);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package ca.nexapp.math.projections;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.Test;
+
+import ca.nexapp.math.units.Angle;
+import ca.nexapp.math.units.Coordinates;
+import ca.nexapp.math.units.Point;
+
+public class EquirectangularProjectionTest {
+
+    private static final double METERS_IN_A_DEGREE = 111_194.92664455873;
+    private static final double TOLERANCE = 0.001;
+
+    @Test
+    public void givenThePlateCarree_ADegreeShouldBeTheSameLengthOnBothAxes() {
+        Point point = EquirectangularProjection.PLATE_CARREE.project(Coordinates.locatedAt(1.0, 1.0));
+
+        assertThat(point.getX()).isWithin(TOLERANCE).of(METERS_IN_A_DEGREE);
+        assertThat(point.getY()).isWithin(TOLERANCE).of(METERS_IN_A_DEGREE);
+    }
+
+    @Test
+    public void givenAStandardParallel_ShouldShrinkTheLongitudes() {
+        EquirectangularProjection projection = EquirectangularProjection.withStandardParallel(Angle.fromDegrees(60.0));
+
+        Point point = projection.project(Coordinates.locatedAt(1.0, 1.0));
+
+        assertThat(point.getX()).isWithin(TOLERANCE).of(METERS_IN_A_DEGREE / 2.0);
+        assertThat(point.getY()).isWithin(TOLERANCE).of(METERS_IN_A_DEGREE);
+    }
+
+    @Test
+    public void unprojectingAProjectedLocation_ShouldGiveBackTheLocation() {
+        EquirectangularProjection projection = EquirectangularProjection.withStandardParallel(Angle.fromDegrees(45.0));
+        Coordinates montreal = Coordinates.locatedAt(45.4959755, -73.5693904);
+
+        Coordinates unprojected = projection.unproject(projection.project(montreal));
+
+        assertThat(unprojected.getLatitude().toDegrees()).isWithin(1e-9).of(45.4959755);
+        assertThat(unprojected.getLongitude().toDegrees()).isWithin(1e-9).of(-73.5693904);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenAStandardParallelAtAPole_ShouldNotBeAbleToCreateTheProjection() {
+        EquirectangularProjection.withStandardParallel(Angle.DEGREES_90);
+    }
+}
@@ -0,0 +1,80 @@
+package ca.nexapp.math.projections;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.Test;
+
+import ca.nexapp.math.units.Coordinates;
+
+public class TileTest {
+
+    private static final Coordinates LONDON = Coordinates.locatedAt(51.5074, -0.1278);
+    private static final double TOLERANCE = 1e-9;
+
+    @Test
+    public void canFindTheTileContainingALocation() {
+        Tile tile = Tile.containing(LONDON, 10);
+
+        assertThat(tile).isEqualTo(Tile.of(10, 511, 340));
+    }
+
+    @Test
+    public void atZoomZero_EveryLocationShouldBeInTheRootTile() {
+        assertThat(Tile.containing(LONDON, 0)).isEqualTo(Tile.of(0, 0, 0));
+        assertThat(Tile.containing(Coordinates.locatedAt(-89.0, 180.0), 0)).isEqualTo(Tile.of(0, 0, 0));
+    }
+
+    @Test
+    public void canComputeTheQuadkeyOfATile() {
+        assertThat(Tile.of(3, 3, 5).getQuadkey()).isEqualTo("213");
+    }
+
+    @Test
+    public void canFindTheTileOfAQuadkey() {
+        assertThat(Tile.fromQuadkey("213")).isEqualTo(Tile.of(3, 3, 5));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenAnInvalidQuadkey_ShouldNotFindTheTile() {
+        Tile.fromQuadkey("2143");
+    }
+
+    @Test
+    public void theParentShouldContainTheTile() {
+        assertThat(Tile.of(3, 3, 5).getParent()).isEqualTo(Tile.of(2, 1, 2));
+    }
+
+    @Test
+    public void theCornersShouldSurroundTheTile() {
+        Tile tile = Tile.of(1, 0, 0);
+
+        assertThat(tile.getNorthWestCorner().getLatitude().toDegrees()).isWithin(TOLERANCE).of(WebMercatorProjection.MAX_LATITUDE);
+        assertThat(tile.getNorthWestCorner().getLongitude().toDegrees()).isWithin(TOLERANCE).of(-180.0);
+        assertThat(tile.getSouthEastCorner().getLatitude().toDegrees()).isWithin(TOLERANCE).of(0.0);
+        assertThat(tile.getSouthEastCorner().getLongitude().toDegrees()).isWithin(TOLERANCE).of(0.0);
+    }
+
+    @Test
+    public void bulkTilesShouldMatchTheTileOfEachLocation() {
+        double[] latitudes = { 51.5074, -33.9, 85.0 };
+        double[] longitudes = { -0.1278, 151.2, 180.0 };
+        int[] xs = new int[3];
+        int[] ys = new int[3];
+        long[] quadkeys = new long[3];
+
+        Tile.toTiles(latitudes, longitudes, 12, xs, ys);
+        Tile.toQuadkeys(latitudes, longitudes, 12, quadkeys);
+
+        for (int i = 0; i < 3; ++i) {
+            Tile tile = Tile.containing(Coordinates.locatedAt(latitudes[i], longitudes[i]), 12);
+            assertThat(xs[i]).isEqualTo(tile.getX());
+            assertThat(ys[i]).isEqualTo(tile.getY());
+            assertThat(quadkeys[i]).isEqualTo(Long.parseLong(tile.getQuadkey(), 4));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenATileOutsideTheZoomLevel_ShouldNotBeAbleToCreateIt() {
+        Tile.of(1, 2, 0);
+    }
+}
@@ -0,0 +1,97 @@
+package ca.nexapp.math.projections;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.Test;
+
+import ca.nexapp.math.units.Coordinates;
+import ca.nexapp.math.units.Point;
+
+public class WebMercatorProjectionTest {
+
+    private static final WebMercatorProjection PROJECTION = WebMercatorProjection.INSTANCE;
+
+    private static final double HALF_EQUATOR_IN_METERS = 20_037_508.342789244;
+    private static final double TOLERANCE = 0.001;
+
+    @Test
+    public void theOriginShouldBeProjectedOnTheOrigin() {
+        Point point = PROJECTION.project(Coordinates.locatedAt(0.0, 0.0));
+
+        assertThat(point.getX()).isWithin(TOLERANCE).of(0.0);
+        assertThat(point.getY()).isWithin(TOLERANCE).of(0.0);
+    }
+
+    @Test
+    public void theAntimeridianShouldBeProjectedOnTheEdgeOfTheMap() {
+        Point point = PROJECTION.project(Coordinates.locatedAt(0.0, 180.0));
+
+        assertThat(point.getX()).isWithin(TOLERANCE).of(HALF_EQUATOR_IN_METERS);
+    }
+
+    @Test
+    public void theMaximumLatitudeShouldBeProjectedOnTheEdgeOfTheMap() {
+        Point point = PROJECTION.project(Coordinates.locatedAt(WebMercatorProjection.MAX_LATITUDE, 0.0));
+
+        assertThat(point.getY()).isWithin(TOLERANCE).of(HALF_EQUATOR_IN_METERS);
+    }
+
+    @Test
+    public void givenALatitudeBeyondTheMaximum_ShouldClampIt() {
+        Point point = PROJECTION.project(Coordinates.locatedAt(-89.0, 0.0));
+
+        assertThat(point.getY()).isWithin(TOLERANCE).of(-HALF_EQUATOR_IN_METERS);
+    }
+
+    @Test
+    public void unprojectingAProjectedLocation_ShouldGiveBackTheLocation() {
+        Coordinates montreal = Coordinates.locatedAt(45.4959755, -73.5693904);
+
+        Coordinates unprojected = PROJECTION.unproject(PROJECTION.project(montreal));
+
+        assertThat(unprojected.getLatitude().toDegrees()).isWithin(1e-9).of(45.4959755);
+        assertThat(unprojected.getLongitude().toDegrees()).isWithin(1e-9).of(-73.5693904);
+    }
+
+    @Test
+    public void bulkProjectionShouldMatchTheProjectionOfEachLocation() {
+        int size = 50_000;
+        double[] latitudes = new double[size];
+        double[] longitudes = new double[size];
+        for (int i = 0; i < size; ++i) {
+            latitudes[i] = -80.0 + 160.0 * i / size;
+            longitudes[i] = -179.0 + 358.0 * ((i * 7919) % size) / size;
+        }
+        double[] xs = new double[size];
+        double[] ys = new double[size];
+
+        PROJECTION.project(latitudes, longitudes, xs, ys);
+
+        for (int i = 0; i < size; i += 997) {
+            Point point = PROJECTION.project(Coordinates.locatedAt(latitudes[i], longitudes[i]));
+            assertThat(xs[i]).isEqualTo(point.getX());
+            assertThat(ys[i]).isEqualTo(point.getY());
+        }
+    }
+
+    @Test
+    public void bulkUnprojectionShouldGiveBackTheLocations() {
+        double[] latitudes = { 45.5, -33.9, 0.0 };
+        double[] longitudes = { -73.6, 151.2, 0.0 };
+        double[] xs = new double[3];
+        double[] ys = new double[3];
+        double[] unprojectedLatitudes = new double[3];
+        double[] unprojectedLongitudes = new double[3];
+
+        PROJECTION.project(latitudes, longitudes, xs, ys);
+        PROJECTION.unproject(xs, ys, unprojectedLatitudes, unprojectedLongitudes);
+
+        assertThat(unprojectedLatitudes).usingTolerance(1e-9).containsExactly(latitudes).inOrder();
+        assertThat(unprojectedLongitudes).usingTolerance(1e-9).containsExactly(longitudes).inOrder();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenArraysOfDifferentLengths_ShouldNotProject() {
+        PROJECTION.project(new double[2], new double[2], new double[1], new double[2]);
+    }
+}
@@ -0,0 +1,102 @@
+package ca.nexapp.math.spatial;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+import ca.nexapp.math.units.Coordinates;
+import ca.nexapp.math.units.Length;
+
+public class CoordinatesTreeTest {
+
+    private static final Coordinates MONTREAL = Coordinates.locatedAt(45.5017, -73.5673);
+    private static final Coordinates QUEBEC = Coordinates.locatedAt(46.8139, -71.2080);
+    private static final Coordinates TORONTO = Coordinates.locatedAt(43.6532, -79.3832);
+    private static final Coordinates NEW_YORK = Coordinates.locatedAt(40.7128, -74.0060);
+    private static final Coordinates PARIS = Coordinates.locatedAt(48.8566, 2.3522);
+
+    private static final List<Coordinates> CITIES = Arrays.asList(MONTREAL, QUEBEC, TORONTO, NEW_YORK, PARIS);
+
+    @Test
+    public void canFindTheNearestLocationsInOrder() {
+        CoordinatesTree tree = CoordinatesTree.of(CITIES);
+
+        int[] nearest = tree.findNearest(Coordinates.locatedAt(45.4, -73.9), 3);
+
+        assertThat(nearest).asList().containsExactly(0, 1, 2).inOrder();
+    }
+
+    @Test
+    public void givenMoreNeighboursThanLocations_ShouldFindEveryLocation() {
+        CoordinatesTree tree = CoordinatesTree.of(CITIES);
+
+        assertThat(tree.findNearest(MONTREAL, 10)).hasLength(CITIES.size());
+    }
+
+    @Test
+    public void givenNoLocation_ShouldFindNothing() {
+        CoordinatesTree tree = CoordinatesTree.of(Collections.emptyList());
+
+        assertThat(tree.findNearest(MONTREAL, 3)).hasLength(0);
+        assertThat(tree.findWithin(MONTREAL, Length.fromKilometers(100))).hasLength(0);
+    }
+
+    @Test
+    public void canFindTheLocationsWithinARange() {
+        CoordinatesTree tree = CoordinatesTree.of(CITIES);
+
+        int[] within = tree.findWithin(MONTREAL, Length.fromKilometers(600));
+
+        assertThat(within).asList().containsExactly(0, 1, 2, 3);
+    }
+
+    @Test
+    public void shouldFindNeighboursAcrossTheAntimeridian() {
+        Coordinates fiji = Coordinates.locatedAt(-17.0, 179.9);
+        Coordinates samoa = Coordinates.locatedAt(-13.8, -171.8);
+        Coordinates sydney = Coordinates.locatedAt(-33.9, 151.2);
+        CoordinatesTree tree = CoordinatesTree.of(Arrays.asList(sydney, samoa, fiji));
+
+        assertThat(tree.findNearest(Coordinates.locatedAt(-16.0, -179.9), 2)).asList().containsExactly(2, 1).inOrder();
+    }
+
+    @Test
+    public void shouldAgreeWithABruteForceSearch() {
+        Random random = new Random(42);
+        List<Coordinates> depots = new ArrayList<>();
+        for (int i = 0; i < 2_000; ++i) {
+            depots.add(Coordinates.locatedAt(random.nextDouble() * 180.0 - 90.0, random.nextDouble() * 360.0 - 180.0));
+        }
+        List<Coordinates> customers = new ArrayList<>();
+        for (int i = 0; i < 200; ++i) {
+            customers.add(Coordinates.locatedAt(random.nextDouble() * 180.0 - 90.0, random.nextDouble() * 360.0 - 180.0));
+        }
+        CoordinatesTree tree = CoordinatesTree.of(depots);
+
+        int[][] nearest = tree.findNearest(customers, 10);
+        int[][] within = tree.findWithin(customers, Length.fromKilometers(500));
+
+        for (int i = 0; i < customers.size(); ++i) {
+            Coordinates customer = customers.get(i);
+            List<Integer> expected = IntStream.range(0, depots.size()).boxed()
+                    .sorted(Comparator.comparingDouble(depot -> customer.getDistanceTo(depots.get(depot)).toMeters()))
+                    .limit(10)
+                    .collect(Collectors.toList());
+            assertThat(nearest[i]).asList().containsExactlyElementsIn(expected).inOrder();
+
+            List<Integer> expectedWithin = IntStream.range(0, depots.size()).boxed()
+                    .filter(depot -> customer.getDistanceTo(depots.get(depot)).toKilometers() <= 500.0)
+                    .collect(Collectors.toList());
+            assertThat(within[i]).asList().containsExactlyElementsIn(expectedWithin);
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package ca.nexapp.math.statistics;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import ca.nexapp.math.units.Duration;
+
+public class LatencyHistogramTest {
+
+    private static final Duration AN_HOUR = Duration.hours(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double RELATIVE_PRECISION = 0.001;
+
+    private LatencyHistogram histogram;
+
+    @Before
+    public void setUp() {
+        histogram = LatencyHistogram.of(AN_HOUR, SIGNIFICANT_DIGITS);
+    }
+
+    @Test
+    public void givenNoLatency_ShouldBeEmpty() {
+        assertThat(histogram.getCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldCountTheRecordedLatencies() {
+        histogram.record(Duration.milliseconds(5));
+        histogram.recordNanoseconds(700, 3);
+
+        assertThat(histogram.getCount()).isEqualTo(4);
+    }
+
+    @Test
+    public void shouldKeepTheExactMinimumAndMaximum() {
+        histogram.recordNanoseconds(123_456_789);
+        histogram.recordNanoseconds(1_001);
+
+        assertThat(histogram.getMinInNanoseconds()).isEqualTo(1_001);
+        assertThat(histogram.getMax()).isEqualTo(Duration.nanoseconds(123_456_789));
+    }
+
+    @Test
+    public void percentiles_ShouldStayWithinTheSignificantDigits() {
+        Random random = new Random(42);
+        long[] latencies = new long[100_000];
+        for (int i = 0; i < latencies.length; ++i) {
+            latencies[i] = 1_000 + (long) (Math.abs(random.nextGaussian()) * 50_000_000);
+            histogram.recordNanoseconds(latencies[i]);
+        }
+        Arrays.sort(latencies);
+
+        for (double percentile : new double[] { 1, 25, 50, 90, 99, 99.9 }) {
+            long expected = latencies[(int) Math.ceil(percentile / 100 * latencies.length) - 1];
+            assertThat((double) histogram.getNanosecondsAtPercentile(percentile)).isWithin(expected * RELATIVE_PRECISION).of(expected);
+        }
+        assertThat(histogram.getNanosecondsAtPercentile(100)).isEqualTo(latencies[latencies.length - 1]);
+    }
+
+    @Test
+    public void theMean_ShouldStayWithinTheSignificantDigits() {
+        histogram.recordNanoseconds(1_000_000);
+        histogram.recordNanoseconds(3_000_000);
+
+        assertThat(histogram.getMeanInNanoseconds()).isWithin(2_000_000 * RELATIVE_PRECISION).of(2_000_000);
+    }
+
+    @Test
+    public void smallLatencies_ShouldBeExact() {
+        histogram.recordNanoseconds(0);
+        histogram.recordNanoseconds(17);
+        histogram.recordNanoseconds(1_999);
+
+        assertThat(histogram.getNanosecondsAtPercentile(50)).isEqualTo(17);
+        assertThat(histogram.getMeanInNanoseconds()).isWithin(0.001).of(672);
+    }
+
+    @Test
+    public void latenciesAboveTheHighestTrackable_ShouldBeCountedInTheLastBucket() {
+        histogram.record(Duration.hours(2));
+
+        assertThat(histogram.getCount()).isEqualTo(1);
+        assertThat(histogram.getMax()).isEqualTo(Duration.hours(2));
+    }
+
+    @Test
+    public void canTrackTheLongestDuration() {
+        Duration longest = Duration.nanoseconds(Long.MAX_VALUE);
+        LatencyHistogram everything = LatencyHistogram.of(longest, 2);
+
+        everything.record(longest);
+
+        assertThat(everything.getValueAtPercentile(50)).isEqualTo(longest);
+    }
+
+    @Test
+    public void canMergeHistograms() {
+        LatencyHistogram other = LatencyHistogram.of(AN_HOUR, SIGNIFICANT_DIGITS);
+        histogram.recordNanoseconds(1_000);
+        other.recordNanoseconds(5_000, 3);
+
+        histogram.merge(other);
+
+        assertThat(histogram.getCount()).isEqualTo(4);
+        assertThat(histogram.getMinInNanoseconds()).isEqualTo(1_000);
+        assertThat(histogram.getNanosecondsAtPercentile(50)).isEqualTo(5_000);
+    }
+
+    @Test
+    public void canMergeHistogramsOfDifferentPrecisions() {
+        LatencyHistogram coarse = LatencyHistogram.of(Duration.seconds(1), 1);
+        coarse.recordNanoseconds(1_234_567, 10);
+
+        histogram.merge(coarse);
+
+        assertThat((double) histogram.getNanosecondsAtPercentile(50)).isWithin(1_234_567 * 0.1).of(1_234_567);
+        assertThat(histogram.getCount()).isEqualTo(10);
+    }
+
+    @Test
+    public void canBeResetted() {
+        histogram.recordNanoseconds(1_000);
+
+        histogram.reset();
+
+        assertThat(histogram.getCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void canBeEncodedAndDecoded() {
+        Random random = new Random(7);
+        for (int i = 0; i < 10_000; ++i) {
+            histogram.recordNanoseconds(random.nextInt(100_000_000));
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getEncodedSize());
+
+        histogram.encodeInto(buffer);
+        buffer.flip();
+        LatencyHistogram decoded = LatencyHistogram.decodeFrom(buffer);
+
+        assertThat(buffer.remaining()).isEqualTo(0);
+        assertThat(decoded.getCount()).isEqualTo(histogram.getCount());
+        assertThat(decoded.getMax()).isEqualTo(histogram.getMax());
+        for (double percentile : new double[] { 0, 10, 50, 90, 99.99 }) {
+            assertThat(decoded.getNanosecondsAtPercentile(percentile)).isEqualTo(histogram.getNanosecondsAtPercentile(percentile));
+        }
+    }
+
+    @Test
+    public void theEncoding_ShouldBeCompact() {
+        histogram.recordNanoseconds(1_000);
+        histogram.recordNanoseconds(50_000_000);
+
+        assertThat(histogram.getEncodedSize()).isLessThan(32);
+    }
+
+    @Test
+    public void anEmptyHistogram_CanBeEncodedAndDecoded() {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getEncodedSize());
+        histogram.encodeInto(buffer);
+        buffer.flip();
+
+        assertThat(LatencyHistogram.decodeFrom(buffer).getCount()).isEqualTo(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void decodingATruncatedHistogram_ShouldThrowAnException() {
+        histogram.recordNanoseconds(1_000);
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getEncodedSize());
+        histogram.encodeInto(buffer);
+        buffer.flip().limit(buffer.limit() - 1);
+
+        LatencyHistogram.decodeFrom(buffer);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void recordingANegativeLatency_ShouldThrowAnException() {
+        histogram.recordNanoseconds(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void aPercentileAboveOneHundred_ShouldThrowAnException() {
+        histogram.recordNanoseconds(1);
+
+        histogram.getNanosecondsAtPercentile(101);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void anEmptyHistogram_ShouldHaveNoPercentile() {
+        histogram.getValueAtPercentile(50);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void tooManySignificantDigits_ShouldThrowAnException() {
+        LatencyHistogram.of(AN_HOUR, 6);
+    }
+}
@@ -0,0 +1,110 @@
+package ca.nexapp.math.units;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.Test;
+
+public class AngleMathTest {
+
+    private static final double DELTA = 0.0000001;
+
+    @Test
+    public void givenAPositiveAngle_NormalizingShouldKeepItInOneTurn() {
+        assertThat(AngleMath.normalizeDegrees(725.0)).isWithin(DELTA).of(5.0);
+    }
+
+    @Test
+    public void givenANegativeAngle_NormalizingShouldMakeItPositive() {
+        assertThat(AngleMath.normalizeDegrees(-90.0)).isWithin(DELTA).of(270.0);
+    }
+
+    @Test
+    public void givenANegativeFullTurn_NormalizingShouldGiveZero() {
+        assertThat(AngleMath.normalizeDegrees(-360.0)).isEqualTo(0.0);
+        assertThat(AngleMath.normalizeDegrees(-0.0)).isEqualTo(0.0);
+    }
+
+    @Test
+    public void givenATinyNegativeAngle_NormalizingShouldStayBelowAFullTurn() {
+        assertThat(AngleMath.normalizeDegrees(-1e-20)).isLessThan(360.0);
+    }
+
+    @Test
+    public void canNormalizeRadians() {
+        assertThat(AngleMath.normalizeRadians(-Math.PI / 2.0)).isWithin(DELTA).of(3.0 * Math.PI / 2.0);
+    }
+
+    @Test
+    public void canWrapDegreesAround180() {
+        assertThat(AngleMath.wrapDegreesTo180(190.0)).isWithin(DELTA).of(-170.0);
+        assertThat(AngleMath.wrapDegreesTo180(-190.0)).isWithin(DELTA).of(170.0);
+        assertThat(AngleMath.wrapDegreesTo180(45.0)).isWithin(DELTA).of(45.0);
+    }
+
+    @Test
+    public void canWrapRadiansAroundPi() {
+        assertThat(AngleMath.wrapRadiansToPi(3.0 * Math.PI / 2.0)).isWithin(DELTA).of(-Math.PI / 2.0);
+    }
+
+    @Test
+    public void theDifferenceShouldTakeTheShortestWayAroundTheCircle() {
+        assertThat(AngleMath.differenceInDegrees(350.0, 10.0)).isWithin(DELTA).of(20.0);
+        assertThat(AngleMath.differenceInDegrees(10.0, 350.0)).isWithin(DELTA).of(-20.0);
+        assertThat(AngleMath.differenceInRadians(0.1, 2.0 * Math.PI - 0.1)).isWithin(DELTA).of(-0.2);
+    }
+
+    @Test
+    public void tinyDifferences_ShouldKeepTheirPrecision() {
+        assertThat(AngleMath.differenceInDegrees(0.0, 1e-12)).isEqualTo(1e-12);
+        assertThat(AngleMath.differenceInRadians(0.0, 1e-10)).isEqualTo(1e-10);
+    }
+
+    @Test
+    public void halfTurns_ShouldWrapToTheNegativeHalfTurn() {
+        assertThat(AngleMath.wrapDegreesTo180(180.0)).isEqualTo(-180.0);
+        assertThat(AngleMath.wrapDegreesTo180(-180.0)).isEqualTo(-180.0);
+        assertThat(AngleMath.wrapDegreesTo180(540.0)).isEqualTo(-180.0);
+    }
+
+    @Test
+    public void canFindTheQuadrant() {
+        assertThat(AngleMath.quadrant(45.0)).isEqualTo(1);
+        assertThat(AngleMath.quadrant(135.0)).isEqualTo(2);
+        assertThat(AngleMath.quadrant(-135.0)).isEqualTo(3);
+        assertThat(AngleMath.quadrant(-45.0)).isEqualTo(4);
+    }
+
+    @Test
+    public void givenAnAngleOnAnAxis_ShouldNotBeInAQuadrant() {
+        assertThat(AngleMath.quadrant(0.0)).isEqualTo(AngleMath.ON_AN_AXIS);
+        assertThat(AngleMath.quadrant(-90.0)).isEqualTo(AngleMath.ON_AN_AXIS);
+        assertThat(AngleMath.quadrant(540.0)).isEqualTo(AngleMath.ON_AN_AXIS);
+        assertThat(AngleMath.quadrant(Double.NaN)).isEqualTo(AngleMath.ON_AN_AXIS);
+    }
+
+    @Test
+    public void canFindIfAnAngleIsOnAnAxis() {
+        assertThat(AngleMath.isOnXAxis(-180.0)).isTrue();
+        assertThat(AngleMath.isOnXAxis(-360.0)).isTrue();
+        assertThat(AngleMath.isOnYAxis(-90.0)).isTrue();
+        assertThat(AngleMath.isOnYAxis(180.0)).isFalse();
+    }
+
+    @Test
+    public void canNormalizeManyAnglesAtOnce() {
+        double[] normalized = new double[3];
+
+        AngleMath.normalizeDegrees(new double[] { -90.0, 370.0, 45.0 }, normalized);
+
+        assertThat(normalized).usingTolerance(DELTA).containsExactly(270.0, 10.0, 45.0).inOrder();
+    }
+
+    @Test
+    public void canNormalizeManyRadiansAtOnce() {
+        double[] normalized = new double[2];
+
+        AngleMath.normalizeRadians(new double[] { -Math.PI, 3.0 * Math.PI }, normalized);
+
+        assertThat(normalized).usingTolerance(DELTA).containsExactly(Math.PI, Math.PI).inOrder();
+    }
+}
@@ -54,6 +54,31 @@ public class AngleTest {
         assertThat(angle.toDegrees()).isWithin(DELTA).of(AN_ANGLE_IN_DEGREES);
     }
 
+    @Test
+    public void theFastSineShouldBeCloseToTheSine() {
+        Angle angle = Angle.fromDegrees(33.3);
+
+        assertThat(angle.fastSin()).isWithin(FastTrigonometry.MAX_ERROR).of(Math.sin(angle.toRadians()));
+    }
+
+    @Test
+    public void theFastCosineShouldBeCloseToTheCosine() {
+        Angle angle = Angle.fromDegrees(-123.4);
+
+        assertThat(angle.fastCos()).isWithin(FastTrigonometry.MAX_ERROR).of(Math.cos(angle.toRadians()));
+    }
+
+    @Test
+    public void canComputeTheSineAndCosineAtOnce() {
+        Angle angle = Angle.fromDegrees(210);
+        double[] sineAndCosine = new double[2];
+
+        angle.sinCos(sineAndCosine);
+
+        assertThat(sineAndCosine[0]).isWithin(FastTrigonometry.MAX_ERROR).of(Math.sin(angle.toRadians()));
+        assertThat(sineAndCosine[1]).isWithin(FastTrigonometry.MAX_ERROR).of(Math.cos(angle.toRadians()));
+    }
+
     @Test
     public void convertingAnAngleInRadiansToRadians_ShouldReturnTheSameAngle() {
         Angle angle = Angle.fromRadians(THE_ANGLE_IN_RADIANS);
@@ -209,6 +234,13 @@ public class AngleTest {
         assertThat(Angle.DEGREES_360.isOnXAxis()).isTrue();
     }
 
+    @Test
+    public void givenANegativeFullTurn_ShouldBeOnXAxis() {
+        Angle angle = Angle.fromDegrees(-360);
+
+        assertThat(angle.isOnXAxis()).isTrue();
+    }
+
     @Test
     public void givenAnAngleInAQuadrant_ShouldNotBeOnXAxis() {
         Angle angle = Angle.fromDegrees(45);
@@ -0,0 +1,88 @@
+package ca.nexapp.math.units;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+public class CircularStatisticsTest {
+
+    private static final double DELTA = 0.0000001;
+
+    @Test
+    public void theMeanDirectionShouldHandleAnglesAroundNorth() {
+        CircularStatistics statistics = new CircularStatistics();
+
+        statistics.accept(Angle.fromDegrees(350));
+        statistics.accept(Angle.fromDegrees(10));
+
+        assertThat(statistics.getMeanDirection().toDegrees()).isWithin(DELTA).of(0.0);
+    }
+
+    @Test
+    public void givenIdenticalAngles_ShouldHaveNoVariance() {
+        CircularStatistics statistics = new CircularStatistics();
+
+        statistics.acceptAll(new double[] { 42.0, 42.0, 402.0 });
+
+        assertThat(statistics.getMeanDirection().toDegrees()).isWithin(DELTA).of(42.0);
+        assertThat(statistics.getMeanResultantLength()).isWithin(DELTA).of(1.0);
+        assertThat(statistics.getCircularVariance()).isWithin(DELTA).of(0.0);
+        assertThat(statistics.getCircularStandardDeviation().toDegrees()).isWithin(DELTA).of(0.0);
+    }
+
+    @Test
+    public void givenOppositeAngles_ShouldHaveTheMaximumVariance() {
+        CircularStatistics statistics = new CircularStatistics();
+
+        statistics.accept(0.0);
+        statistics.accept(180.0);
+
+        assertThat(statistics.getMeanResultantLength()).isWithin(DELTA).of(0.0);
+        assertThat(statistics.getCircularVariance()).isWithin(DELTA).of(1.0);
+    }
+
+    @Test
+    public void theResultantLengthShouldMatchItsDefinition() {
+        CircularStatistics statistics = new CircularStatistics();
+
+        statistics.accept(0.0);
+        statistics.accept(90.0);
+
+        assertThat(statistics.getMeanResultantLength()).isWithin(DELTA).of(Math.sqrt(2.0) / 2.0);
+        assertThat(statistics.getMeanDirection().toDegrees()).isWithin(DELTA).of(45.0);
+    }
+
+    @Test
+    public void combiningStatisticsShouldBeTheSameAsAccumulatingEveryAngle() {
+        CircularStatistics all = new CircularStatistics();
+        all.acceptAll(new double[] { 10.0, 20.0, 300.0, 330.0 });
+        CircularStatistics first = new CircularStatistics();
+        first.acceptAll(new double[] { 10.0, 20.0 });
+        CircularStatistics second = new CircularStatistics();
+        second.acceptAll(new double[] { 300.0, 330.0 });
+
+        CircularStatistics combined = first.combine(second);
+
+        assertThat(combined.getCount()).isEqualTo(4);
+        assertThat(combined.getMeanDirection().toDegrees()).isWithin(DELTA).of(all.getMeanDirection().toDegrees());
+        assertThat(combined.getCircularVariance()).isWithin(DELTA).of(all.getCircularVariance());
+    }
+
+    @Test
+    public void canCollectAParallelStreamOfAngles() {
+        List<Angle> headings = Arrays.asList(Angle.fromDegrees(355), Angle.fromDegrees(5), Angle.fromDegrees(15));
+
+        CircularStatistics statistics = headings.parallelStream().collect(CircularStatistics::new, CircularStatistics::accept,
+                CircularStatistics::combine);
+
+        assertThat(statistics.getMeanDirection().toDegrees()).isWithin(0.01).of(5.0);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void givenNoAngle_ShouldNotHaveAMeanDirection() {
+        new CircularStatistics().getMeanDirection();
+    }
+}
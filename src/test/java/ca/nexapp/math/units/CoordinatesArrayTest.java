@@ -0,0 +1,120 @@
+package ca.nexapp.math.units;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.Test;
+
+public class CoordinatesArrayTest {
+
+    private static final Coordinates CENTER_BELL = Coordinates.locatedAt(45.4959755, -73.5693904);
+    private static final Coordinates YANKEE_STADIUM = Coordinates.locatedAt(40.8295818, -73.9261455);
+    private static final Coordinates EIFFEL_TOWER = Coordinates.locatedAt(48.8583, 2.2945);
+
+    private static final double E7_TOLERANCE = 0.0000001;
+
+    @Test
+    public void shouldKeepTheCoordinatesWithSevenDecimalsOfPrecision() {
+        CoordinatesArray array = CoordinatesArray.of(CENTER_BELL, YANKEE_STADIUM);
+
+        assertThat(array.size()).isEqualTo(2);
+        assertThat(array.getLatitude(0)).isWithin(E7_TOLERANCE).of(45.4959755);
+        assertThat(array.getLongitude(1)).isWithin(E7_TOLERANCE).of(-73.9261455);
+        assertThat(array.getLatitudeE7(0)).isEqualTo(454959755);
+    }
+
+    @Test
+    public void canProduceCoordinatesOnDemand() {
+        CoordinatesArray array = CoordinatesArray.of(CENTER_BELL, YANKEE_STADIUM);
+
+        Coordinates yankeeStadium = array.get(1);
+
+        assertThat(yankeeStadium.getLatitude().toDegrees()).isWithin(E7_TOLERANCE).of(40.8295818);
+        assertThat(yankeeStadium.getLongitude().toDegrees()).isWithin(E7_TOLERANCE).of(-73.9261455);
+    }
+
+    @Test
+    public void givenALongitudeOutsideTheMap_ShouldWrapIt() {
+        CoordinatesArray array = CoordinatesArray.ofSize(1);
+
+        array.set(0, 10.0, 190.0);
+
+        assertThat(array.getLongitude(0)).isWithin(E7_TOLERANCE).of(-170.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenALatitudeOutsideTheMap_ShouldNotBeAbleToStoreIt() {
+        CoordinatesArray.ofSize(1).set(0, 91.0, 0.0);
+    }
+
+    @Test
+    public void aSliceShouldShareTheStorageOfItsArray() {
+        CoordinatesArray array = CoordinatesArray.of(CENTER_BELL, YANKEE_STADIUM, EIFFEL_TOWER);
+        CoordinatesArray slice = array.slice(1, 3);
+
+        slice.set(0, CENTER_BELL);
+
+        assertThat(slice.size()).isEqualTo(2);
+        assertThat(array.getLatitude(1)).isWithin(E7_TOLERANCE).of(45.4959755);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldNotBeAbleToReadOutsideOfASlice() {
+        CoordinatesArray array = CoordinatesArray.of(CENTER_BELL, YANKEE_STADIUM, EIFFEL_TOWER);
+
+        array.slice(0, 1).get(1);
+    }
+
+    @Test
+    public void theListViewShouldReflectTheArray() {
+        CoordinatesArray array = CoordinatesArray.of(CENTER_BELL, YANKEE_STADIUM);
+
+        array.asList().set(1, EIFFEL_TOWER);
+
+        assertThat(array.getLatitude(1)).isWithin(E7_TOLERANCE).of(48.8583);
+        assertThat(array.asList()).hasSize(2);
+    }
+
+    @Test
+    public void canCalculateTheDistancesToALocation() {
+        CoordinatesArray array = CoordinatesArray.of(YANKEE_STADIUM, CENTER_BELL);
+        double[] distances = new double[2];
+
+        array.distancesTo(CENTER_BELL, distances);
+
+        assertThat(distances[0] / 1000.0).isWithin(0.5).of(519.23);
+        assertThat(distances[1]).isWithin(0.01).of(0.0);
+    }
+
+    @Test
+    public void givenVeryNearLocations_ShouldKeepTheDistancePrecise() {
+        CoordinatesArray array = CoordinatesArray.fromDegrees(new double[] { 45.0001 }, new double[] { -73.0 });
+        double[] distances = new double[1];
+
+        array.distancesTo(Coordinates.locatedAt(45.0, -73.0), distances);
+
+        assertThat(distances[0]).isWithin(0.01).of(11.12);
+    }
+
+    @Test
+    public void canFindTheLocationsInRange() {
+        CoordinatesArray array = CoordinatesArray.of(YANKEE_STADIUM, CENTER_BELL, EIFFEL_TOWER);
+
+        int[] inRange = array.findInRange(CENTER_BELL, Length.fromKilometers(600));
+
+        assertThat(inRange).asList().containsExactly(0, 1).inOrder();
+    }
+
+    @Test
+    public void canCalculateTheBearingsFromALocation() {
+        Coordinates origin = Coordinates.locatedAt(0.0, 0.0);
+        CoordinatesArray array = CoordinatesArray.fromDegrees(new double[] { 1.0, 0.0, -1.0, 0.0 }, new double[] { 0.0, 1.0, 0.0, -1.0 });
+        double[] bearings = new double[4];
+
+        array.bearingsFrom(origin, bearings);
+
+        assertThat(bearings[0]).isWithin(E7_TOLERANCE).of(0.0);
+        assertThat(bearings[1]).isWithin(E7_TOLERANCE).of(90.0);
+        assertThat(bearings[2]).isWithin(E7_TOLERANCE).of(180.0);
+        assertThat(bearings[3]).isWithin(E7_TOLERANCE).of(270.0);
+    }
+}
@@ -59,6 +59,26 @@ public class CoordinatesTest {
         assertThat(distance.toKilometers()).isWithin(0.5).of(5_837);
     }
 
+    @Test
+    public void givenTheSameLocation_ShouldBeAtNoDistance() {
+        // The cosine of the angle between them rounds to 1.0000000000000002 here
+        Coordinates location = Coordinates.locatedAt(-88.4231, 47.2284);
+
+        Length distance = location.getDistanceTo(Coordinates.locatedAt(-88.4231, 47.2284));
+
+        assertThat(distance.toMeters()).isWithin(0.5).of(0.0);
+    }
+
+    @Test
+    public void givenAntipodalLocations_ShouldBeHalfTheEarthCircumferenceApart() {
+        // The cosine of the angle between them rounds to -1.0000000000000002 here
+        Coordinates location = Coordinates.locatedAt(-88.4231, 47.2284);
+
+        Length distance = location.getDistanceTo(Coordinates.locatedAt(88.4231, -132.7716));
+
+        assertThat(distance.toKilometers()).isWithin(0.001).of(Math.PI * Coordinates.MEAN_EARTH_RADIUS.toKilometers());
+    }
+
     @Test
     public void givenTwoVeryNearLocationsAndVeryShortRange_ShouldBeInRange() {
         Coordinates googlePlex = Coordinates.locatedAt(37.4218047, -122.0838097);
@@ -0,0 +1,62 @@
+package ca.nexapp.math.units;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.Test;
+
+public class DataRateMeterTest {
+
+    private static final double TOLERANCE = 0.000001;
+    private static final long A_SECOND = Duration.seconds(1).toNanoseconds();
+
+    private final DataRateMeter meter = DataRateMeter.over(Duration.seconds(10), 10);
+
+    @Test
+    public void givenNoSample_ShouldHaveANullRate() {
+        assertThat(meter.getBitsPerSecond(0)).isWithin(TOLERANCE).of(0);
+    }
+
+    @Test
+    public void shouldAverageTheSamplesOverTheWindow() {
+        for (int second = 0; second < 10; ++second) {
+            meter.recordBytes(1_000, second * A_SECOND);
+        }
+
+        assertThat(meter.getRate(9 * A_SECOND).toBytesPerSecond()).isWithin(TOLERANCE).of(1_000);
+    }
+
+    @Test
+    public void samplesOutsideTheWindow_ShouldBeForgotten() {
+        meter.recordBits(80_000, 0);
+        meter.record(DigitalStorage.bits(800), 15 * A_SECOND);
+
+        assertThat(meter.getBitsPerSecond(15 * A_SECOND)).isWithin(TOLERANCE).of(80);
+    }
+
+    @Test
+    public void samplesOlderThanTheWindow_ShouldBeIgnored() {
+        meter.recordBits(800, 20 * A_SECOND);
+        meter.recordBits(80_000, 10 * A_SECOND);
+
+        assertThat(meter.getBitsPerSecond(20 * A_SECOND)).isWithin(TOLERANCE).of(80);
+    }
+
+    @Test
+    public void canBeResetted() {
+        meter.recordBits(800, 0);
+
+        meter.reset();
+
+        assertThat(meter.getBitsPerSecond(0)).isWithin(TOLERANCE).of(0);
+    }
+
+    @Test
+    public void shouldKnowItsWindow() {
+        assertThat(meter.getWindow()).isEqualTo(Duration.seconds(10));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void aMeterWithoutSlots_ShouldThrowAnException() {
+        DataRateMeter.over(Duration.seconds(1), 0);
+    }
+}
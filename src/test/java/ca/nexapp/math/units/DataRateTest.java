@@ -0,0 +1,62 @@
+package ca.nexapp.math.units;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.Test;
+
+public class DataRateTest {
+
+    private static final double TOLERANCE = 0.000001;
+
+    @Test
+    public void aStorageOverADuration_ShouldGiveARate() {
+        DataRate rate = DigitalStorage.megabytes(100).per(Duration.seconds(4));
+
+        assertThat(rate.toMegabytesPerSecond()).isWithin(TOLERANCE).of(25);
+    }
+
+    @Test
+    public void canConvertBetweenRateUnits() {
+        DataRate rate = DataRate.of(1, DataRate.GIGABITS_PER_SECOND);
+
+        assertThat(rate.toBytesPerSecond()).isWithin(TOLERANCE).of(125_000_000);
+        assertThat(DataRate.gigabytesPerSecond(1).toKilobytesPerSecond()).isWithin(TOLERANCE).of(1024 * 1024);
+        assertThat(DataRate.bytesPerSecond(1).to(DataRate.BITS_PER_SECOND)).isWithin(TOLERANCE).of(8);
+    }
+
+    @Test
+    public void canCalculateTheTimeToTransferAStorage() {
+        DataRate rate = DataRate.megabytesPerSecond(10);
+
+        assertThat(rate.timeToTransfer(DigitalStorage.gigabytes(1))).isEqualTo(Duration.milliseconds(102_400));
+    }
+
+    @Test
+    public void canCalculateTheStorageTransferableInADuration() {
+        DataRate rate = DataRate.kilobytesPerSecond(2);
+
+        assertThat(rate.transferableIn(Duration.milliseconds(1500))).isEqualTo(DigitalStorage.kilobytes(3));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void aRateOverNoTime_ShouldThrowAnException() {
+        DigitalStorage.bytes(1).per(Duration.ZERO);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void transferringAtANullRate_ShouldThrowAnException() {
+        DataRate.bitsPerSecond(0).timeToTransfer(DigitalStorage.bytes(1));
+    }
+
+    @Test
+    public void canAddAndSubtractRates() {
+        DataRate sum = DataRate.bytesPerSecond(10).add(DataRate.bytesPerSecond(5)).subtract(DataRate.bytesPerSecond(3));
+
+        assertThat(sum).isEqualTo(DataRate.bytesPerSecond(12));
+    }
+
+    @Test
+    public void canCompareRates() {
+        assertThat(DataRate.megabytesPerSecond(1)).isGreaterThan(DataRate.of(8, DataRate.MEGABITS_PER_SECOND));
+    }
+}
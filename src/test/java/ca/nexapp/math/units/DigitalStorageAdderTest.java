@@ -0,0 +1,50 @@
+package ca.nexapp.math.units;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+public class DigitalStorageAdderTest {
+
+    private final DigitalStorageAdder adder = new DigitalStorageAdder();
+
+    @Test
+    public void givenNothingAdded_ShouldSumToZero() {
+        assertThat(adder.sum()).isEqualTo(DigitalStorage.bits(0));
+    }
+
+    @Test
+    public void canAddStoragesBytesAndBits() {
+        adder.add(DigitalStorage.kilobytes(1));
+        adder.addBytes(2);
+        adder.addBits(3);
+
+        assertThat(adder.sum()).isEqualTo(DigitalStorage.bits(8192 + 16 + 3));
+    }
+
+    @Test
+    public void shouldSumTheAdditionsOfManyThreads() {
+        IntStream.range(0, 1024 * 1024).parallel().forEach(i -> adder.addBytes(1));
+
+        assertThat(adder.sum()).isEqualTo(DigitalStorage.megabytes(1));
+    }
+
+    @Test
+    public void canSumThenReset() {
+        adder.add(DigitalStorage.gigabytes(1));
+
+        assertThat(adder.sumThenReset()).isEqualTo(DigitalStorage.gigabytes(1));
+        assertThat(adder.sum()).isEqualTo(DigitalStorage.bits(0));
+    }
+
+    @Test
+    public void canBeResetted() {
+        adder.addBits(1);
+
+        adder.reset();
+
+        assertThat(adder.sum()).isEqualTo(DigitalStorage.bits(0));
+    }
+}
@@ -0,0 +1,47 @@
+package ca.nexapp.math.units;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.Test;
+
+public class DimensionTest {
+
+    private static final double TOLERANCE = 0.000001;
+
+    @Test
+    public void aUnit_ShouldKnowItsDimension() {
+        assertThat(Length.KILOMETERS.getDimension()).isSameAs(Length.DIMENSION);
+    }
+
+    @Test
+    public void canFindTheCanonicalUnit() {
+        assertThat(Duration.DIMENSION.getCanonicalUnit()).isSameAs(Duration.NANOSECONDS);
+    }
+
+    @Test
+    public void canFindAUnitBySymbol() {
+        assertThat(DigitalStorage.DIMENSION.getUnit("MiB")).isSameAs(DigitalStorage.MEGABYTES);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void findingAnUnknownSymbol_ShouldThrowAnException() {
+        Mass.DIMENSION.getUnit("stone");
+    }
+
+    @Test
+    public void shouldListItsUnitsInOrder() {
+        assertThat(Temperature.DIMENSION.getUnits()).containsExactly(Temperature.CELSIUS, Temperature.FAHRENHEIT, Temperature.KELVIN)
+                .inOrder();
+    }
+
+    @Test
+    public void canGiveTheFactorBetweenTwoUnits() {
+        assertThat(Length.DIMENSION.getFactor(Length.YARDS, Length.FOOT)).isWithin(TOLERANCE).of(3);
+        assertThat(Temperature.DIMENSION.getFactor(Temperature.CELSIUS, Temperature.FAHRENHEIT)).isWithin(TOLERANCE).of(1.8);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void aDimensionNeedsACanonicalUnit() {
+        Dimension.of("nothing", Unit.scaled("x", 2));
+    }
+}
@@ -0,0 +1,101 @@
+package ca.nexapp.math.units;
+
+import static com.google.common.truth.Truth.assertWithMessage;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import org.junit.Test;
+
+import ca.nexapp.math.ErrorSummary;
+import ca.nexapp.math.HighPrecision;
+import ca.nexapp.math.kernels.BulkKernels;
+
+public class DistanceAccuracyTest {
+
+    private static final int SAMPLES = 2_000;
+
+    private static final double TOLERANCE_IN_METERS = 1e-6;
+    // Both formulas lose half the digits where the distance is ill-conditioned: sqrt(ε) times the earth radius is about 0.1 m
+    private static final double ILL_CONDITIONED_TOLERANCE_IN_METERS = 0.3;
+    private static final double NEARBY_HAVERSINE_TOLERANCE_IN_METERS = 1e-8;
+
+    private final Random random = new Random(17);
+
+    @Test
+    public void anyTwoPositions_ShouldBeWithinAMicrometer() {
+        Errors errors = new Errors();
+        for (int i = 0; i < SAMPLES; ++i) {
+            errors.accept(randomLatitude(), randomLongitude(), randomLatitude(), randomLongitude());
+        }
+
+        errors.assertAtMost(TOLERANCE_IN_METERS, TOLERANCE_IN_METERS);
+    }
+
+    @Test
+    public void nearbyPositions_ShouldBeWithinTheLawOfCosinesRounding() {
+        Errors errors = new Errors();
+        for (int i = 0; i < SAMPLES; ++i) {
+            double latitude = randomLatitude();
+            double longitude = randomLongitude();
+            errors.accept(latitude, longitude, latitude + random.nextGaussian() * 1e-6, longitude + random.nextGaussian() * 1e-6);
+        }
+
+        errors.assertAtMost(ILL_CONDITIONED_TOLERANCE_IN_METERS, NEARBY_HAVERSINE_TOLERANCE_IN_METERS);
+    }
+
+    @Test
+    public void antipodalPositions_ShouldBeWithinTheRoundingOfBothFormulas() {
+        Errors errors = new Errors();
+        for (int i = 0; i < SAMPLES; ++i) {
+            double latitude = randomLatitude();
+            double longitude = randomLongitude();
+            errors.accept(latitude, longitude, -latitude + random.nextGaussian() * 1e-6,
+                    longitude + 180.0 + random.nextGaussian() * 1e-6);
+        }
+
+        errors.assertAtMost(ILL_CONDITIONED_TOLERANCE_IN_METERS, ILL_CONDITIONED_TOLERANCE_IN_METERS);
+    }
+
+    private double randomLatitude() {
+        return random.nextDouble() * 180.0 - 90.0;
+    }
+
+    private double randomLongitude() {
+        return random.nextDouble() * 360.0 - 180.0;
+    }
+
+    // The law of cosines of Coordinates against the haversine of CoordinatesArray and BulkKernels
+    private static class Errors {
+
+        private final ErrorSummary lawOfCosines = new ErrorSummary();
+        private final ErrorSummary coordinatesArray = new ErrorSummary();
+        private final ErrorSummary bulkKernels = new ErrorSummary();
+        private final double[] distance = new double[1];
+
+        private void accept(double originLatitude, double originLongitude, double latitude, double longitude) {
+            // The array rounds to seven decimals, which every implementation then gets as its exact input
+            CoordinatesArray destinations = CoordinatesArray.fromDegrees(new double[] { latitude }, new double[] { longitude });
+            Coordinates origin = Coordinates.locatedAt(originLatitude, originLongitude);
+            Coordinates destination = destinations.get(0);
+            double exactLatitude = destination.getLatitude().toDegrees();
+            double exactLongitude = destination.getLongitude().toDegrees();
+            BigDecimal expected = HighPrecision.greatCircleDistanceInMeters(originLatitude, originLongitude, exactLatitude,
+                    exactLongitude);
+
+            lawOfCosines.accept(exactLatitude, origin.getDistanceTo(destination).toMeters(), expected);
+            destinations.distancesTo(origin, distance);
+            coordinatesArray.accept(exactLatitude, distance[0], expected);
+            BulkKernels.greatCircleDistances(origin, new double[] { exactLatitude }, new double[] { exactLongitude }, distance);
+            bulkKernels.accept(exactLatitude, distance[0], expected);
+        }
+
+        private void assertAtMost(double lawOfCosinesTolerance, double haversineTolerance) {
+            assertWithMessage("Law of cosines: " + lawOfCosines).that(lawOfCosines.getMaxAbsoluteError())
+                    .isAtMost(lawOfCosinesTolerance);
+            assertWithMessage("CoordinatesArray: " + coordinatesArray).that(coordinatesArray.getMaxAbsoluteError())
+                    .isAtMost(haversineTolerance);
+            assertWithMessage("BulkKernels: " + bulkKernels).that(bulkKernels.getMaxAbsoluteError()).isAtMost(haversineTolerance);
+        }
+    }
+}
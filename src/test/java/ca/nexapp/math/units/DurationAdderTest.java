@@ -0,0 +1,49 @@
+package ca.nexapp.math.units;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+public class DurationAdderTest {
+
+    private final DurationAdder adder = new DurationAdder();
+
+    @Test
+    public void givenNothingAdded_ShouldSumToZero() {
+        assertThat(adder.sum()).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void canAddDurationsAndNanoseconds() {
+        adder.add(Duration.seconds(1));
+        adder.addNanoseconds(5);
+
+        assertThat(adder.sum()).isEqualTo(Duration.nanoseconds(1_000_000_005L));
+    }
+
+    @Test
+    public void shouldSumTheAdditionsOfManyThreads() {
+        IntStream.range(0, 100_000).parallel().forEach(i -> adder.add(Duration.milliseconds(1)));
+
+        assertThat(adder.sum()).isEqualTo(Duration.seconds(100));
+    }
+
+    @Test
+    public void canSumThenReset() {
+        adder.add(Duration.minutes(1));
+
+        assertThat(adder.sumThenReset()).isEqualTo(Duration.minutes(1));
+        assertThat(adder.sum()).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void canBeResetted() {
+        adder.add(Duration.minutes(1));
+
+        adder.reset();
+
+        assertThat(adder.sum()).isEqualTo(Duration.ZERO);
+    }
+}
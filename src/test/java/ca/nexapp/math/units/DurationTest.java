@@ -39,6 +39,20 @@ public class DurationTest {
         assertThat(average).isEqualTo(expected);
     }
 
+    @Test
+    public void theAverageOfDurationsBeyondTheLongNanoseconds_ShouldNotBeTruncated() {
+        Duration average = Duration.centuries(1000).average(Duration.centuries(3000), Duration.nanoseconds(1));
+
+        assertThat(average.to(Duration.CENTURIES)).isWithin(0.000001).of(4000.0 / 3);
+    }
+
+    @Test
+    public void theAverageOfFractionalNanoseconds_ShouldKeepTheFraction() {
+        Duration average = Duration.nanoseconds(1).average(Duration.nanoseconds(2));
+
+        assertThat(average.to(Duration.NANOSECONDS)).isWithin(0.000001).of(1.5);
+    }
+
     @Test
     public void givenSeventyNanoseconds_ShouldReturnSeventyNanoseconds() {
         assertThat(Duration.nanoseconds(70).toNanoseconds()).isEqualTo(70);
@@ -287,4 +301,39 @@ public class DurationTest {
         assertThat(longTime).isGreaterThan(shortTime);
     }
 
+    @Test
+    public void durationsBeyondALong_ShouldBeSupported() {
+        Duration duration = Duration.centuries(3);
+
+        assertThat(duration.toCenturies()).isEqualTo(3);
+        assertThat(Duration.years(1000).toYears()).isEqualTo(1000);
+    }
+
+    @Test
+    public void shouldPrintTheNanoseconds() {
+        assertThat(Duration.microseconds(1).toString()).isEqualTo("1000.0nanos");
+    }
+
+    @Test
+    public void canConvertToAJavaDuration() {
+        assertThat(Duration.milliseconds(1500).toJavaDuration()).isEqualTo(java.time.Duration.ofMillis(1500));
+        assertThat(Duration.centuries(3).toJavaDuration().toDays()).isEqualTo(Duration.centuries(3).toDays());
+    }
+
+    @Test
+    public void canConvertFromAJavaDuration() {
+        assertThat(Duration.from(java.time.Duration.ofSeconds(2, 5))).isEqualTo(Duration.nanoseconds(2_000_000_005L));
+    }
+
+    @Test
+    public void canConvertToAnExactDuration() {
+        assertThat(Duration.seconds(2).toExact()).isEqualTo(ExactDuration.seconds(2));
+    }
+
+    @Test
+    public void shouldKnowWhetherItIsNegativeOrZero() {
+        assertThat(Duration.seconds(-1).isNegative()).isTrue();
+        assertThat(Duration.ZERO.isZero()).isTrue();
+        assertThat(Duration.seconds(1).isNegative()).isFalse();
+    }
 }
@@ -0,0 +1,89 @@
+package ca.nexapp.math.units;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.Test;
+
+public class ExactDurationTest {
+
+    @Test
+    public void shouldKeepEveryNanosecondOfLongDurations() {
+        ExactDuration duration = ExactDuration.centuries(1).add(ExactDuration.nanoseconds(1));
+
+        assertThat(duration.toNanoseconds()).isEqualTo(3_155_691_571_200_000_001L);
+    }
+
+    @Test
+    public void conversions_ShouldTruncateTowardsZero() {
+        ExactDuration duration = ExactDuration.minutes(90).add(ExactDuration.nanoseconds(1));
+
+        assertThat(duration.toHours()).isEqualTo(1);
+        assertThat(duration.toMinutes()).isEqualTo(90);
+        assertThat(duration.toNanoseconds()).isEqualTo(5_400_000_000_001L);
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void addingBeyondTheLongestDuration_ShouldThrowAnException() {
+        ExactDuration.MAX.add(ExactDuration.nanoseconds(1));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void subtractingBeyondTheShortestDuration_ShouldThrowAnException() {
+        ExactDuration.MIN.subtract(ExactDuration.nanoseconds(1));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void creatingADurationBeyondTheLongestDuration_ShouldThrowAnException() {
+        ExactDuration.centuries(3);
+    }
+
+    @Test
+    public void saturatingAddition_ShouldStopAtTheLongestDuration() {
+        assertThat(ExactDuration.MAX.saturatingAdd(ExactDuration.seconds(1))).isEqualTo(ExactDuration.MAX);
+        assertThat(ExactDuration.MIN.saturatingAdd(ExactDuration.seconds(-1))).isEqualTo(ExactDuration.MIN);
+        assertThat(ExactDuration.seconds(1).saturatingAdd(ExactDuration.seconds(2))).isEqualTo(ExactDuration.seconds(3));
+    }
+
+    @Test
+    public void saturatingSubtraction_ShouldStopAtTheShortestDuration() {
+        assertThat(ExactDuration.MIN.saturatingSubtract(ExactDuration.seconds(1))).isEqualTo(ExactDuration.MIN);
+        assertThat(ExactDuration.MAX.saturatingSubtract(ExactDuration.seconds(-1))).isEqualTo(ExactDuration.MAX);
+        assertThat(ExactDuration.seconds(3).saturatingSubtract(ExactDuration.seconds(2))).isEqualTo(ExactDuration.seconds(1));
+    }
+
+    @Test
+    public void averagingLongDurations_ShouldNotOverflow() {
+        ExactDuration average = ExactDuration.MAX.average(ExactDuration.MAX, ExactDuration.MAX);
+
+        assertThat(average).isEqualTo(ExactDuration.MAX);
+    }
+
+    @Test
+    public void averagingDurations_ShouldRoundDown() {
+        ExactDuration average = ExactDuration.nanoseconds(1).average(ExactDuration.nanoseconds(2));
+
+        assertThat(average.toNanoseconds()).isEqualTo(1);
+    }
+
+    @Test
+    public void canConvertToAndFromAJavaDuration() {
+        assertThat(ExactDuration.milliseconds(1500).toJavaDuration()).isEqualTo(java.time.Duration.ofMillis(1500));
+        assertThat(ExactDuration.from(java.time.Duration.ofSeconds(2, 5))).isEqualTo(ExactDuration.nanoseconds(2_000_000_005L));
+    }
+
+    @Test
+    public void canConvertToAndFromADuration() {
+        assertThat(ExactDuration.hours(3).toDuration()).isEqualTo(Duration.hours(3));
+        assertThat(ExactDuration.from(Duration.hours(3))).isEqualTo(ExactDuration.hours(3));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void convertingADurationBeyondTheLongestDuration_ShouldThrowAnException() {
+        ExactDuration.from(Duration.centuries(3));
+    }
+
+    @Test
+    public void shouldPrintTheNanoseconds() {
+        assertThat(ExactDuration.microseconds(1).toString()).isEqualTo("1000nanos");
+    }
+}
@@ -0,0 +1,73 @@
+package ca.nexapp.math.units;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FastTrigonometryBenchmark {
+
+    @Param({ "1024", "65536" })
+    private int size;
+
+    private double[] degrees;
+    private double[] sines;
+    private double[] cosines;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        degrees = new double[size];
+        sines = new double[size];
+        cosines = new double[size];
+        for (int i = 0; i < size; ++i) {
+            degrees[i] = random.nextDouble() * 720.0 - 360.0;
+        }
+    }
+
+    @Benchmark
+    public double[] mathSin() {
+        for (int i = 0; i < size; ++i) {
+            sines[i] = Math.sin(Math.toRadians(degrees[i]));
+        }
+        return sines;
+    }
+
+    @Benchmark
+    public double[] fastSin() {
+        FastTrigonometry.sin(degrees, sines);
+        return sines;
+    }
+
+    @Benchmark
+    public double[] mathSinAndCos() {
+        for (int i = 0; i < size; ++i) {
+            double radians = Math.toRadians(degrees[i]);
+            sines[i] = Math.sin(radians);
+            cosines[i] = Math.cos(radians);
+        }
+        return cosines;
+    }
+
+    @Benchmark
+    public double[] fastSinCos() {
+        FastTrigonometry.sinCos(degrees, sines, cosines);
+        return cosines;
+    }
+}
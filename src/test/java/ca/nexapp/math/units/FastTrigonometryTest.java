@@ -0,0 +1,82 @@
+package ca.nexapp.math.units;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class FastTrigonometryTest {
+
+    private static final int SAMPLES = 100_000;
+
+    @Test
+    public void withinOneTurn_ShouldStayWithinTheMaximumError() {
+        Random random = new Random(7);
+        for (int i = 0; i < SAMPLES; ++i) {
+            double degrees = random.nextDouble() * 720.0 - 360.0;
+            double radians = Math.toRadians(degrees);
+
+            assertThat(FastTrigonometry.sin(degrees)).isWithin(FastTrigonometry.MAX_ERROR).of(Math.sin(radians));
+            assertThat(FastTrigonometry.cos(degrees)).isWithin(FastTrigonometry.MAX_ERROR).of(Math.cos(radians));
+        }
+    }
+
+    @Test
+    public void shouldBeExactOnTheAxes() {
+        assertThat(FastTrigonometry.sin(0.0)).isEqualTo(0.0);
+        assertThat(FastTrigonometry.cos(0.0)).isEqualTo(1.0);
+        assertThat(FastTrigonometry.sin(90.0)).isEqualTo(1.0);
+        assertThat(FastTrigonometry.cos(-180.0)).isEqualTo(-1.0);
+        assertThat(FastTrigonometry.sin(270.0)).isEqualTo(-1.0);
+    }
+
+    @Test
+    public void givenAnAngleBeyondTheTable_ShouldFallBackOnTheExactFunctions() {
+        double degrees = 1e12 + 45.0;
+
+        assertThat(FastTrigonometry.sin(degrees)).isEqualTo(Math.sin(Math.toRadians(degrees)));
+        assertThat(FastTrigonometry.cos(degrees)).isEqualTo(Math.cos(Math.toRadians(degrees)));
+    }
+
+    @Test
+    public void givenANonFiniteAngle_ShouldNotBeANumber() {
+        assertThat(FastTrigonometry.sin(Double.NaN)).isNaN();
+        assertThat(FastTrigonometry.cos(Double.POSITIVE_INFINITY)).isNaN();
+    }
+
+    @Test
+    public void sinCosShouldMatchTheSeparateFunctions() {
+        double[] sineAndCosine = new double[2];
+
+        FastTrigonometry.sinCos(123.456, sineAndCosine);
+
+        assertThat(sineAndCosine[0]).isEqualTo(FastTrigonometry.sin(123.456));
+        assertThat(sineAndCosine[1]).isEqualTo(FastTrigonometry.cos(123.456));
+    }
+
+    @Test
+    public void bulkFunctionsShouldMatchTheScalarOnes() {
+        double[] degrees = { -725.0, -30.0, 0.0, 12.5, 359.99, 1000.0 };
+        double[] sines = new double[degrees.length];
+        double[] cosines = new double[degrees.length];
+        double[] bulkSines = new double[degrees.length];
+        double[] bulkCosines = new double[degrees.length];
+
+        FastTrigonometry.sin(degrees, sines);
+        FastTrigonometry.cos(degrees, cosines);
+        FastTrigonometry.sinCos(degrees, bulkSines, bulkCosines);
+
+        for (int i = 0; i < degrees.length; ++i) {
+            assertThat(sines[i]).isEqualTo(FastTrigonometry.sin(degrees[i]));
+            assertThat(cosines[i]).isEqualTo(FastTrigonometry.cos(degrees[i]));
+            assertThat(bulkSines[i]).isEqualTo(sines[i]);
+            assertThat(bulkCosines[i]).isEqualTo(cosines[i]);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenAnOutputTooShort_ShouldNotCompute() {
+        FastTrigonometry.sin(new double[3], new double[2]);
+    }
+}
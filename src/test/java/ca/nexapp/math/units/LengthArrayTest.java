@@ -0,0 +1,112 @@
+package ca.nexapp.math.units;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.Test;
+
+public class LengthArrayTest {
+
+    private static final double DELTA = 0.0000001;
+
+    @Test
+    public void shouldStoreTheLengthsInMeters() {
+        LengthArray lengths = LengthArray.of(Length.fromKilometers(1.5), Length.fromCentimeters(20));
+
+        assertThat(lengths.size()).isEqualTo(2);
+        assertThat(lengths.get(0)).isEqualTo(Length.fromMeters(1500));
+        assertThat(lengths.get(1).toMeters()).isWithin(DELTA).of(0.2);
+    }
+
+    @Test
+    public void canReplaceALength() {
+        LengthArray lengths = LengthArray.ofSize(1);
+
+        lengths.set(0, Length.fromMiles(1));
+
+        assertThat(lengths.get(0)).isEqualTo(Length.fromMiles(1));
+    }
+
+    @Test
+    public void canAddTwoArrays() {
+        LengthArray lengths = LengthArray.fromMeters(new double[] { 1.0, 2.0 });
+
+        LengthArray sums = lengths.add(LengthArray.fromKilometers(new double[] { 1.0, 2.0 }));
+
+        assertThat(sums.get(0)).isEqualTo(Length.fromMeters(1001));
+        assertThat(sums.get(1)).isEqualTo(Length.fromMeters(2002));
+    }
+
+    @Test
+    public void canAddALengthToEveryElement() {
+        LengthArray lengths = LengthArray.fromMeters(new double[] { 1.0, 2.0 });
+
+        LengthArray sums = lengths.add(Length.fromMeters(10));
+
+        assertThat(sums.get(1)).isEqualTo(Length.fromMeters(12));
+    }
+
+    @Test
+    public void canSubtractTwoArrays() {
+        LengthArray lengths = LengthArray.fromMeters(new double[] { 10.0, 20.0 });
+
+        LengthArray differences = lengths.subtract(LengthArray.fromMeters(new double[] { 1.0, 5.0 }));
+
+        assertThat(differences.get(0)).isEqualTo(Length.fromMeters(9));
+        assertThat(differences.get(1)).isEqualTo(Length.fromMeters(15));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenArraysOfDifferentSizes_ShouldNotAddThem() {
+        LengthArray.ofSize(2).add(LengthArray.ofSize(3));
+    }
+
+    @Test
+    public void conversionsShouldMatchTheConversionsOfEachLength() {
+        LengthArray lengths = LengthArray.fromMeters(new double[] { 0.5, 1234.5 });
+        double[] converted = new double[2];
+
+        lengths.toKilometers(converted);
+        assertThat(converted[1]).isEqualTo(lengths.get(1).toKilometers());
+        lengths.toMiles(converted);
+        assertThat(converted[1]).isEqualTo(lengths.get(1).toMiles());
+        lengths.toFoot(converted);
+        assertThat(converted[0]).isEqualTo(lengths.get(0).toFoot());
+        lengths.toMillimeters(converted);
+        assertThat(converted[0]).isEqualTo(lengths.get(0).toMillimeters());
+    }
+
+    @Test
+    public void canFindTheMinimumMaximumAndSum() {
+        LengthArray lengths = LengthArray.fromMeters(new double[] { 3.0, -1.0, 7.5 });
+
+        assertThat(lengths.min()).isEqualTo(Length.fromMeters(-1.0));
+        assertThat(lengths.max()).isEqualTo(Length.fromMeters(7.5));
+        assertThat(lengths.sum()).isEqualTo(Length.fromMeters(9.5));
+    }
+
+    @Test
+    public void theSumShouldNotLoseSmallLengths() {
+        double[] meters = new double[10_001];
+        meters[0] = 1e16;
+        for (int i = 1; i < meters.length; ++i) {
+            meters[i] = 1.0;
+        }
+
+        assertThat(LengthArray.fromMeters(meters).sum().toMeters()).isEqualTo(1e16 + 10_000);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void anEmptyArray_ShouldNotHaveAMinimum() {
+        LengthArray.ofSize(0).min();
+    }
+
+    @Test
+    public void canSortTheLengths() {
+        LengthArray lengths = LengthArray.fromMeters(new double[] { 3.0, -1.0, 7.5 });
+
+        lengths.sort();
+
+        assertThat(lengths.get(0)).isEqualTo(Length.fromMeters(-1.0));
+        assertThat(lengths.get(2)).isEqualTo(Length.fromMeters(7.5));
+    }
+}
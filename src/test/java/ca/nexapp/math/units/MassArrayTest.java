@@ -0,0 +1,49 @@
+package ca.nexapp.math.units;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.Test;
+
+public class MassArrayTest {
+
+    @Test
+    public void shouldStoreTheMassesInGrams() {
+        MassArray masses = MassArray.of(Mass.kilograms(2), Mass.grams(3));
+
+        assertThat(masses.get(0)).isEqualTo(Mass.grams(2000));
+        assertThat(masses.get(1)).isEqualTo(Mass.grams(3));
+    }
+
+    @Test
+    public void canAddAndSubtractArrays() {
+        MassArray masses = MassArray.grams(new double[] { 10.0, 20.0 });
+
+        MassArray sums = masses.add(MassArray.kilograms(new double[] { 1.0, 1.0 }));
+        MassArray differences = masses.subtract(MassArray.grams(new double[] { 5.0, 5.0 }));
+
+        assertThat(sums.get(1)).isEqualTo(Mass.grams(1020));
+        assertThat(differences.get(0)).isEqualTo(Mass.grams(5));
+    }
+
+    @Test
+    public void conversionsShouldMatchTheConversionsOfEachMass() {
+        MassArray masses = MassArray.pounds(new double[] { 1.0, 150.0 });
+        double[] converted = new double[2];
+
+        masses.toKilograms(converted);
+        assertThat(converted[1]).isEqualTo(masses.get(1).toKilograms());
+        masses.toOunces(converted);
+        assertThat(converted[0]).isEqualTo(masses.get(0).toOunces());
+        masses.toTonnes(converted);
+        assertThat(converted[1]).isEqualTo(masses.get(1).toTonnes());
+    }
+
+    @Test
+    public void canFindTheMinimumMaximumAndSum() {
+        MassArray masses = MassArray.grams(new double[] { 5.0, 1.0, 3.0 });
+
+        assertThat(masses.min()).isEqualTo(Mass.grams(1));
+        assertThat(masses.max()).isEqualTo(Mass.grams(5));
+        assertThat(masses.sum()).isEqualTo(Mass.grams(9));
+    }
+}
@@ -0,0 +1,143 @@
+package ca.nexapp.math.units;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+public class PolylineAccumulatorTest {
+
+    private static final double METERS_IN_A_DEGREE = 111_194.92664455873;
+    private static final double TOLERANCE = 0.000001;
+
+    private static final Coordinates CENTER_BELL = Coordinates.locatedAt(45.4959755, -73.5693904);
+    private static final Coordinates YANKEE_STADIUM = Coordinates.locatedAt(40.8295818, -73.9261455);
+
+    @Test
+    public void givenNoFix_ShouldHaveNoLength() {
+        PolylineAccumulator polyline = new PolylineAccumulator();
+
+        assertThat(polyline.getCount()).isEqualTo(0);
+        assertThat(polyline.getLengthInMeters()).isEqualTo(0.0);
+    }
+
+    @Test
+    public void givenTwoFixes_ShouldHaveTheDistanceBetweenThem() {
+        PolylineAccumulator polyline = new PolylineAccumulator();
+
+        polyline.accept(CENTER_BELL);
+        polyline.accept(YANKEE_STADIUM);
+
+        assertThat(polyline.getLength().toKilometers()).isWithin(0.5).of(519.23);
+    }
+
+    @Test
+    public void givenFixesAFewMetersApart_ShouldKeepTheLengthPrecise() {
+        PolylineAccumulator polyline = new PolylineAccumulator();
+        double tenMetersOfLatitude = 10.0 / METERS_IN_A_DEGREE;
+
+        for (int i = 0; i <= 1000; ++i) {
+            polyline.accept(45.0 + i * tenMetersOfLatitude, -73.0);
+        }
+
+        assertThat(polyline.getLengthInMeters()).isWithin(0.0001).of(10_000.0);
+    }
+
+    @Test
+    public void shouldTrackTheInitialAndFinalBearings() {
+        PolylineAccumulator polyline = new PolylineAccumulator();
+
+        polyline.accept(0.0, 0.0);
+        polyline.accept(1.0, 0.0);
+        polyline.accept(1.0, 1.0);
+
+        assertThat(polyline.getInitialBearing().toDegrees()).isWithin(TOLERANCE).of(0.0);
+        assertThat(polyline.getFinalBearing().toDegrees()).isWithin(0.01).of(90.0);
+        assertThat(polyline.getTotalTurning().toDegrees()).isWithin(0.01).of(90.0);
+    }
+
+    @Test
+    public void whenTurningAcrossNorth_ShouldTakeTheShortestTurn() {
+        PolylineAccumulator polyline = new PolylineAccumulator();
+
+        polyline.accept(0.0, 0.0);
+        polyline.accept(1.0, -0.1);
+        polyline.accept(2.0, -0.1);
+        polyline.accept(3.0, 0.0);
+
+        assertThat(polyline.getTotalTurning().toDegrees()).isLessThan(12.0);
+    }
+
+    @Test
+    public void givenRepeatedFixes_ShouldIgnoreTheEmptySegments() {
+        PolylineAccumulator polyline = new PolylineAccumulator();
+
+        polyline.accept(0.0, 0.0);
+        polyline.accept(1.0, 0.0);
+        polyline.accept(1.0, 0.0);
+        polyline.accept(2.0, 0.0);
+
+        assertThat(polyline.getCount()).isEqualTo(4);
+        assertThat(polyline.getLengthInMeters()).isWithin(0.001).of(2 * METERS_IN_A_DEGREE);
+        assertThat(polyline.getTotalTurning().toDegrees()).isWithin(TOLERANCE).of(0.0);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void givenASingleFix_ShouldNotHaveABearing() {
+        PolylineAccumulator polyline = new PolylineAccumulator();
+        polyline.accept(CENTER_BELL);
+
+        polyline.getInitialBearing();
+    }
+
+    @Test
+    public void combiningConsecutiveParts_ShouldBeTheSameAsAccumulatingTheWholeTrack() {
+        List<Coordinates> track = Arrays.asList(Coordinates.locatedAt(0.0, 0.0), Coordinates.locatedAt(1.0, 0.0),
+                Coordinates.locatedAt(1.0, 1.0), Coordinates.locatedAt(0.0, 1.0), Coordinates.locatedAt(0.0, 2.0));
+        PolylineAccumulator whole = new PolylineAccumulator();
+        track.forEach(whole);
+        PolylineAccumulator firstPart = new PolylineAccumulator();
+        track.subList(0, 2).forEach(firstPart);
+        PolylineAccumulator secondPart = new PolylineAccumulator();
+        track.subList(2, 5).forEach(secondPart);
+
+        PolylineAccumulator combined = firstPart.combine(secondPart);
+
+        assertThat(combined.getCount()).isEqualTo(whole.getCount());
+        assertThat(combined.getLengthInMeters()).isWithin(TOLERANCE).of(whole.getLengthInMeters());
+        assertThat(combined.getInitialBearing().toDegrees()).isWithin(TOLERANCE).of(whole.getInitialBearing().toDegrees());
+        assertThat(combined.getFinalBearing().toDegrees()).isWithin(TOLERANCE).of(whole.getFinalBearing().toDegrees());
+        assertThat(combined.getTotalTurning().toDegrees()).isWithin(TOLERANCE).of(whole.getTotalTurning().toDegrees());
+    }
+
+    @Test
+    public void canAccumulateAStreamOfCoordinatesInParallel() {
+        List<Coordinates> track = Arrays.asList(CENTER_BELL, YANKEE_STADIUM, CENTER_BELL);
+
+        PolylineAccumulator polyline = track.parallelStream().collect(PolylineAccumulator::new, PolylineAccumulator::accept,
+                PolylineAccumulator::combine);
+
+        assertThat(polyline.getLength().toKilometers()).isWithin(1.0).of(2 * 519.23);
+    }
+
+    @Test
+    public void aLongTrackShouldBeAccumulatedLikeASequentialOne() {
+        int size = 100_000;
+        double[] latitudes = new double[size];
+        double[] longitudes = new double[size];
+        PolylineAccumulator sequential = new PolylineAccumulator();
+        for (int i = 0; i < size; ++i) {
+            latitudes[i] = 45.0 + 0.0001 * Math.sin(i / 100.0) + i * 0.00001;
+            longitudes[i] = -73.0 + 0.0001 * Math.cos(i / 70.0);
+            sequential.accept(latitudes[i], longitudes[i]);
+        }
+
+        PolylineAccumulator track = PolylineAccumulator.ofTrack(latitudes, longitudes);
+
+        assertThat(track.getCount()).isEqualTo(size);
+        assertThat(track.getLengthInMeters()).isWithin(0.0001).of(sequential.getLengthInMeters());
+        assertThat(track.getTotalTurning().toDegrees()).isWithin(0.0001).of(sequential.getTotalTurning().toDegrees());
+    }
+}
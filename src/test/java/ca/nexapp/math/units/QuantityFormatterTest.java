@@ -0,0 +1,110 @@
+package ca.nexapp.math.units;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+public class QuantityFormatterTest {
+
+    @Test
+    public void shouldScaleToTheLargestUnitAboveOne() {
+        assertThat(QuantityFormatter.DIGITAL_STORAGES.format(DigitalStorage.megabytes(1536).toBits())).isEqualTo("1.5 GiB");
+        assertThat(QuantityFormatter.DURATIONS.format(Duration.microseconds(230).toNanoseconds())).isEqualTo("230 µs");
+        assertThat(QuantityFormatter.LENGTHS.format(12_345)).isEqualTo("12.35 km");
+        assertThat(QuantityFormatter.MASSES.format(250)).isEqualTo("250 g");
+    }
+
+    @Test
+    public void valuesBelowTheSmallestUnit_ShouldUseTheSmallestUnit() {
+        assertThat(QuantityFormatter.LENGTHS.format(0.0001)).isEqualTo("0.1 mm");
+        assertThat(QuantityFormatter.DIGITAL_STORAGES.format(0)).isEqualTo("0 B");
+    }
+
+    @Test
+    public void canFormatNegativeValues() {
+        assertThat(QuantityFormatter.DURATIONS.format(-90_000_000_000.0)).isEqualTo("-1.5 min");
+        assertThat(QuantityFormatter.TEMPERATURES.format(-0.001)).isEqualTo("0 °C");
+    }
+
+    @Test
+    public void canChangeThePrecision() {
+        QuantityFormatter formatter = QuantityFormatter.LENGTHS.withPrecision(4);
+
+        assertThat(formatter.format(1_234.56789)).isEqualTo("1.2346 km");
+        assertThat(QuantityFormatter.LENGTHS.withPrecision(0).format(1_500)).isEqualTo("2 km");
+    }
+
+    @Test
+    public void canFormatPercentagesAndAngles() {
+        assertThat(QuantityFormatter.PERCENTAGES.format(0.4567)).isEqualTo("45.67 %");
+        assertThat(QuantityFormatter.ANGLES.format(90)).isEqualTo("90 °");
+    }
+
+    @Test
+    public void canFormatWithCustomUnits() {
+        QuantityFormatter imperial = QuantityFormatter.of(Length.MILES, Length.INCHES, Length.FOOT);
+
+        assertThat(imperial.format(Length.fromFoot(6).toMeters())).isEqualTo("6 ft");
+        assertThat(QuantityFormatter.of(Temperature.FAHRENHEIT).format(100)).isEqualTo("212 °F");
+    }
+
+    @Test
+    public void shouldAppendToAStringBuilder() {
+        StringBuilder builder = new StringBuilder("latency=");
+
+        QuantityFormatter.DURATIONS.format(1_500_000, builder).append(';');
+
+        assertThat(builder.toString()).isEqualTo("latency=1.5 ms;");
+    }
+
+    @Test
+    public void shouldAppendToAnAppendable() throws IOException {
+        StringWriter writer = new StringWriter();
+
+        QuantityFormatter.DATA_RATES.format(DataRate.megabytesPerSecond(25).toBitsPerSecond(), writer);
+
+        assertThat(writer.toString()).isEqualTo("25 MiB/s");
+    }
+
+    @Test
+    public void shouldWriteUtf8ToAByteBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocate(32);
+
+        QuantityFormatter.DURATIONS.format(2_500, buffer).flip();
+
+        assertThat(StandardCharsets.UTF_8.decode(buffer).toString()).isEqualTo("2.5 µs");
+    }
+
+    @Test
+    public void aValueRoundedUpToTheNextUnit_ShouldBeWrittenInThatUnit() {
+        assertThat(QuantityFormatter.DURATIONS.format(999_999)).isEqualTo("1 ms");
+        assertThat(QuantityFormatter.DURATIONS.format(59_999_000_000.0)).isEqualTo("1 min");
+        assertThat(QuantityFormatter.DURATIONS.format(-999_999)).isEqualTo("-1 ms");
+    }
+
+    @Test
+    public void largeValues_ShouldBeWrittenWithFewerFractionDigits() {
+        assertThat(QuantityFormatter.LENGTHS.withPrecision(9).format(2e12)).isEqualTo("2000000000 km");
+    }
+
+    @Test
+    public void hugeAndNonFiniteValues_ShouldStillBeWritten() {
+        assertThat(QuantityFormatter.LENGTHS.format(1e30)).isEqualTo("1.0E27 km");
+        assertThat(QuantityFormatter.LENGTHS.format(Double.NaN)).isEqualTo("NaN mm");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void aPrecisionAboveTheMaximum_ShouldThrowAnException() {
+        QuantityFormatter.LENGTHS.withPrecision(10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unitsOfDifferentDimensions_ShouldThrowAnException() {
+        QuantityFormatter.of(Length.METERS, Mass.GRAMS);
+    }
+}
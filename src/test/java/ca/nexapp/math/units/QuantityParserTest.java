@@ -0,0 +1,132 @@
+package ca.nexapp.math.units;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+public class QuantityParserTest {
+
+    private static final double TOLERANCE = 0.000001;
+
+    @Test
+    public void canParseLengths() {
+        assertThat(QuantityParser.LENGTHS.parse("12.5km")).isWithin(TOLERANCE).of(12_500);
+        assertThat(QuantityParser.LENGTHS.parse("3 ft")).isWithin(TOLERANCE).of(0.9144);
+    }
+
+    @Test
+    public void canParseDigitalStorages() {
+        assertThat(QuantityParser.DIGITAL_STORAGES.parse("3.2 GB")).isWithin(TOLERANCE).of(3.2 * 1024 * 1024 * 1024 * 8);
+        assertThat(QuantityParser.DIGITAL_STORAGES.parse("2KiB")).isWithin(TOLERANCE).of(16_384);
+    }
+
+    @Test
+    public void canParseDurations() {
+        assertThat(QuantityParser.DURATIONS.parse("250ms")).isWithin(TOLERANCE).of(250_000_000);
+        assertThat(QuantityParser.DURATIONS.parse("1.5µs")).isWithin(TOLERANCE).of(1_500);
+    }
+
+    @Test
+    public void canParseTemperatures() {
+        assertThat(QuantityParser.TEMPERATURES.parse("72°F")).isWithin(TOLERANCE).of(22.222222);
+        assertThat(QuantityParser.TEMPERATURES.parse("0K")).isWithin(TOLERANCE).of(-273.15);
+    }
+
+    @Test
+    public void parsedTemperatures_ShouldMatchTheTemperatureConversions() {
+        assertThat(QuantityParser.TEMPERATURES.parse("212°F")).isEqualTo(Temperature.fromFahrenheit(212).toCelsius());
+        assertThat(QuantityParser.TEMPERATURES.parse("98.6°F")).isEqualTo(Temperature.fromFahrenheit(98.6).toCelsius());
+        assertThat(QuantityParser.TEMPERATURES.parse("310.15K")).isEqualTo(Temperature.fromKelvin(310.15).toCelsius());
+    }
+
+    @Test
+    public void canParsePercentagesAnglesMassesAndRates() {
+        assertThat(QuantityParser.PERCENTAGES.parse("45%")).isWithin(TOLERANCE).of(0.45);
+        assertThat(QuantityParser.ANGLES.parse("3.14159265358979rad")).isWithin(TOLERANCE).of(180);
+        assertThat(QuantityParser.MASSES.parse("2 lbs")).isWithin(TOLERANCE).of(907.184);
+        assertThat(QuantityParser.DATA_RATES.parse("1Gbit/s")).isWithin(TOLERANCE).of(1e9);
+    }
+
+    @Test
+    public void canParseSignsExponentsAndSurroundingWhitespace() {
+        assertThat(QuantityParser.LENGTHS.parse("  -1.5e3 m\t")).isWithin(TOLERANCE).of(-1_500);
+        assertThat(QuantityParser.LENGTHS.parse("+.25E-2km")).isWithin(TOLERANCE).of(2.5);
+    }
+
+    @Test
+    public void shouldRoundLikeTheJdk() {
+        for (String number : new String[] { "0.1", "123.456", "9007199254740993", "1.7976931348623157e308", "4.9e-324",
+                "0.30000000000000004", "123456789012345678901234567890" }) {
+            assertThat(QuantityParser.LENGTHS.parse(number + "m")).isEqualTo(Double.parseDouble(number));
+        }
+    }
+
+    @Test
+    public void canParseAPartOfACharSequence() {
+        String line = "id=7;distance=42.5mi;";
+
+        assertThat(QuantityParser.LENGTHS.parse(line, 14, 20)).isWithin(TOLERANCE).of(42.5 * 1609.34);
+    }
+
+    @Test
+    public void canParseUtf8Bytes() {
+        byte[] bytes = "x,-40°C,y".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(QuantityParser.TEMPERATURES.parse(bytes, 2, bytes.length - 4)).isWithin(TOLERANCE).of(-40);
+    }
+
+    @Test
+    public void canParseTheGreekMicroSignInUtf8Bytes() {
+        byte[] bytes = "250\u03BCs".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+
+        assertThat(QuantityParser.DURATIONS.parse(bytes, 0, bytes.length)).isWithin(TOLERANCE).of(250_000);
+        assertThat(QuantityParser.DURATIONS.parse(buffer)).isWithin(TOLERANCE).of(250_000);
+    }
+
+    @Test
+    public void canParseIso88591Bytes() {
+        byte[] bytes = "250µs".getBytes(StandardCharsets.ISO_8859_1);
+
+        assertThat(QuantityParser.DURATIONS.parse(bytes, 0, bytes.length)).isWithin(TOLERANCE).of(250_000);
+    }
+
+    @Test
+    public void canParseADirectByteBufferWithoutMovingIt() {
+        byte[] bytes = "250µs".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+
+        assertThat(QuantityParser.DURATIONS.parse(buffer)).isWithin(TOLERANCE).of(250_000);
+        assertThat(buffer.position()).isEqualTo(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void anUnknownUnit_ShouldThrowAnException() {
+        QuantityParser.LENGTHS.parse("12 parsecs");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void aMissingUnit_ShouldThrowAnException() {
+        QuantityParser.LENGTHS.parse("12");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void aMissingNumber_ShouldThrowAnException() {
+        QuantityParser.LENGTHS.parse("km");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void aUnitOfAnotherQuantity_ShouldThrowAnException() {
+        QuantityParser.MASSES.parse("12km");
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void aRangeOutsideTheText_ShouldThrowAnException() {
+        QuantityParser.LENGTHS.parse("12km", 2, 10);
+    }
+}
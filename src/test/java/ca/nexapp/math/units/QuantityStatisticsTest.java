@@ -0,0 +1,120 @@
+package ca.nexapp.math.units;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+import org.junit.Test;
+
+public class QuantityStatisticsTest {
+
+    private static final double TOLERANCE = 0.000001;
+
+    @Test
+    public void givenNoValue_ShouldHaveAZeroCountAndSum() {
+        QuantityStatistics<Length> statistics = QuantityStatistics.ofLengths();
+
+        assertThat(statistics.getCount()).isEqualTo(0);
+        assertThat(statistics.getSum()).isEqualTo(Length.fromMeters(0));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void givenNoValue_ShouldHaveNoMean() {
+        QuantityStatistics.ofMasses().getMean();
+    }
+
+    @Test
+    public void shouldSummarizeLengths() {
+        QuantityStatistics<Length> statistics = QuantityStatistics.ofLengths();
+
+        Arrays.asList(Length.fromMeters(2), Length.fromMeters(4), Length.fromMeters(4), Length.fromMeters(4), Length.fromMeters(5),
+                Length.fromMeters(5), Length.fromMeters(7), Length.fromMeters(9)).forEach(statistics);
+
+        assertThat(statistics.getCount()).isEqualTo(8);
+        assertThat(statistics.getSum().toMeters()).isWithin(TOLERANCE).of(40);
+        assertThat(statistics.getMean().toMeters()).isWithin(TOLERANCE).of(5);
+        assertThat(statistics.getMin()).isEqualTo(Length.fromMeters(2));
+        assertThat(statistics.getMax()).isEqualTo(Length.fromMeters(9));
+        assertThat(statistics.getVariance()).isWithin(TOLERANCE).of(4);
+        assertThat(statistics.getSampleVariance()).isWithin(TOLERANCE).of(32.0 / 7.0);
+        assertThat(statistics.getStandardDeviation().toMeters()).isWithin(TOLERANCE).of(2);
+    }
+
+    @Test
+    public void canCollectDurations() {
+        QuantityStatistics<Duration> statistics = IntStream.rangeClosed(1, 4).mapToObj(Duration::seconds)
+                .collect(QuantityStatistics.summarizingDurations());
+
+        assertThat(statistics.getSum()).isEqualTo(Duration.seconds(10));
+        assertThat(statistics.getMean()).isEqualTo(Duration.milliseconds(2500));
+    }
+
+    @Test
+    public void canCollectDigitalStoragesMassesAndPercentages() {
+        assertThat(IntStream.of(1, 2, 3).mapToObj(DigitalStorage::kilobytes).collect(QuantityStatistics.summarizingDigitalStorages())
+                .getMax()).isEqualTo(DigitalStorage.kilobytes(3));
+        assertThat(IntStream.of(1, 2, 3).mapToObj(Mass::kilograms).collect(QuantityStatistics.summarizingMasses()).getMean().toKilograms())
+                .isWithin(TOLERANCE).of(2);
+        assertThat(IntStream.of(10, 20).mapToObj(Percentage::fromRatio).collect(QuantityStatistics.summarizingPercentages()).getMean()
+                .toRatio()).isWithin(TOLERANCE).of(15);
+    }
+
+    @Test
+    public void aParallelCollection_ShouldMatchTheSequentialOne() {
+        double[] meters = new Random(3).doubles(200_000, 0, 1_000).toArray();
+
+        QuantityStatistics<Length> sequential = DoubleStream.of(meters).mapToObj(Length::fromMeters)
+                .collect(QuantityStatistics.summarizingLengths());
+        QuantityStatistics<Length> parallel = DoubleStream.of(meters).parallel().mapToObj(Length::fromMeters)
+                .collect(QuantityStatistics.summarizingLengths());
+
+        assertThat(parallel.getCount()).isEqualTo(sequential.getCount());
+        assertThat(parallel.getCanonicalSum()).isWithin(1e-6).of(sequential.getCanonicalSum());
+        assertThat(parallel.getVariance()).isWithin(1e-6).of(sequential.getVariance());
+        assertThat(parallel.getMin()).isEqualTo(sequential.getMin());
+        assertThat(parallel.getMax()).isEqualTo(sequential.getMax());
+    }
+
+    @Test
+    public void theSum_ShouldBeCompensated() {
+        QuantityStatistics<Mass> statistics = QuantityStatistics.ofMasses();
+        statistics.accept(1e16);
+        for (int i = 0; i < 10_000; ++i) {
+            statistics.accept(1.0);
+        }
+        statistics.accept(-1e16);
+
+        assertThat(statistics.getCanonicalSum()).isEqualTo(10_000.0);
+    }
+
+    @Test
+    public void theVariance_ShouldStayAccurateFarFromZero() {
+        QuantityStatistics<Length> statistics = QuantityStatistics.ofLengths();
+
+        statistics.acceptAll(new double[] { 1e9 + 4, 1e9 + 7, 1e9 + 13, 1e9 + 16 });
+
+        assertThat(statistics.getVariance()).isWithin(TOLERANCE).of(22.5);
+    }
+
+    @Test
+    public void combiningWithAnEmptyAccumulator_ShouldChangeNothing() {
+        QuantityStatistics<Length> statistics = QuantityStatistics.ofLengths();
+        statistics.accept(3);
+
+        statistics.combine(QuantityStatistics.ofLengths());
+
+        assertThat(statistics.getCount()).isEqualTo(1);
+        assertThat(statistics.getVariance()).isWithin(TOLERANCE).of(0);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void givenASingleValue_ShouldHaveNoSampleVariance() {
+        QuantityStatistics<Length> statistics = QuantityStatistics.ofLengths();
+        statistics.accept(3);
+
+        statistics.getSampleVariance();
+    }
+}
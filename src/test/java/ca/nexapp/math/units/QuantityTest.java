@@ -0,0 +1,72 @@
+package ca.nexapp.math.units;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import org.junit.Test;
+
+public class QuantityTest {
+
+    private static final double TOLERANCE = 0.000001;
+
+    @Test
+    public void canConvertToAnotherUnit() {
+        Quantity<Length> quantity = Quantity.of(3, Length.FOOT);
+
+        assertThat(quantity.to(Length.INCHES)).isWithin(TOLERANCE).of(36);
+    }
+
+    @Test
+    public void convertingToAnotherUnit_ShouldKeepTheTargetUnit() {
+        Quantity<Mass> quantity = Quantity.of(1, Mass.TONNES).convertTo(Mass.KILOGRAMS);
+
+        assertThat(quantity.getUnit()).isSameAs(Mass.KILOGRAMS);
+        assertThat(quantity.getValue()).isWithin(TOLERANCE).of(1000);
+    }
+
+    @Test
+    public void addingAQuantity_ShouldKeepTheUnitOfTheAugend() {
+        Quantity<Length> sum = Quantity.of(1, Length.KILOMETERS).add(Quantity.of(500, Length.METERS));
+
+        assertThat(sum.getUnit()).isSameAs(Length.KILOMETERS);
+        assertThat(sum.getValue()).isWithin(TOLERANCE).of(1.5);
+    }
+
+    @Test
+    public void canSubtractAQuantity() {
+        Quantity<Duration> difference = Quantity.of(1, Duration.MINUTES).subtract(Quantity.of(30, Duration.SECONDS));
+
+        assertThat(difference.getValue()).isWithin(TOLERANCE).of(0.5);
+    }
+
+    @Test
+    public void canMultiplyAQuantity() {
+        assertThat(Quantity.of(2, Length.MILES).multiply(3).getValue()).isWithin(TOLERANCE).of(6);
+    }
+
+    @Test
+    public void quantitiesOfTheSameMagnitude_ShouldBeEqual() {
+        assertThat(Quantity.of(1, DigitalStorage.KILOBYTES)).isEqualTo(Quantity.of(1024, DigitalStorage.BYTES));
+    }
+
+    @Test
+    public void canCompareQuantitiesOfDifferentUnits() {
+        assertThat(Quantity.of(1, Length.MILES)).isGreaterThan(Quantity.of(1, Length.KILOMETERS));
+        assertThat(Quantity.of(0, Temperature.CELSIUS)).isLessThan(Quantity.of(33, Temperature.FAHRENHEIT));
+    }
+
+    @Test
+    public void theQuantitiesOfTheLibrary_ShouldConvertThroughTheirUnits() {
+        assertThat(Length.fromKilometers(2).to(Length.MILES)).isWithin(TOLERANCE).of(2000 / 1609.34);
+        assertThat(Length.of(Quantity.of(3, Length.FOOT)).toMeters()).isWithin(TOLERANCE).of(0.9144);
+        assertThat(Temperature.of(451, Temperature.FAHRENHEIT).toQuantity().to(Temperature.CELSIUS)).isWithin(TOLERANCE)
+                .of(232.777778);
+        assertThat(DigitalStorage.of(1.5, DigitalStorage.KILOBYTES).toBytes()).isEqualTo(1536);
+        assertThat(Duration.of(Quantity.of(2.5, Duration.HOURS)).toMinutes()).isEqualTo(150);
+        assertThat(Mass.of(1, Mass.POUNDS).to(Mass.OUNCES)).isWithin(0.001).of(16);
+    }
+
+    @Test
+    public void shouldDisplayItsValueAndSymbol() {
+        assertThat(Quantity.of(4.5, Length.KILOMETERS).toString()).isEqualTo("4.5 km");
+    }
+}
@@ -0,0 +1,70 @@
+package ca.nexapp.math.units;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+
+import org.junit.Test;
+
+public class TemperatureArrayTest {
+
+    private static final double DELTA = 0.0000001;
+
+    @Test
+    public void shouldStoreTheTemperaturesInCelsius() {
+        TemperatureArray temperatures = TemperatureArray.fromFahrenheit(new double[] { 32.0, 212.0 });
+
+        assertThat(temperatures.get(0).toCelsius()).isWithin(DELTA).of(0.0);
+        assertThat(temperatures.get(1).toCelsius()).isWithin(DELTA).of(100.0);
+    }
+
+    @Test
+    public void conversionsShouldMatchTheConversionsOfEachTemperature() {
+        TemperatureArray temperatures = TemperatureArray.fromKelvin(new double[] { 0.0, 300.0 });
+        double[] converted = new double[2];
+
+        temperatures.toFahrenheit(converted);
+        assertThat(converted[1]).isEqualTo(temperatures.get(1).toFahrenheit());
+        temperatures.toKelvin(converted);
+        assertThat(converted[0]).isEqualTo(temperatures.get(0).toKelvin());
+    }
+
+    @Test
+    public void bulkConversions_ShouldRoundLikeTheConversionFormulas() {
+        double[] celsius = { -273.15, -40.0, 0.0, 36.6, 100.0, 451.0 };
+        double[] fahrenheit = new double[celsius.length];
+        DoubleBuffer kelvin = ByteBuffer.allocateDirect(celsius.length * Double.BYTES).asDoubleBuffer();
+
+        Temperature.CELSIUS.convert(celsius, Temperature.FAHRENHEIT, fahrenheit);
+        Temperature.CELSIUS.convert(DoubleBuffer.wrap(celsius), Temperature.KELVIN, kelvin);
+
+        for (int i = 0; i < celsius.length; ++i) {
+            assertThat(fahrenheit[i]).isEqualTo(celsius[i] * 9.0 / 5.0 + 32.0);
+            assertThat(kelvin.get(i)).isEqualTo(celsius[i] + 273.15);
+        }
+        assertThat(TemperatureArray.fromFahrenheit(fahrenheit).get(4).toCelsius()).isEqualTo((212.0 - 32.0) * (5.0 / 9.0));
+    }
+
+    @Test
+    public void canFindTheColdestAndHottestTemperatures() {
+        TemperatureArray temperatures = TemperatureArray.of(Temperature.fromCelsius(20), Temperature.fromCelsius(-5));
+
+        assertThat(temperatures.min()).isEqualTo(Temperature.fromCelsius(-5));
+        assertThat(temperatures.max()).isEqualTo(Temperature.fromCelsius(20));
+    }
+
+    @Test
+    public void canSortTheTemperatures() {
+        TemperatureArray temperatures = TemperatureArray.fromCelsius(new double[] { 20.0, -5.0, 3.0 });
+
+        temperatures.sort();
+
+        assertThat(temperatures.get(0)).isEqualTo(Temperature.fromCelsius(-5));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void givenAnOutputTooShort_ShouldNotConvert() {
+        TemperatureArray.ofSize(2).toKelvin(new double[1]);
+    }
+}
@@ -2,11 +2,15 @@ package ca.nexapp.math.units;
 
 import static com.google.common.truth.Truth.assertThat;
 
+import java.util.Random;
+
 import org.junit.Test;
 
 public class TemperatureTest {
 
     private static final double TOLERANCE = 0.001;
+    private static final double[] TEMPERATURES = { -459.67, -273.15, -40.0, -0.1, 0.0, 0.1, 36.6, 37.0, 100.0, 212.0, 451.0,
+            5778.0 };
 
     @Test
     public void convertingCelsiusToCelsius_ShouldReturnTheSameTemperature() {
@@ -93,4 +97,25 @@ public class TemperatureTest {
 
         assertThat(highTemperature).isGreaterThan(lowTemperature);
     }
+
+    @Test
+    public void boilingWater_ShouldBeExactly212Fahrenheit() {
+        assertThat(Temperature.fromCelsius(100).toFahrenheit()).isEqualTo(212.0);
+        assertThat(Temperature.fromFahrenheit(212).toCelsius()).isEqualTo(100.0);
+    }
+
+    @Test
+    public void conversions_ShouldRoundLikeTheConversionFormulas() {
+        Random random = new Random(35);
+        for (int i = 0; i < 10_000; ++i) {
+            double value = i < TEMPERATURES.length ? TEMPERATURES[i] : (random.nextDouble() - 0.5) * 2000.0;
+
+            assertThat(Temperature.fromCelsius(value).toFahrenheit()).isEqualTo(value * 9.0 / 5.0 + 32.0);
+            assertThat(Temperature.fromCelsius(value).toKelvin()).isEqualTo(value + 273.15);
+            assertThat(Temperature.fromFahrenheit(value).toCelsius()).isEqualTo((value - 32.0) * (5.0 / 9.0));
+            assertThat(Temperature.fromKelvin(value).toCelsius()).isEqualTo(value - 273.15);
+            assertThat(Temperature.fromFahrenheit(value).toKelvin()).isEqualTo((value - 32.0) * (5.0 / 9.0) + 273.15);
+            assertThat(Temperature.fromKelvin(value).toFahrenheit()).isEqualTo((value - 273.15) * 9.0 / 5.0 + 32.0);
+        }
+    }
 }
@@ -0,0 +1,84 @@
+package ca.nexapp.math.units;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth.assertWithMessage;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import ca.nexapp.math.ErrorSummary;
+import ca.nexapp.math.HighPrecision;
+
+public class TrigonometryAccuracyTest {
+
+    private static final int SAMPLES = 5_000;
+    private static final double DEGREES_PER_STEP = 360.0 / 4096;
+
+    @Test
+    public void withinOneTurn_ShouldStayWithinTheMaximumErrorOfTheExactValue() {
+        Random random = new Random(11);
+        ErrorSummary sines = new ErrorSummary();
+        ErrorSummary cosines = new ErrorSummary();
+        for (int i = 0; i < SAMPLES; ++i) {
+            Angle angle = Angle.fromDegrees(random.nextDouble() * 720.0 - 360.0);
+            accept(angle, sines, cosines);
+        }
+
+        assertWithinMaximumError(sines);
+        assertWithinMaximumError(cosines);
+    }
+
+    @Test
+    public void halfwayBetweenTwoTableEntries_ShouldStayWithinTheMaximumError() {
+        ErrorSummary sines = new ErrorSummary();
+        ErrorSummary cosines = new ErrorSummary();
+        for (int step = -4096; step < 4096; step += 3) {
+            double halfway = (step + 0.5) * DEGREES_PER_STEP;
+            accept(Angle.fromDegrees(Math.nextDown(halfway)), sines, cosines);
+            accept(Angle.fromDegrees(Math.nextUp(halfway)), sines, cosines);
+        }
+
+        assertWithinMaximumError(sines);
+        assertWithinMaximumError(cosines);
+    }
+
+    @Test
+    public void nearTheAxesAndZero_ShouldStayWithinTheMaximumError() {
+        ErrorSummary sines = new ErrorSummary();
+        ErrorSummary cosines = new ErrorSummary();
+        for (int quarter = -4; quarter <= 4; ++quarter) {
+            for (double offset = 1e-12; offset < 1.0; offset *= 10.0) {
+                accept(Angle.fromDegrees(quarter * 90.0 + offset), sines, cosines);
+                accept(Angle.fromDegrees(quarter * 90.0 - offset), sines, cosines);
+            }
+        }
+        accept(Angle.fromDegrees(Double.MIN_VALUE), sines, cosines);
+
+        assertWithinMaximumError(sines);
+        assertWithinMaximumError(cosines);
+    }
+
+    @Test
+    public void beyondOneTurn_ShouldOnlyAddTheRoundingOfTheAngle() {
+        Random random = new Random(13);
+        for (int i = 0; i < SAMPLES / 10; ++i) {
+            double degrees = (random.nextDouble() * 2.0 - 1.0) * Math.pow(10.0, 3.0 + random.nextInt(6));
+            double angleRounding = Math.toRadians(Math.ulp(degrees));
+            ErrorSummary sine = new ErrorSummary();
+            sine.accept(degrees, FastTrigonometry.sin(degrees), HighPrecision.sinOfDegrees(degrees));
+
+            assertThat(sine.getMaxAbsoluteError()).isAtMost(FastTrigonometry.MAX_ERROR + 4.0 * angleRounding);
+        }
+    }
+
+    private static void accept(Angle angle, ErrorSummary sines, ErrorSummary cosines) {
+        double degrees = angle.toDegrees();
+        sines.accept(degrees, angle.fastSin(), HighPrecision.sinOfDegrees(degrees));
+        cosines.accept(degrees, angle.fastCos(), HighPrecision.cosOfDegrees(degrees));
+    }
+
+    private static void assertWithinMaximumError(ErrorSummary summary) {
+        assertWithMessage(summary.toString()).that(summary.getMaxAbsoluteError()).isAtMost(FastTrigonometry.MAX_ERROR);
+    }
+}
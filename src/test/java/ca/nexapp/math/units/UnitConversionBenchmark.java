@@ -0,0 +1,70 @@
+package ca.nexapp.math.units;
+
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UnitConversionBenchmark {
+
+    @Param({ "1024", "65536" })
+    private int size;
+
+    private double[] celsius;
+    private double[] fahrenheit;
+    private DoubleBuffer directCelsius;
+    private DoubleBuffer directFahrenheit;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        celsius = new double[size];
+        fahrenheit = new double[size];
+        directCelsius = ByteBuffer.allocateDirect(size * Double.BYTES).asDoubleBuffer();
+        directFahrenheit = ByteBuffer.allocateDirect(size * Double.BYTES).asDoubleBuffer();
+        for (int i = 0; i < size; ++i) {
+            celsius[i] = random.nextDouble() * 80.0 - 40.0;
+            directCelsius.put(i, celsius[i]);
+        }
+    }
+
+    @Benchmark
+    public double[] oneTemperatureAtATime() {
+        for (int i = 0; i < size; ++i) {
+            fahrenheit[i] = Temperature.fromCelsius(celsius[i]).toFahrenheit();
+        }
+        return fahrenheit;
+    }
+
+    @Benchmark
+    public double[] bulkArrays() {
+        Temperature.CELSIUS.convert(celsius, Temperature.FAHRENHEIT, fahrenheit);
+        return fahrenheit;
+    }
+
+    @Benchmark
+    public DoubleBuffer bulkDirectBuffers() {
+        directCelsius.clear();
+        directFahrenheit.clear();
+        Temperature.CELSIUS.convert(directCelsius, Temperature.FAHRENHEIT, directFahrenheit);
+        return directFahrenheit;
+    }
+}
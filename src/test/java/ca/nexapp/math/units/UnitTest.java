@@ -0,0 +1,150 @@
+package ca.nexapp.math.units;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth.assertWithMessage;
+
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class UnitTest {
+
+    private static final double TOLERANCE = 0.000001;
+
+    @Test
+    public void canConvertBetweenTwoNonCanonicalUnits() {
+        assertThat(Length.KILOMETERS.convert(1.5, Length.MILES)).isWithin(TOLERANCE).of(1500 / 1609.34);
+        assertThat(Mass.POUNDS.convert(2, Mass.KILOGRAMS)).isWithin(TOLERANCE).of(0.907184);
+    }
+
+    @Test
+    public void convertingFromTheCanonicalUnit_ShouldBeAsExactAsDividingByHand() {
+        double nanoseconds = Duration.months(7).toNanoseconds();
+
+        assertThat((long) Duration.NANOSECONDS.convert(nanoseconds, Duration.MONTHS)).isEqualTo(7);
+    }
+
+    @Test
+    public void canConvertAffineUnits() {
+        assertThat(Temperature.FAHRENHEIT.convert(212, Temperature.KELVIN)).isWithin(TOLERANCE).of(373.15);
+        assertThat(Temperature.KELVIN.convert(0, Temperature.FAHRENHEIT)).isWithin(TOLERANCE).of(-459.67);
+    }
+
+    @Test
+    public void canConvertToAndFromTheCanonicalUnit() {
+        assertThat(Length.FOOT.toCanonical(10)).isWithin(TOLERANCE).of(3.048);
+        assertThat(Length.FOOT.fromCanonical(3.048)).isWithin(TOLERANCE).of(10);
+    }
+
+    @Test
+    public void canConvertManyValuesAtOnce() {
+        double[] celsius = new double[2];
+
+        Temperature.FAHRENHEIT.convert(new double[] { 32, 212 }, Temperature.CELSIUS, celsius);
+
+        assertThat(celsius[0]).isWithin(TOLERANCE).of(0);
+        assertThat(celsius[1]).isWithin(TOLERANCE).of(100);
+    }
+
+    @Test
+    public void convertingManyValues_ShouldMatchConvertingThemOneAtATime() {
+        double[] values = new double[37];
+        for (int i = 1; i < values.length; ++i) {
+            values[i] = (i - 18) * 12.345;
+        }
+        values[0] = -0.0;
+
+        for (Dimension<?> dimension : Arrays.asList(Temperature.DIMENSION, Length.DIMENSION)) {
+            assertBulkConversionsMatch(dimension, values);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void convertingManyValuesIntoATooSmallArray_ShouldThrowAnException() {
+        Length.METERS.convert(new double[] { 1, 2 }, Length.FOOT, new double[1]);
+    }
+
+    @Test
+    public void canConvertARangeOfValues() {
+        double[] pounds = { 0, 0, 0, 0 };
+
+        Mass.GRAMS.convert(new double[] { 1, 453.592, 907.184, 1 }, 1, 2, Mass.POUNDS, pounds, 2);
+
+        assertThat(pounds).usingTolerance(TOLERANCE).containsExactly(0, 0, 1, 2).inOrder();
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void convertingARangeBeyondTheValues_ShouldThrowAnException() {
+        Length.METERS.convert(new double[2], 1, 2, Length.FOOT, new double[4], 0);
+    }
+
+    @Test
+    public void canConvertTheRemainingValuesOfABuffer() {
+        DoubleBuffer celsius = DoubleBuffer.wrap(new double[] { 99, 0, 100 });
+        celsius.position(1);
+        DoubleBuffer fahrenheit = DoubleBuffer.allocate(2);
+
+        Temperature.CELSIUS.convert(celsius, Temperature.FAHRENHEIT, fahrenheit);
+
+        assertThat(celsius.hasRemaining()).isFalse();
+        assertThat(fahrenheit.hasRemaining()).isFalse();
+        assertThat(fahrenheit.array()).usingTolerance(TOLERANCE).containsExactly(32, 212).inOrder();
+    }
+
+    @Test
+    public void canConvertBetweenDirectBuffers() {
+        DoubleBuffer meters = ByteBuffer.allocateDirect(2 * Double.BYTES).asDoubleBuffer().put(1609.34).put(3.048);
+        meters.flip();
+        DoubleBuffer miles = ByteBuffer.allocateDirect(2 * Double.BYTES).asDoubleBuffer();
+
+        Length.METERS.convert(meters, Length.MILES, miles);
+
+        assertThat(miles.get(0)).isWithin(TOLERANCE).of(1);
+        assertThat(miles.get(1)).isWithin(TOLERANCE).of(3.048 / 1609.34);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void convertingIntoATooSmallBuffer_ShouldThrowAnException() {
+        Temperature.KELVIN.convert(DoubleBuffer.allocate(3), Temperature.CELSIUS, DoubleBuffer.allocate(2));
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    @Test(expected = IllegalArgumentException.class)
+    public void convertingToAnotherDimension_ShouldThrowAnException() {
+        Unit meters = Length.METERS;
+
+        meters.convert(1.0, Mass.GRAMS);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void aUnitMustBeAPositiveMultipleOfTheCanonicalUnit() {
+        Unit.scaled("nothing", 0);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void aUnitCannotBelongToTwoDimensions() {
+        Dimension.of("copy", Unit.canonical("m"), Length.KILOMETERS);
+    }
+
+    @Test
+    public void canonicalUnits_ShouldBeCanonical() {
+        assertThat(Length.METERS.isCanonical()).isTrue();
+        assertThat(Temperature.KELVIN.isCanonical()).isFalse();
+    }
+
+    private static <Q> void assertBulkConversionsMatch(Dimension<Q> dimension, double[] values) {
+        double[] converted = new double[values.length + 1];
+        for (Unit<Q> source : dimension.getUnits()) {
+            for (Unit<Q> target : dimension.getUnits()) {
+                source.convert(values, 0, values.length, target, converted, 1);
+
+                for (int i = 0; i < values.length; ++i) {
+                    assertWithMessage("%s to %s", source, target).that(converted[i + 1])
+                            .isEqualTo(source.convert(values[i], target));
+                }
+            }
+        }
+    }
+}
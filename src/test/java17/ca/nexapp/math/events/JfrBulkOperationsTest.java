@@ -0,0 +1,83 @@
+package ca.nexapp.math.events;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import ca.nexapp.math.spatial.CoordinatesTree;
+import ca.nexapp.math.units.Coordinates;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+public class JfrBulkOperationsTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void anEnabledRecording_ShouldReceiveTheBulkOperations() throws IOException {
+        List<Coordinates> locations = Arrays.asList(Coordinates.locatedAt(46.81, -71.21), Coordinates.locatedAt(45.50, -73.57),
+                Coordinates.locatedAt(48.86, 2.35));
+        Path file = folder.getRoot().toPath().resolve("bulk.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable(BulkOperations.EVENT_NAME).withoutThreshold();
+            recording.start();
+            CoordinatesTree.of(locations).findNearest(locations.subList(0, 2), 1);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(BulkOperations.EVENT_NAME)).collect(Collectors.toList());
+        assertThat(events.stream().map(event -> event.getString("operation")).collect(Collectors.toList()))
+                .containsExactly("CoordinatesTree.of", "CoordinatesTree.findNearest");
+        assertThat(events.get(0).getLong("elements")).isEqualTo(3L);
+        assertThat(events.get(1).getLong("elements")).isEqualTo(2L);
+        assertThat(events.get(0).getLong("allocated")).isAtLeast(0L);
+    }
+
+    @Test
+    public void theEventsShouldBeDisabledByDefault() {
+        assertThat(BulkOperations.begin("JfrBulkOperationsTest", 1)).isSameAs(BulkOperation.NONE);
+    }
+
+    @Test
+    public void withoutTheJfrModule_ShouldFallBackToNoRecording() throws Exception {
+        try (URLClassLoader loader = withoutJfr()) {
+            Object operation = loader.loadClass(BulkOperations.class.getName()).getMethod("begin", String.class, long.class)
+                    .invoke(null, "JfrBulkOperationsTest", 1L);
+
+            assertThat(operation).isSameAs(loader.loadClass(BulkOperation.class.getName()).getField("NONE").get(null));
+        }
+    }
+
+    // Loads the events package again, with the Java 17 classes first, over a parent that cannot see jdk.jfr
+    private static URLClassLoader withoutJfr() throws MalformedURLException {
+        ClassLoader platform = ClassLoader.getSystemClassLoader().getParent();
+        ClassLoader hidingJfr = new ClassLoader(platform) {
+
+            @Override
+            protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+                if (name.startsWith("jdk.jfr.")) {
+                    throw new ClassNotFoundException(name);
+                }
+                return super.loadClass(name, resolve);
+            }
+        };
+        URL classes = BulkOperations.class.getProtectionDomain().getCodeSource().getLocation();
+        return new URLClassLoader(new URL[] { new URL(classes, "META-INF/versions/17/"), classes }, hidingJfr);
+    }
+}